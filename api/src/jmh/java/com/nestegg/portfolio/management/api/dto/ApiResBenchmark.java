@@ -0,0 +1,72 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.dto;
+
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiResBenchmark {
+
+	private final JsonMapper mapper = JsonMapper.builder().build();
+
+	private AccountView account;
+	private List<CategoryView> categories;
+	private ApiRes single;
+	private ApiRes list;
+
+	@Setup
+	public void setUp() {
+		this.account = new AccountView(UUID.randomUUID().toString(), "Main checking", "CHECKING", "Downtown",
+				1_234_567L, "USD", true, false);
+		this.categories = IntStream.range(0, 50)
+				.mapToObj(i -> new CategoryView(UUID.randomUUID().toString(), "category-" + i, "description " + i, true, false))
+				.toList();
+		this.single = ApiRes.ok("Account existed", this.account);
+		this.list = ApiRes.ok("Categories", this.categories);
+	}
+
+	@Benchmark
+	public ApiRes construct() {
+		return ApiRes.ok("Account existed", this.account);
+	}
+
+	@Benchmark
+	public byte[] serializeSingle() {
+		return this.mapper.writeValueAsBytes(this.single.getBody());
+	}
+
+	@Benchmark
+	public byte[] serializeList() {
+		return this.mapper.writeValueAsBytes(this.list.getBody());
+	}
+
+	@Benchmark
+	public byte[] constructAndSerialize() {
+		return this.mapper.writeValueAsBytes(ApiRes.ok("Account existed", this.account).getBody());
+	}
+}
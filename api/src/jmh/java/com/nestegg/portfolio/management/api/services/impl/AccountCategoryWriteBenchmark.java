@@ -0,0 +1,118 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.services.impl;
+
+import com.nestegg.portfolio.management.api.ApiApplication;
+import com.nestegg.portfolio.management.api.dto.AccountCreate;
+import com.nestegg.portfolio.management.api.dto.ApiRes;
+import com.nestegg.portfolio.management.api.dto.CategoryCreate;
+import com.nestegg.portfolio.management.api.entities.AccountType;
+import com.nestegg.portfolio.management.api.services.AccountService;
+import com.nestegg.portfolio.management.api.services.CategoryService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Account and category create/update paths end to end through the services, against the database configured
+ * in {@code application.yaml} (the local Postgres from {@code docker/docker-compose.yml}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AccountCategoryWriteBenchmark {
+
+	private final String prefix = UUID.randomUUID().toString().substring(0, 8);
+	private final AtomicLong sequence = new AtomicLong();
+
+	private ConfigurableApplicationContext context;
+	private AccountService accountService;
+	private CategoryService categoryService;
+	private String accountId;
+	private String categoryId;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		this.context = new SpringApplicationBuilder(ApiApplication.class)
+				.web(WebApplicationType.NONE)
+				.properties("spring.jpa.show-sql=false", "logging.level.root=WARN")
+				.run();
+		this.accountService = this.context.getBean(AccountService.class);
+		this.categoryService = this.context.getBean(CategoryService.class);
+		this.accountId = idOf(this.accountService.createAccount(newAccount()));
+		this.categoryId = idOf(this.categoryService.createCategory(newCategory()));
+	}
+
+	/**
+	 * Removes every account and category the trial created, which all carry this trial's name prefix, so that
+	 * repeated runs do not grow the tables they measure.
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		JdbcTemplate jdbcTemplate = this.context.getBean(JdbcTemplate.class);
+		try {
+			jdbcTemplate.update("delete from account where name like ?", "bench-%s-%%".formatted(this.prefix));
+			jdbcTemplate.update("delete from category where name like ?", "b-%s-%%".formatted(this.prefix));
+		} finally {
+			this.context.close();
+		}
+	}
+
+	@Benchmark
+	public ApiRes createAccount() {
+		return this.accountService.createAccount(newAccount());
+	}
+
+	@Benchmark
+	public ApiRes updateAccount() {
+		return this.accountService.updateAccount(newAccount(), this.accountId);
+	}
+
+	@Benchmark
+	public ApiRes createCategory() {
+		return this.categoryService.createCategory(newCategory());
+	}
+
+	@Benchmark
+	public ApiRes updateCategory() {
+		return this.categoryService.updateCategory(newCategory(), this.categoryId);
+	}
+
+	private AccountCreate newAccount() {
+		return new AccountCreate("bench-%s-%d".formatted(this.prefix, this.sequence.incrementAndGet()), "bench",
+				AccountType.CHECKING, 10L, "USD");
+	}
+
+	private CategoryCreate newCategory() {
+		return new CategoryCreate("b-%s-%d".formatted(this.prefix, this.sequence.incrementAndGet()), "bench");
+	}
+
+	@SuppressWarnings("unchecked")
+	private static String idOf(ApiRes res) {
+		return ((Map<String, String>) res.getBody().data()).get("id");
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.services.impl;
+
+import com.nestegg.portfolio.management.api.ApiApplication;
+import com.nestegg.portfolio.management.api.dto.AccountCreate;
+import com.nestegg.portfolio.management.api.dto.ApiRes;
+import com.nestegg.portfolio.management.api.entities.AccountType;
+import com.nestegg.portfolio.management.api.exceptions.ResourceNotFoundException;
+import com.nestegg.portfolio.management.api.services.AccountService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Account lookups by id through {@link AccountService}, covering the id parsing in front of the cached view: a known
+ * account, a well-formed id that matches nothing and a malformed id.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccountLookupBenchmark {
+
+	private final String unknown = UUID.randomUUID().toString();
+
+	private ConfigurableApplicationContext context;
+	private AccountService accountService;
+	private String accountId;
+
+	@Setup(Level.Trial)
+	@SuppressWarnings("unchecked")
+	public void setUp() {
+		this.context = new SpringApplicationBuilder(ApiApplication.class)
+				.web(WebApplicationType.NONE)
+				.properties("spring.jpa.show-sql=false", "logging.level.root=WARN")
+				.run();
+		this.accountService = this.context.getBean(AccountService.class);
+		ApiRes res = this.accountService.createAccount(
+				new AccountCreate("lookup-" + UUID.randomUUID(), "bench", AccountType.CHECKING, 10L, "USD"));
+		this.accountId = ((Map<String, String>) res.getBody().data()).get("id");
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		try {
+			this.context.getBean(JdbcTemplate.class).update("delete from account where id = ?",
+					UUID.fromString(this.accountId));
+		} finally {
+			this.context.close();
+		}
+	}
+
+	@Benchmark
+	public ApiRes knownId() {
+		return this.accountService.getAccountById(this.accountId);
+	}
+
+	@Benchmark
+	public Object unknownId() {
+		return lookUp(this.unknown);
+	}
+
+	@Benchmark
+	public Object malformedId() {
+		return lookUp("not-a-uuid");
+	}
+
+	private Object lookUp(String id) {
+		try {
+			return this.accountService.getAccountById(id);
+		} catch (ResourceNotFoundException e) {
+			return e;
+		}
+	}
+}
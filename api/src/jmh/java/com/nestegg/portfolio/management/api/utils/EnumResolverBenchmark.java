@@ -0,0 +1,46 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.utils;
+
+import com.nestegg.portfolio.management.api.entities.AccountType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnumResolverBenchmark {
+
+	@Param({"CHECKING", "credit_card", "UNKNOWN"})
+	private String value;
+
+	private EnumResolver<AccountType> resolver;
+
+	@Setup
+	public void setUp() {
+		this.resolver = EnumResolver.of(AccountType.class);
+	}
+
+	@Benchmark
+	public AccountType resolve() {
+		return this.resolver.resolve(this.value);
+	}
+}
@@ -1,44 +0,0 @@
-/*
- *    Copyright 2025 Hao Nguyen Tan
- *
- *    Licensed under the Apache License, Version 2.0 (the "License");
- *    you may not use this file except in compliance with the License.
- *    You may obtain a copy of the License at
- *
- *        http://www.apache.org/licenses/LICENSE-2.0
- *
- *    Unless required by applicable law or agreed to in writing, software
- *    distributed under the License is distributed on an "AS IS" BASIS,
- *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- *    See the License for the specific language governing permissions and
- *    limitations under the License.
- */
-
-package com.nestegg.portfolio.management.api.annotations.validators;
-
-import com.nestegg.portfolio.management.api.annotations.EnumValid;
-import jakarta.validation.ConstraintValidator;
-import jakarta.validation.ConstraintValidatorContext;
-
-import java.util.Arrays;
-
-public class EnumValidators implements ConstraintValidator<EnumValid, String> {
-	private Class<? extends Enum<?>> enumClass;
-	private boolean nullable;
-
-	@Override
-	public void initialize(EnumValid constraintAnnotation) {
-		this.enumClass = constraintAnnotation.enumClass();
-		this.nullable = constraintAnnotation.nullable();
-	}
-
-	@Override
-	public boolean isValid(String s, ConstraintValidatorContext constraintValidatorContext) {
-		if (s == null) {
-			return nullable;
-		}
-
-		return Arrays.stream(enumClass.getEnumConstants())
-				.anyMatch(e -> e.name().equalsIgnoreCase(s));
-	}
-}
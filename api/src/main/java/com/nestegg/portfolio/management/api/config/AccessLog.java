@@ -0,0 +1,195 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Asynchronous access log. Request threads only offer an entry to a bounded ring buffer and never block;
+ * when the buffer is full the entry is dropped and counted. A single background thread drains the buffer
+ * and writes one JSON object per request to the {@code access} logger.
+ * <p>
+ * Successful requests whose path (without the context path) starts with one of {@code sampled-paths}
+ * are logged at {@code sample-rate}; failures and requests slower than {@code slow-threshold} are always logged.
+ */
+@Component
+public class AccessLog implements SmartLifecycle {
+	private static final Logger LOGGER = LoggerFactory.getLogger(AccessLog.class);
+	private static final Logger ACCESS = LoggerFactory.getLogger("access");
+	private static final int DRAIN_BATCH = 512;
+
+	record Entry(long timestamp, String method, String path, int status, long durationNanos, int queries, String error) {
+	}
+
+	private final ArrayBlockingQueue<Entry> buffer;
+	private final double sampleRate;
+	private final List<String> sampledPaths;
+	private final long slowThresholdNanos;
+	private final LongAdder dropped = new LongAdder();
+	private final StringBuilder line = new StringBuilder(256);
+	private long reportedDrops;
+	private volatile Thread writer;
+
+	public AccessLog(@Value("${nestegg.access-log.capacity:8192}") int capacity,
+					 @Value("${nestegg.access-log.sample-rate:1.0}") double sampleRate,
+					 @Value("${nestegg.access-log.sampled-paths:}") List<String> sampledPaths,
+					 @Value("${nestegg.access-log.slow-threshold:PT1S}") Duration slowThreshold,
+					 MeterRegistry meterRegistry) {
+		this.buffer = new ArrayBlockingQueue<>(capacity);
+		this.sampleRate = sampleRate;
+		this.sampledPaths = List.copyOf(sampledPaths);
+		this.slowThresholdNanos = slowThreshold.toNanos();
+		FunctionCounter.builder("access.log.dropped", this.dropped, LongAdder::sum)
+				.description("Access log entries dropped because the buffer was full")
+				.register(meterRegistry);
+		Gauge.builder("access.log.buffered", this.buffer, ArrayBlockingQueue::size)
+				.description("Access log entries waiting to be written")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Records a finished request. Never blocks the calling thread.
+	 */
+	public void record(String method, String path, int status, long durationNanos, int queries, String error) {
+		if (!shouldLog(path, status, durationNanos)) {
+			return;
+		}
+		if (!this.buffer.offer(new Entry(System.currentTimeMillis(), method, path, status, durationNanos, queries, error))) {
+			this.dropped.increment();
+		}
+	}
+
+	private boolean shouldLog(String path, int status, long durationNanos) {
+		if (this.sampleRate >= 1.0 || status >= 400 || status == 0 || durationNanos >= this.slowThresholdNanos) {
+			return true;
+		}
+		for (String prefix : this.sampledPaths) {
+			if (path.startsWith(prefix)) {
+				return ThreadLocalRandom.current().nextDouble() < this.sampleRate;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public void start() {
+		this.writer = Thread.ofPlatform().name("access-log").daemon().start(this::drain);
+	}
+
+	@Override
+	public void stop() {
+		Thread thread = this.writer;
+		this.writer = null;
+		if (thread != null) {
+			thread.interrupt();
+			try {
+				thread.join(TimeUnit.SECONDS.toMillis(5));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return this.writer != null;
+	}
+
+	private void drain() {
+		List<Entry> batch = new ArrayList<>(DRAIN_BATCH);
+		while (this.writer != null) {
+			try {
+				Entry first = this.buffer.poll(250, TimeUnit.MILLISECONDS);
+				if (first != null) {
+					batch.add(first);
+					this.buffer.drainTo(batch, DRAIN_BATCH - 1);
+					write(batch);
+				}
+				reportDrops();
+			} catch (InterruptedException e) {
+				break;
+			}
+		}
+		this.buffer.drainTo(batch);
+		write(batch);
+		reportDrops();
+	}
+
+	private void write(List<Entry> batch) {
+		if (ACCESS.isInfoEnabled()) {
+			for (Entry entry : batch) {
+				ACCESS.info(format(entry));
+			}
+		}
+		batch.clear();
+	}
+
+	private void reportDrops() {
+		long total = this.dropped.sum();
+		if (total > this.reportedDrops) {
+			LOGGER.warn("Access log buffer full, dropped {} entries ({} in total)", total - this.reportedDrops, total);
+			this.reportedDrops = total;
+		}
+	}
+
+	private String format(Entry entry) {
+		StringBuilder sb = this.line;
+		sb.setLength(0);
+		sb.append("{\"ts\":\"").append(Instant.ofEpochMilli(entry.timestamp()))
+				.append("\",\"method\":\"").append(entry.method())
+				.append("\",\"path\":\"");
+		appendEscaped(sb, entry.path());
+		sb.append("\",\"status\":").append(entry.status())
+				.append(",\"durationUs\":").append(TimeUnit.NANOSECONDS.toMicros(entry.durationNanos()))
+				.append(",\"queries\":").append(entry.queries());
+		if (entry.error() != null) {
+			sb.append(",\"error\":\"");
+			appendEscaped(sb, entry.error());
+			sb.append('"');
+		}
+		return sb.append('}').toString();
+	}
+
+	private static void appendEscaped(StringBuilder sb, String value) {
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '"' || c == '\\') {
+				sb.append('\\').append(c);
+			} else if (c < 0x20) {
+				sb.append(String.format("\\u%04x", (int) c));
+			} else {
+				sb.append(c);
+			}
+		}
+	}
+}
@@ -0,0 +1,52 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Wraps the data source in a {@link ConnectionLimitingDataSource} when virtual threads are enabled
+ * ({@code spring.threads.virtual.enabled=true}). With platform threads Tomcat's worker pool already bounds
+ * the number of callers competing for connections.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class ConnectionLimiterConfig {
+
+	@Bean
+	static BeanPostProcessor connectionLimiter(
+			@Value("${nestegg.datasource.limiter.permits:${spring.datasource.hikari.maximum-pool-size:10}}") int permits,
+			@Value("${nestegg.datasource.limiter.max-waiting:500}") int maxWaiting,
+			@Value("${nestegg.datasource.limiter.acquire-timeout:PT2S}") Duration acquireTimeout) {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionLimitingDataSource)) {
+					return new ConnectionLimitingDataSource(dataSource, permits, maxWaiting, acquireTimeout);
+				}
+				return bean;
+			}
+		};
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.config;
+
+import com.nestegg.portfolio.management.api.exceptions.ConnectionLimitExceededException;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Gates connection acquisition with a fair semaphore sized to the pool. Callers beyond {@code maxWaiting}
+ * are rejected immediately and waiters give up after {@code acquireTimeout}, so a burst of virtual threads
+ * is shed quickly instead of queueing inside the pool until the connection timeout.
+ * The permit is returned when the connection is closed.
+ */
+class ConnectionLimitingDataSource extends DelegatingDataSource {
+
+	private final Semaphore permits;
+	private final int maxWaiting;
+	private final long acquireTimeoutNanos;
+	private final AtomicInteger waiting = new AtomicInteger();
+
+	ConnectionLimitingDataSource(DataSource target, int permits, int maxWaiting, Duration acquireTimeout) {
+		super(target);
+		this.permits = new Semaphore(permits, true);
+		this.maxWaiting = maxWaiting;
+		this.acquireTimeoutNanos = acquireTimeout.toNanos();
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		acquire();
+		try {
+			return guard(super.getConnection());
+		} catch (SQLException | RuntimeException e) {
+			this.permits.release();
+			throw e;
+		}
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		acquire();
+		try {
+			return guard(super.getConnection(username, password));
+		} catch (SQLException | RuntimeException e) {
+			this.permits.release();
+			throw e;
+		}
+	}
+
+	private void acquire() throws SQLException {
+		if (this.permits.tryAcquire()) {
+			return;
+		}
+		if (this.waiting.incrementAndGet() > this.maxWaiting) {
+			this.waiting.decrementAndGet();
+			throw new ConnectionLimitExceededException(
+					"Too many requests waiting for a database connection (limit %d)".formatted(this.maxWaiting));
+		}
+		try {
+			if (!this.permits.tryAcquire(this.acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+				throw new ConnectionLimitExceededException("No database connection available within %d ms"
+						.formatted(TimeUnit.NANOSECONDS.toMillis(this.acquireTimeoutNanos)));
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SQLException("Interrupted while waiting for a database connection", e);
+		} finally {
+			this.waiting.decrementAndGet();
+		}
+	}
+
+	private Connection guard(Connection connection) {
+		AtomicBoolean released = new AtomicBoolean();
+		return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+				(proxy, method, args) -> {
+					try {
+						return method.invoke(connection, args);
+					} catch (InvocationTargetException e) {
+						throw e.getTargetException();
+					} finally {
+						if (method.getName().equals("close") && released.compareAndSet(false, true)) {
+							this.permits.release();
+						}
+					}
+				});
+	}
+}
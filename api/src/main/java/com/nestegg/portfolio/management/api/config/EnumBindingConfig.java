@@ -0,0 +1,77 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.config;
+
+import com.nestegg.portfolio.management.api.entities.AccountType;
+import com.nestegg.portfolio.management.api.entities.Period;
+import com.nestegg.portfolio.management.api.entities.TransactionType;
+import com.nestegg.portfolio.management.api.utils.EnumResolver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.core.convert.converter.ConverterFactory;
+import org.springframework.format.FormatterRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.JacksonModule;
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.module.SimpleModule;
+
+/**
+ * Binds enum inputs straight to their constants through {@link EnumResolver}, so that each value is parsed once per
+ * request, ignoring case. In request bodies an unknown name reads as {@code null} and is reported by the field's
+ * {@code @NotNull} message; in request parameters it fails the conversion with a 400.
+ */
+@Configuration
+public class EnumBindingConfig implements WebMvcConfigurer {
+
+	@Bean
+	public JacksonModule enumModule() {
+		SimpleModule module = new SimpleModule("nestegg-enums");
+		addDeserializer(module, AccountType.class);
+		addDeserializer(module, TransactionType.class);
+		addDeserializer(module, Period.class);
+		return module;
+	}
+
+	@Override
+	public void addFormatters(FormatterRegistry registry) {
+		registry.addConverterFactory(new StringToEnumConverterFactory());
+	}
+
+	private static <E extends Enum<E>> void addDeserializer(SimpleModule module, Class<E> type) {
+		EnumResolver<E> resolver = EnumResolver.of(type);
+		module.addDeserializer(type, new ValueDeserializer<>() {
+			@Override
+			public E deserialize(JsonParser parser, DeserializationContext context) {
+				String value = parser.getValueAsString();
+				parser.skipChildren();
+				return resolver.resolve(value);
+			}
+		});
+	}
+
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	private static final class StringToEnumConverterFactory implements ConverterFactory<String, Enum> {
+		@Override
+		public <T extends Enum> Converter<String, T> getConverter(Class<T> targetType) {
+			EnumResolver resolver = EnumResolver.forType(targetType);
+			return source -> source.isBlank() ? null : (T) resolver.parse(source.trim());
+		}
+	}
+}
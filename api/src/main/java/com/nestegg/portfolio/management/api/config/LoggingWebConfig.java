@@ -16,19 +16,35 @@
 
 package com.nestegg.portfolio.management.api.config;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerMapping;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Times every request, counts the JDBC statements it issues and hands the result to the asynchronous
+ * {@link AccessLog}. The statement count is also published as {@code http.server.requests.queries}.
+ */
 @Component
 public class LoggingWebConfig implements Filter {
 	private static final Logger LOGGER = LoggerFactory.getLogger(LoggingWebConfig.class);
 
+	private final AccessLog accessLog;
+	private final MeterRegistry meterRegistry;
+
+	public LoggingWebConfig(AccessLog accessLog, MeterRegistry meterRegistry) {
+		this.accessLog = accessLog;
+		this.meterRegistry = meterRegistry;
+	}
+
 	@Override
 	public void init(FilterConfig filterConfig) throws ServletException {
 		Filter.super.init(filterConfig);
@@ -36,29 +52,45 @@ public class LoggingWebConfig implements Filter {
 
 	@Override
 	public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse, FilterChain filterChain) throws IOException, ServletException {
-		long startTime = System.currentTimeMillis();
+		long startTime = System.nanoTime();
+		QueryCounter.start();
 
 		HttpServletRequest httpRequest = (HttpServletRequest) servletRequest;
 		String method = httpRequest.getMethod();
-		String path = httpRequest.getRequestURI();
+		String path = httpRequest.getRequestURI().substring(httpRequest.getContextPath().length());
 
 		try {
 			filterChain.doFilter(servletRequest, servletResponse);
-			long duration = System.currentTimeMillis() - startTime;
 
 			int status = (servletResponse instanceof HttpServletResponse)
 					? ((HttpServletResponse) servletResponse).getStatus()
 					: 0;
 
-			LOGGER.info("Request: {} {} | Status: {} | {} ms", method, path, status, duration);
+			int queries = QueryCounter.stop();
+			this.accessLog.record(method, path, status, System.nanoTime() - startTime, queries, null);
+			recordQueries(httpRequest, method, queries);
 
 		} catch (Exception e) {
-			long duration = System.currentTimeMillis() - startTime;
-			LOGGER.error("Request: {} {} | Failed after {} ms | Error: {}", method, path, duration, e.getMessage(), e);
+			long duration = System.nanoTime() - startTime;
+			int queries = QueryCounter.stop();
+			this.accessLog.record(method, path, 500, duration, queries, e.getClass().getSimpleName());
+			recordQueries(httpRequest, method, queries);
+			LOGGER.error("Request: {} {} | Failed after {} ms | Error: {}", method, path,
+					TimeUnit.NANOSECONDS.toMillis(duration), e.getMessage(), e);
 			throw e;
 		}
 	}
 
+	private void recordQueries(HttpServletRequest request, String method, int queries) {
+		Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		DistributionSummary.builder("http.server.requests.queries")
+				.description("JDBC statements issued per request")
+				.tag("method", method)
+				.tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+				.register(this.meterRegistry)
+				.record(queries);
+	}
+
 	@Override
 	public void destroy() {
 		Filter.super.destroy();
@@ -0,0 +1,107 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcher;
+import org.springframework.aop.support.annotation.AnnotationClassFilter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Application metrics beyond what actuator instruments out of the box:
+ * a {@code service.method} timer around every public method of the {@code @Service} beans, and per-request
+ * statement counting (see {@link QueryCounter}). Histograms and percentiles are configured under
+ * {@code management.metrics.distribution} in {@code application.yaml}.
+ */
+@Configuration(proxyBeanMethods = false)
+@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+public class MetricsConfig {
+
+	private static final String SERVICES_PACKAGE = "com.nestegg.portfolio.management.api.services";
+
+	/**
+	 * Infrastructure role so that the auto-proxy creator registered for {@code @Transactional}/{@code @Cacheable}
+	 * applies it as well, without pulling in AspectJ.
+	 */
+	@Bean
+	@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+	static Advisor serviceMethodTimer(ObjectProvider<MeterRegistry> meterRegistry) {
+		ClassFilter services = new AnnotationClassFilter(Service.class, true);
+		ClassFilter inPackage = type -> type.getPackageName().startsWith(SERVICES_PACKAGE);
+		StaticMethodMatcher publicMethods = new StaticMethodMatcher() {
+			@Override
+			public boolean matches(Method method, Class<?> targetClass) {
+				return Modifier.isPublic(method.getModifiers()) && method.getDeclaringClass() != Object.class;
+			}
+		};
+
+		MethodInterceptor timer = invocation -> {
+			MeterRegistry registry = meterRegistry.getIfAvailable();
+			if (registry == null) {
+				return invocation.proceed();
+			}
+			Timer.Sample sample = Timer.start(registry);
+			String exception = "none";
+			try {
+				return invocation.proceed();
+			} catch (Throwable e) {
+				exception = e.getClass().getSimpleName();
+				throw e;
+			} finally {
+				sample.stop(Timer.builder("service.method")
+						.description("Time spent in service methods")
+						.tag("service", AopUtils.getTargetClass(invocation.getThis()).getSimpleName())
+						.tag("method", invocation.getMethod().getName())
+						.tag("exception", exception)
+						.register(registry));
+			}
+		};
+
+		return new DefaultPointcutAdvisor(new ComposablePointcut(services).intersection(inPackage)
+				.intersection(publicMethods), timer);
+	}
+
+	@Bean
+	static BeanPostProcessor queryCountingDataSource() {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (bean instanceof DataSource dataSource && !(bean instanceof QueryCountingDataSource)) {
+					return new QueryCountingDataSource(dataSource);
+				}
+				return bean;
+			}
+		};
+	}
+}
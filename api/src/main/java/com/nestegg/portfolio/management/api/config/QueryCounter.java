@@ -0,0 +1,49 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.config;
+
+/**
+ * Counts JDBC statements prepared on the current thread between {@link #start()} and {@link #stop()}.
+ * Statements issued outside such a window, e.g. by background jobs, are not counted.
+ */
+public final class QueryCounter {
+
+	private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+	private QueryCounter() {
+	}
+
+	public static void start() {
+		COUNT.set(new int[1]);
+	}
+
+	/**
+	 * @return the number of statements prepared since {@link #start()}, or {@code 0} if counting was not started
+	 */
+	public static int stop() {
+		int[] count = COUNT.get();
+		COUNT.remove();
+		return count == null ? 0 : count[0];
+	}
+
+	static void increment() {
+		int[] count = COUNT.get();
+		if (count != null) {
+			count[0]++;
+		}
+	}
+}
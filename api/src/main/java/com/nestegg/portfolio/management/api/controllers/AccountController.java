@@ -16,20 +16,40 @@
 
 package com.nestegg.portfolio.management.api.controllers;
 
+import com.nestegg.portfolio.management.api.dto.AccountBulkCreate;
+import com.nestegg.portfolio.management.api.dto.AccountBulkUpdate;
 import com.nestegg.portfolio.management.api.dto.AccountCreate;
 import com.nestegg.portfolio.management.api.dto.ApiRes;
+import com.nestegg.portfolio.management.api.dto.BulkIds;
+import com.nestegg.portfolio.management.api.entities.TransactionType;
 import com.nestegg.portfolio.management.api.services.AccountService;
+import com.nestegg.portfolio.management.api.services.LedgerService;
+import com.nestegg.portfolio.management.api.services.LiveUpdateService;
+import com.nestegg.portfolio.management.api.services.TransactionService;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Instant;
+import java.time.LocalDate;
 
 @RestController
 @RequestMapping("/accounts")
 public class AccountController {
 
 	private final AccountService accountService;
+	private final LedgerService ledgerService;
+	private final TransactionService transactionService;
+	private final LiveUpdateService liveUpdateService;
 
-	public AccountController(AccountService accountService) {
+	public AccountController(AccountService accountService, LedgerService ledgerService,
+							 TransactionService transactionService, LiveUpdateService liveUpdateService) {
 		this.accountService = accountService;
+		this.ledgerService = ledgerService;
+		this.transactionService = transactionService;
+		this.liveUpdateService = liveUpdateService;
 	}
 
 	@PostMapping()
@@ -52,8 +72,57 @@ public class AccountController {
 		return this.accountService.getAccountById(accountId);
 	}
 
+	@GetMapping(path = "/{accountId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter streamAccount(@PathVariable String accountId) {
+		return this.liveUpdateService.streamAccount(accountId);
+	}
+
 	@DeleteMapping("/{accountId}")
 	public ApiRes deleteAccountById(@PathVariable String accountId) {
 		return this.accountService.deleteAccountById(accountId);
 	}
+
+	@PostMapping("/bulk")
+	public ApiRes createAccounts(@Valid @RequestBody AccountBulkCreate request) {
+		return this.accountService.createAccounts(request);
+	}
+
+	@PutMapping("/bulk")
+	public ApiRes updateAccounts(@Valid @RequestBody AccountBulkUpdate request) {
+		return this.accountService.updateAccounts(request);
+	}
+
+	@PatchMapping("/bulk")
+	public ApiRes updateAccountsStatus(@Valid @RequestBody BulkIds request) {
+		return this.accountService.updateAccountsStatus(request);
+	}
+
+	@DeleteMapping("/bulk")
+	public ApiRes deleteAccounts(@Valid @RequestBody BulkIds request) {
+		return this.accountService.deleteAccounts(request);
+	}
+
+	@GetMapping("/{accountId}/balance")
+	public ApiRes getBalance(@PathVariable String accountId, @RequestParam(required = false) Instant at) {
+		return this.ledgerService.getBalanceAt(accountId, at);
+	}
+
+	@GetMapping("/{accountId}/balance-history")
+	public ApiRes getBalanceHistory(@PathVariable String accountId,
+									@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+									@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+									@RequestParam(defaultValue = "DAILY") String step) {
+		return this.ledgerService.getBalanceHistory(accountId, from, to, step);
+	}
+
+	@GetMapping("/{accountId}/transactions")
+	public ApiRes getAccountTransactions(@PathVariable String accountId,
+										 @RequestParam(required = false) String categoryId,
+										 @RequestParam(required = false) TransactionType type,
+										 @RequestParam(required = false) Instant from,
+										 @RequestParam(required = false) Instant to,
+										 @RequestParam(required = false) String cursor,
+										 @RequestParam(defaultValue = "50") int size) {
+		return this.transactionService.getTransactions(accountId, categoryId, type, from, to, cursor, size);
+	}
 }
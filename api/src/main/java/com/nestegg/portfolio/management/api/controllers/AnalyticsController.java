@@ -0,0 +1,58 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.controllers;
+
+import com.nestegg.portfolio.management.api.dto.ApiRes;
+import com.nestegg.portfolio.management.api.services.AnalyticsService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.YearMonth;
+
+@RestController
+@RequestMapping("/analytics")
+public class AnalyticsController {
+
+	private final AnalyticsService analyticsService;
+
+	public AnalyticsController(AnalyticsService analyticsService) {
+		this.analyticsService = analyticsService;
+	}
+
+	@GetMapping("/net-worth")
+	public ApiRes getNetWorth(@RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+							  @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+		return this.analyticsService.getNetWorth(from, to);
+	}
+
+	@GetMapping("/cash-flow")
+	public ApiRes getCashFlow(@RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+							  @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+		return this.analyticsService.getCashFlow(from, to);
+	}
+
+	@GetMapping("/spending")
+	public ApiRes getSpendingByCategory(@RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+										@RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+		return this.analyticsService.getSpendingByCategory(from, to);
+	}
+
+	@PostMapping("/rollups/rebuild")
+	public ApiRes rebuildRollups() {
+		return this.analyticsService.rebuildRollups();
+	}
+}
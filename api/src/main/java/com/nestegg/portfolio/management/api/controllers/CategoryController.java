@@ -17,19 +17,32 @@
 package com.nestegg.portfolio.management.api.controllers;
 
 import com.nestegg.portfolio.management.api.dto.ApiRes;
+import com.nestegg.portfolio.management.api.dto.BudgetCreate;
+import com.nestegg.portfolio.management.api.dto.BulkIds;
+import com.nestegg.portfolio.management.api.dto.CategoryBulkCreate;
+import com.nestegg.portfolio.management.api.dto.CategoryBulkUpdate;
 import com.nestegg.portfolio.management.api.dto.CategoryCreate;
+import com.nestegg.portfolio.management.api.services.BudgetService;
 import com.nestegg.portfolio.management.api.services.CategoryService;
+import com.nestegg.portfolio.management.api.services.LiveUpdateService;
 import jakarta.validation.Valid;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/categories")
 public class CategoryController {
 
 	private final CategoryService categoryService;
+	private final BudgetService budgetService;
+	private final LiveUpdateService liveUpdateService;
 
-	public CategoryController(CategoryService categoryService) {
+	public CategoryController(CategoryService categoryService, BudgetService budgetService,
+							  LiveUpdateService liveUpdateService) {
 		this.categoryService = categoryService;
+		this.budgetService = budgetService;
+		this.liveUpdateService = liveUpdateService;
 	}
 
 	@PostMapping()
@@ -57,4 +70,39 @@ public class CategoryController {
 		return this.categoryService.deleteCategory(categoryId);
 	}
 
+	@PostMapping("/bulk")
+	public ApiRes createCategories(@Valid @RequestBody CategoryBulkCreate request) {
+		return this.categoryService.createCategories(request);
+	}
+
+	@PutMapping("/bulk")
+	public ApiRes updateCategories(@Valid @RequestBody CategoryBulkUpdate request) {
+		return this.categoryService.updateCategories(request);
+	}
+
+	@PatchMapping("/bulk")
+	public ApiRes updateCategoriesStatus(@Valid @RequestBody BulkIds request) {
+		return this.categoryService.updateCategoriesStatus(request);
+	}
+
+	@DeleteMapping("/bulk")
+	public ApiRes deleteCategories(@Valid @RequestBody BulkIds request) {
+		return this.categoryService.deleteCategories(request);
+	}
+
+	@PutMapping("/{categoryId}/budget")
+	public ApiRes saveBudget(@Valid @RequestBody BudgetCreate request, @PathVariable String categoryId) {
+		return this.budgetService.saveBudget(categoryId, request);
+	}
+
+	@GetMapping("/{categoryId}/budget")
+	public ApiRes getBudget(@PathVariable String categoryId) {
+		return this.budgetService.getBudget(categoryId);
+	}
+
+	@GetMapping(path = "/{categoryId}/budget/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter streamBudget(@PathVariable String categoryId) {
+		return this.liveUpdateService.streamBudget(categoryId);
+	}
+
 }
@@ -0,0 +1,100 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package com.nestegg.portfolio.management.api.controllers;
+
+import com.nestegg.portfolio.management.api.dto.ApiRes;
+import com.nestegg.portfolio.management.api.dto.RecurringTransactionCreate;
+import com.nestegg.portfolio.management.api.dto.TransactionBatchCreate;
+import com.nestegg.portfolio.management.api.dto.TransferCreate;
+import com.nestegg.portfolio.management.api.entities.TransactionType;
+import com.nestegg.portfolio.management.api.services.RecurringTransactionService;
+import com.nestegg.portfolio.management.api.services.StatementImportService;
+import com.nestegg.portfolio.management.api.services.TransactionService;
+import jakarta.validation.Valid;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.time.Instant;
+
+@RestController
+@RequestMapping("/transactions")
+public class TransactionController {
+
+	private final TransactionService transactionService;
+	private final StatementImportService statementImportService;
+	private final RecurringTransactionService recurringTransactionService;
+
+	public TransactionController(TransactionService transactionService, StatementImportService statementImportService,
+								 RecurringTransactionService recurringTransactionService) {
+		this.transactionService = transactionService;
+		this.statementImportService = statementImportService;
+		this.recurringTransactionService = recurringTransactionService;
+	}
+
+	@GetMapping()
+	public ApiRes getTransactions(@RequestParam(required = false) String accountId,
+								  @RequestParam(required = false) String categoryId,
+								  @RequestParam(required = false) TransactionType type,
+								  @RequestParam(required = false) Instant from,
+								  @RequestParam(required = false) Instant to,
+								  @RequestParam(required = false) String cursor,
+								  @RequestParam(defaultValue = "50") int size) {
+		return this.transactionService.getTransactions(accountId, categoryId, type, from, to, cursor, size);
+	}
+
+	@PostMapping("/batch")
+	public ApiRes createTransactions(@Valid @RequestBody TransactionBatchCreate request) {
+		return this.transactionService.createTransactions(request);
+	}
+
+	@PostMapping("/transfers")
+	public ApiRes createTransfer(@Valid @RequestBody TransferCreate request) {
+		return this.transactionService.createTransfer(request);
+	}
+
+	@PostMapping("/imports")
+	public ApiRes importStatement(@RequestParam String accountId, @RequestParam(defaultValue = "CSV") String format,
+								  @RequestParam(required = false) String categoryId, InputStream body) {
+		return this.statementImportService.importStatement(accountId, format, categoryId, body);
+	}
+
+	@GetMapping("/imports")
+	public ApiRes getImports() {
+		return this.statementImportService.getImports();
+	}
+
+	@GetMapping("/imports/{importId}")
+	public ApiRes getImport(@PathVariable String importId) {
+		return this.statementImportService.getImport(importId);
+	}
+
+	@PostMapping("/recurring")
+	public ApiRes createRecurringTransaction(@Valid @RequestBody RecurringTransactionCreate request) {
+		return this.recurringTransactionService.createRecurringTransaction(request);
+	}
+
+	@GetMapping("/recurring/{id}")
+	public ApiRes getRecurringTransaction(@PathVariable String id) {
+		return this.recurringTransactionService.getRecurringTransaction(id);
+	}
+
+	@DeleteMapping("/recurring/{id}")
+	public ApiRes deleteRecurringTransaction(@PathVariable String id) {
+		return this.recurringTransactionService.deleteRecurringTransaction(id);
+	}
+}
@@ -16,13 +16,11 @@
 
 package com.nestegg.portfolio.management.api.dto;
 
-import com.nestegg.portfolio.management.api.annotations.EnumValid;
 import com.nestegg.portfolio.management.api.entities.AccountType;
+import jakarta.validation.constraints.NotNull;
 import lombok.NonNull;
 
-import java.math.BigInteger;
-
 public record AccountCreate(@NonNull String name, @NonNull String branch,
-							@EnumValid(nullable = false, enumClass = AccountType.class, message = "Account type is incorrect") String type,
-							BigInteger initialBalance) {
+							@NotNull(message = "Account type is incorrect") AccountType type,
+							Long initialBalance, String currency) {
 }
@@ -18,9 +18,8 @@ package com.nestegg.portfolio.management.api.dto;
 
 import lombok.Builder;
 
-import java.math.BigInteger;
 
-@Builder
-public record AccountView(String id, String name, String type, String branch, BigInteger balance, boolean isActive,
-						  boolean isDeleted) {
+@Builder(toBuilder = true)
+public record AccountView(String id, String name, String type, String branch, long balance, String currency,
+						  boolean isActive, boolean isDeleted) {
 }
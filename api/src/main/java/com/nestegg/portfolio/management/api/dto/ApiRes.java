@@ -22,6 +22,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 
+import java.time.Duration;
 import java.time.Instant;
 
 public class ApiRes extends ResponseEntity<Res> {
@@ -81,4 +82,10 @@ public class ApiRes extends ResponseEntity<Res> {
 		return new ApiRes(new Res(202, message, null, true, Instant.now()), HttpStatus.ACCEPTED);
 	}
 
+	public static ApiRes serviceUnavailable(String message, Duration retryAfter) {
+		HttpHeaders headers = new HttpHeaders();
+		headers.set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfter.toSeconds()));
+		return new ApiRes(new Res(503, message, null, false, Instant.now()), headers, HttpStatus.SERVICE_UNAVAILABLE);
+	}
+
 }
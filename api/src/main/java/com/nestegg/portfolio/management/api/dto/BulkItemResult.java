@@ -0,0 +1,43 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.dto;
+
+/**
+ * Outcome of one item of a bulk request; {@code index} is its position in the request.
+ */
+public record BulkItemResult(int index, String id, int status, String message) {
+
+	public static BulkItemResult created(int index, String id) {
+		return new BulkItemResult(index, id, 201, "Created");
+	}
+
+	public static BulkItemResult ok(int index, String id) {
+		return new BulkItemResult(index, id, 200, "Updated");
+	}
+
+	public static BulkItemResult badRequest(int index, String id, String message) {
+		return new BulkItemResult(index, id, 400, message);
+	}
+
+	public static BulkItemResult notFound(int index, String id, String message) {
+		return new BulkItemResult(index, id, 404, message);
+	}
+
+	public static BulkItemResult conflict(int index, String id, String message) {
+		return new BulkItemResult(index, id, 409, message);
+	}
+}
@@ -0,0 +1,28 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.dto;
+
+import java.util.Arrays;
+import java.util.List;
+
+public record BulkResult(int succeeded, int failed, List<BulkItemResult> items) {
+
+	public static BulkResult of(BulkItemResult[] items) {
+		int succeeded = (int) Arrays.stream(items).filter(item -> item.status() < 400).count();
+		return new BulkResult(succeeded, items.length - succeeded, List.of(items));
+	}
+}
@@ -0,0 +1,32 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One committed change, as relayed from the outbox.
+ *
+ * @param seq     position in the outbox; increases with every event, so consumers can use it to drop duplicates
+ * @param payload JSON snapshot of the row after the change, with the column names of its table
+ */
+public record ChangeEvent(long seq, String aggregateType, UUID aggregateId, String eventType, Instant createdAt,
+						  @JsonRawValue String payload) {
+}
@@ -0,0 +1,34 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package com.nestegg.portfolio.management.api.dto;
+
+import com.nestegg.portfolio.management.api.entities.TransactionType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.time.Instant;
+
+public record TransactionCreate(@NotBlank(message = "Account id must not be blank") String accountId,
+								@NotBlank(message = "Category id must not be blank") String categoryId,
+								@NotNull(message = "Transaction type is incorrect") TransactionType type,
+								@NotNull(message = "Amount must not be null") @Positive(message = "Amount must be positive") Long amount,
+								@NotBlank(message = "Explanation must not be blank") @Size(max = 100, message = "Explanation must be at most 100 characters") String explanation,
+								Instant date) {
+}
@@ -20,7 +20,6 @@ package com.nestegg.portfolio.management.api.entities;
 import jakarta.persistence.*;
 import lombok.*;
 
-import java.math.BigInteger;
 import java.util.List;
 
 @Getter
@@ -39,11 +38,20 @@ public class Account extends AuditEntity {
 
 	private String branch;
 
-	@Column(nullable = false)
-	private BigInteger initialBalance;
+	/**
+	 * ISO 4217 code; every amount of the account and its transactions is in minor units of this currency.
+	 */
+	@Column(nullable = false, length = 3)
+	private String currency;
 
 	@Column(nullable = false)
-	private BigInteger currentBalance;
+	private long initialBalance;
+
+	/**
+	 * Maintained with relative SQL updates by the transaction write path; JPA only sets it on insert.
+	 */
+	@Column(nullable = false, updatable = false)
+	private long currentBalance;
 
 	@OneToMany(mappedBy = "account", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
 	private List<Transaction> transactions;
@@ -23,5 +23,12 @@ public enum AccountType {
 	INVESTMENT,
 	CREDIT_CARD,
 	LOAN,
-	OTHER
+	OTHER;
+
+	/**
+	 * Whether a transfer may take the balance below zero; matches the debit condition of the transfer SQL.
+	 */
+	public boolean mayGoNegative() {
+		return this == CREDIT_CARD || this == LOAN;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,37 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.entities;
+
+/**
+ * Kinds of rows whose changes are published as change events.
+ */
+public enum AggregateType {
+	ACCOUNT("account"),
+	CATEGORY("category"),
+	BUDGET("budget"),
+	TRANSACTION("transaction");
+
+	private final String table;
+
+	AggregateType(String table) {
+		this.table = table;
+	}
+
+	public String table() {
+		return this.table;
+	}
+}
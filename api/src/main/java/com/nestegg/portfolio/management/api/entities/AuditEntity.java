@@ -29,8 +29,11 @@ import java.util.UUID;
 @Getter
 @Setter
 public abstract class AuditEntity {
+	/**
+	 * Time-ordered so that inserts append to the primary key index and id order follows creation order.
+	 */
 	@Id
-	@GeneratedValue(strategy = jakarta.persistence.GenerationType.UUID)
+	@TimeOrderedUuid
 	private UUID id;
 
 	@Version
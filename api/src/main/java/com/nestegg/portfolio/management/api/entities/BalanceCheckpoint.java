@@ -0,0 +1,61 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package com.nestegg.portfolio.management.api.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * End-of-day balance of an account, one row per day that has transactions. Together with the
+ * transaction rows of a single day it answers point-in-time balance queries without a full scan.
+ */
+@Getter
+@Setter
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@IdClass(BalanceCheckpoint.Key.class)
+public class BalanceCheckpoint {
+
+	@Id
+	private UUID accountId;
+
+	@Id
+	private LocalDate balanceDate;
+
+	@Column(nullable = false)
+	private long netChange;
+
+	@Column(nullable = false)
+	private long closingBalance;
+
+	@Getter
+	@Setter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@EqualsAndHashCode
+	public static class Key implements Serializable {
+		private UUID accountId;
+		private LocalDate balanceDate;
+	}
+}
@@ -31,14 +31,24 @@ public class Budget extends AuditEntity {
 	@JoinColumn(name = "category_id", nullable = false, unique = true)
 	private Category category;
 
+	/**
+	 * Limit of the period in minor units of {@link #currency}.
+	 */
 	@Column(nullable = false)
-	private Double amount;
+	private long amount;
 
-	@Column(nullable = false)
-	private Double spent;
+	@Column(nullable = false, length = 3)
+	private String currency;
 
-	@Column(nullable = false)
-	private Double remaining;
+	/**
+	 * Spending of the current period, refreshed from the spend slots by the budget refresh job.
+	 * Never written through JPA updates so that a stale entity cannot overwrite it.
+	 */
+	@Column(nullable = false, updatable = false)
+	private long spent;
+
+	@Column(nullable = false, updatable = false)
+	private long remaining;
 
 	@Enumerated(EnumType.STRING)
 	private Period period;
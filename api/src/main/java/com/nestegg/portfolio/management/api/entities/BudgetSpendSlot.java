@@ -0,0 +1,62 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package com.nestegg.portfolio.management.api.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * One stripe of a budget's spending in a period. Concurrent writers add to different slots so that
+ * expenses in a hot category do not queue on a single row lock; the period total is the sum of its slots.
+ */
+@Getter
+@Setter
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@IdClass(BudgetSpendSlot.Key.class)
+public class BudgetSpendSlot {
+
+	@Id
+	private UUID budgetId;
+
+	@Id
+	private LocalDate periodStart;
+
+	@Id
+	private Integer slot;
+
+	@Column(nullable = false)
+	private long spent;
+
+	@Getter
+	@Setter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@EqualsAndHashCode
+	public static class Key implements Serializable {
+		private UUID budgetId;
+		private LocalDate periodStart;
+		private Integer slot;
+	}
+}
@@ -35,9 +35,6 @@ public class Category extends AuditEntity {
 	@Column(length = 100)
 	private String description;
 
-	@OneToOne(cascade = CascadeType.ALL, fetch = FetchType.EAGER, mappedBy = "category")
-	private Budget budget;
-
 	@OneToMany(mappedBy = "category", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
 	private List<Transaction> transactions;
 
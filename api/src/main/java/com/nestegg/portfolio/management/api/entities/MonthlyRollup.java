@@ -0,0 +1,75 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Materialized monthly aggregate of the transactions of one account, category and type. Maintained
+ * incrementally by the transaction writer and rebuilt from the raw rows by the rollup backfill.
+ */
+@Getter
+@Setter
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@IdClass(MonthlyRollup.Key.class)
+public class MonthlyRollup {
+
+	@Id
+	private UUID accountId;
+
+	@Id
+	private UUID categoryId;
+
+	@Id
+	@Enumerated(EnumType.STRING)
+	private TransactionType type;
+
+	/**
+	 * First day of the month, UTC.
+	 */
+	@Id
+	private LocalDate month;
+
+	/**
+	 * Sum of the signed amounts.
+	 */
+	@Column(nullable = false)
+	private long total;
+
+	@Column(nullable = false)
+	private long transactionCount;
+
+	@Getter
+	@Setter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@EqualsAndHashCode
+	public static class Key implements Serializable {
+		private UUID accountId;
+		private UUID categoryId;
+		private TransactionType type;
+		private LocalDate month;
+	}
+}
@@ -16,9 +16,50 @@
 
 package com.nestegg.portfolio.management.api.entities;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
 public enum Period {
 	DAILY,
 	WEEKLY,
 	MONTHLY,
-	YEARLY
+	YEARLY;
+
+	/**
+	 * Returns the first day of the period containing {@code day}; weeks start on Monday.
+	 */
+	public LocalDate startOf(LocalDate day) {
+		return switch (this) {
+			case DAILY -> day;
+			case WEEKLY -> day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+			case MONTHLY -> day.withDayOfMonth(1);
+			case YEARLY -> day.withDayOfYear(1);
+		};
+	}
+
+	/**
+	 * Returns the day one period after {@code day}.
+	 */
+	public LocalDate next(LocalDate day) {
+		return switch (this) {
+			case DAILY -> day.plusDays(1);
+			case WEEKLY -> day.plusWeeks(1);
+			case MONTHLY -> day.plusMonths(1);
+			case YEARLY -> day.plusYears(1);
+		};
+	}
+
+	/**
+	 * Returns the day {@code periods} periods after {@code day}. Unlike repeated {@link #next(LocalDate)} calls this
+	 * does not drift: monthly from the 31st gives the last day of shorter months and the 31st again afterwards.
+	 */
+	public LocalDate plus(LocalDate day, long periods) {
+		return switch (this) {
+			case DAILY -> day.plusDays(periods);
+			case WEEKLY -> day.plusWeeks(periods);
+			case MONTHLY -> day.plusMonths(periods);
+			case YEARLY -> day.plusYears(periods);
+		};
+	}
 }
\ No newline at end of file
@@ -0,0 +1,71 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Rule that creates an income or expense transaction once per period, starting at {@link #startsAt}.
+ */
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+public class RecurringTransaction extends AuditEntity {
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "account_id", referencedColumnName = "id", nullable = false)
+	private Account account;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "category_id", referencedColumnName = "id", nullable = false)
+	private Category category;
+
+	@Column(nullable = false, length = 100)
+	private String explanation;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	private TransactionType type;
+
+	/**
+	 * Positive amount in the account's minor units; the transactions are signed by {@link #type}.
+	 */
+	@Column(nullable = false)
+	private long amount;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	private Period period;
+
+	@Column(nullable = false)
+	private Instant startsAt;
+
+	/**
+	 * Number of occurrences materialized so far; maintained by the recurring transaction job.
+	 */
+	@Column(nullable = false)
+	private long occurrences;
+
+	@Column(nullable = false)
+	private Instant nextRunAt;
+}
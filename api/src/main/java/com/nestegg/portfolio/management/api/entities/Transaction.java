@@ -20,6 +20,7 @@ package com.nestegg.portfolio.management.api.entities;
 import jakarta.persistence.*;
 import lombok.*;
 
+
 @Builder
 @Getter
 @Setter
@@ -42,4 +43,10 @@ public class Transaction extends AuditEntity {
 	@Enumerated(EnumType.STRING)
 	private TransactionType type;
 
+	/**
+	 * Signed amount in the account's minor units: credits are positive, debits negative.
+	 */
+	@Column(nullable = false)
+	private long amount;
+
 }
\ No newline at end of file
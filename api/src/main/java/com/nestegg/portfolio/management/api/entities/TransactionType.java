@@ -23,4 +23,11 @@ public enum TransactionType {
 
 	TransactionType(String i) {
 	}
+
+	/**
+	 * Signs a positive amount the way it affects the account balance: expenses debit, everything else credits.
+	 */
+	public long signed(long amount) {
+		return this == EXPENSE ? Math.negateExact(amount) : amount;
+	}
 }
\ No newline at end of file
@@ -19,10 +19,18 @@ package com.nestegg.portfolio.management.api.exceptions;
 import com.nestegg.portfolio.management.api.dto.ApiRes;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.NestedExceptionUtils;
 import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -44,6 +52,14 @@ public class GlobalExceptionHandler {
 		return ApiRes.badRequest(ex.getMessage());
 	}
 
+	@ExceptionHandler({MethodArgumentTypeMismatchException.class})
+	@Order(1)
+	public ApiRes handleArgumentTypeMismatch(MethodArgumentTypeMismatchException ex) {
+		String reason = NestedExceptionUtils.getMostSpecificCause(ex).getMessage();
+		log.warn("Invalid request parameter {}: {}", ex.getName(), reason);
+		return ApiRes.badRequest(reason);
+	}
+
 	@ExceptionHandler({ResourceNotFoundException.class})
 	@Order(1)
 	public ApiRes handleResourceNotFoundException(ResourceNotFoundException ex) {
@@ -51,6 +67,29 @@ public class GlobalExceptionHandler {
 		return ApiRes.notFound(ex.getMessage());
 	}
 
+	@ExceptionHandler({CannotCreateTransactionException.class, CannotGetJdbcConnectionException.class})
+	@Order(1)
+	public ApiRes handleConnectionUnavailable(RuntimeException ex) {
+		if (NestedExceptionUtils.getMostSpecificCause(ex) instanceof SQLTransientConnectionException cause) {
+			log.warn("Database connection unavailable: {}", cause.getMessage());
+			return ApiRes.serviceUnavailable("Service is busy. Please retry shortly.", Duration.ofSeconds(1));
+		}
+		return handleGenericException(ex);
+	}
+
+	@ExceptionHandler({DataIntegrityViolationException.class})
+	@Order(1)
+	public ApiRes handleDataIntegrityViolation(DataIntegrityViolationException ex) {
+		log.warn("Data integrity violation: {}", NestedExceptionUtils.getMostSpecificCause(ex).getMessage());
+		return ApiRes.badRequest("Request violates a data constraint");
+	}
+
+	@ExceptionHandler({StreamLimitExceededException.class})
+	@Order(1)
+	public ApiRes handleStreamLimitExceeded(StreamLimitExceededException ex) {
+		log.warn("Live update stream rejected: {}", ex.getMessage());
+		return ApiRes.serviceUnavailable(ex.getMessage(), Duration.ofSeconds(5));
+	}
 
 	@Order(1000)
 	@ExceptionHandler(Exception.class)
@@ -0,0 +1,71 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.jobs;
+
+import com.nestegg.portfolio.management.api.repositories.ArchiveJdbcRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.BiFunction;
+
+/**
+ * Moves rows that have been soft-deleted for longer than the retention period into the archive tables, in small
+ * batches so that no run holds many row locks or produces one large transaction. Accounts and categories are only
+ * archived once nothing references them any more.
+ */
+@Component
+public class ArchivePurgeJob {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ArchivePurgeJob.class);
+
+	private final ArchiveJdbcRepository archiveJdbcRepository;
+	private final Duration retention;
+	private final int batchSize;
+
+	public ArchivePurgeJob(ArchiveJdbcRepository archiveJdbcRepository,
+						   @Value("${nestegg.archive.retention:P90D}") Duration retention,
+						   @Value("${nestegg.archive.batch-size:1000}") int batchSize) {
+		this.archiveJdbcRepository = archiveJdbcRepository;
+		this.retention = retention;
+		this.batchSize = batchSize;
+	}
+
+	@Scheduled(fixedDelayString = "${nestegg.archive.interval:PT1H}")
+	public void purge() {
+		Instant deletedBefore = Instant.now().minus(this.retention);
+		archive("categories", deletedBefore, this.archiveJdbcRepository::archiveCategories);
+		archive("accounts", deletedBefore, this.archiveJdbcRepository::archiveAccounts);
+	}
+
+	private void archive(String table, Instant deletedBefore, BiFunction<Instant, Integer, Integer> batch) {
+		long total = 0;
+		int moved;
+		do {
+			moved = batch.apply(deletedBefore, this.batchSize);
+			total += moved;
+		} while (moved == this.batchSize);
+
+		if (total > 0) {
+			LOGGER.info("Archived {} {} deleted before {}", total, table, deletedBefore);
+		}
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.jobs;
+
+import com.nestegg.portfolio.management.api.services.impl.HotBalanceStore;
+import com.nestegg.portfolio.management.api.services.impl.TransactionWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Write-behind of the hot-balance mode: drains the balance journal into the account balances, ledger checkpoints
+ * and rollups, one batch per transaction. Runs whether or not the mode is enabled, so rows left behind by a crash
+ * or by switching the mode off are still applied. Once the journal is drained, the in-memory balances that have been
+ * idle for a while are dropped.
+ */
+@Component
+public class BalanceJournalFlushJob {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(BalanceJournalFlushJob.class);
+
+	private final TransactionWriter transactionWriter;
+	private final HotBalanceStore hotBalanceStore;
+	private final int batchSize;
+
+	public BalanceJournalFlushJob(TransactionWriter transactionWriter, HotBalanceStore hotBalanceStore,
+								  @Value("${nestegg.hot-balance.flush-batch-size:5000}") int batchSize) {
+		this.transactionWriter = transactionWriter;
+		this.hotBalanceStore = hotBalanceStore;
+		this.batchSize = batchSize;
+	}
+
+	@Scheduled(fixedDelayString = "${nestegg.hot-balance.flush-interval:PT1S}")
+	public void flush() {
+		long total = 0;
+		int applied;
+		do {
+			applied = this.transactionWriter.applyJournal(this.batchSize);
+			total += applied;
+		} while (applied == this.batchSize);
+
+		if (total > 0) {
+			LOGGER.debug("Applied {} journaled transactions", total);
+		}
+
+		if (this.hotBalanceStore.isEnabled()) {
+			int evicted = this.hotBalanceStore.evictIdle();
+			if (evicted > 0) {
+				LOGGER.debug("Dropped {} idle hot balances", evicted);
+			}
+		}
+	}
+}
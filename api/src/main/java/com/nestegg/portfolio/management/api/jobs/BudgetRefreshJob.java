@@ -0,0 +1,55 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package com.nestegg.portfolio.management.api.jobs;
+
+import com.nestegg.portfolio.management.api.entities.Period;
+import com.nestegg.portfolio.management.api.repositories.BudgetJdbcRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+/**
+ * Folds the striped spend slots of the current period into {@code Budget.spent} and {@code Budget.remaining}.
+ * This is also where budgets roll over: once a period boundary passes, the new period has no slots yet.
+ */
+@Component
+public class BudgetRefreshJob {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(BudgetRefreshJob.class);
+
+	private final BudgetJdbcRepository budgetJdbcRepository;
+
+	public BudgetRefreshJob(BudgetJdbcRepository budgetJdbcRepository) {
+		this.budgetJdbcRepository = budgetJdbcRepository;
+	}
+
+	@Scheduled(fixedDelayString = "${nestegg.budget.refresh-interval:PT30S}")
+	public void refresh() {
+		LocalDate today = LocalDate.now(ZoneOffset.UTC);
+		for (Period period : Period.values()) {
+			int updated = this.budgetJdbcRepository.refreshSpent(period, period.startOf(today));
+			if (updated > 0) {
+				LOGGER.debug("Refreshed spending of {} {} budgets", updated, period);
+			}
+		}
+	}
+}
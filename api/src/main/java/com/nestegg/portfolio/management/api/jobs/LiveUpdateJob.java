@@ -0,0 +1,50 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.jobs;
+
+import com.nestegg.portfolio.management.api.services.impl.LiveUpdateServiceImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Pushes the changes collected for the live balance and budget streams once per coalescing interval, and re-reads
+ * every watched value on a slower cadence.
+ */
+@Component
+public class LiveUpdateJob {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(LiveUpdateJob.class);
+
+	private final LiveUpdateServiceImpl liveUpdateService;
+
+	public LiveUpdateJob(LiveUpdateServiceImpl liveUpdateService) {
+		this.liveUpdateService = liveUpdateService;
+	}
+
+	@Scheduled(fixedDelayString = "${nestegg.live.coalesce-interval:PT1S}")
+	public void flushChanges() {
+		this.liveUpdateService.flushChanges();
+	}
+
+	@Scheduled(fixedDelayString = "${nestegg.live.resync-interval:PT30S}")
+	public void resync() {
+		this.liveUpdateService.resync();
+		LOGGER.debug("Resynced live update streams, {} open", this.liveUpdateService.openStreams());
+	}
+}
@@ -0,0 +1,55 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.jobs;
+
+import com.nestegg.portfolio.management.api.services.impl.OutboxRelay;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drains the outbox into the change event sinks, one batch per transaction, until it is empty.
+ */
+@Component
+public class OutboxRelayJob {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(OutboxRelayJob.class);
+
+	private final OutboxRelay outboxRelay;
+	private final int batchSize;
+
+	public OutboxRelayJob(OutboxRelay outboxRelay, @Value("${nestegg.outbox.batch-size:1000}") int batchSize) {
+		this.outboxRelay = outboxRelay;
+		this.batchSize = batchSize;
+	}
+
+	@Scheduled(fixedDelayString = "${nestegg.outbox.relay-interval:PT1S}")
+	public void relay() {
+		long total = 0;
+		int relayed;
+		do {
+			relayed = this.outboxRelay.relay(this.batchSize);
+			total += relayed;
+		} while (relayed == this.batchSize);
+
+		if (total > 0) {
+			LOGGER.debug("Relayed {} change events", total);
+		}
+	}
+}
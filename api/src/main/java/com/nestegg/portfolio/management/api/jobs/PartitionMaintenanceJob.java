@@ -0,0 +1,100 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.jobs;
+
+import com.nestegg.portfolio.management.api.repositories.PartitionJdbcRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.Set;
+
+/**
+ * Keeps the monthly partitions of {@code transaction} in shape:
+ * <ul>
+ *     <li>months whose rows fell into the default partition (e.g. imports of old statements) get their own partition,</li>
+ *     <li>the current month and {@code months-ahead} future months are created before any row needs them,</li>
+ *     <li>with a positive {@code retention-months}, older partitions are detached and kept as archive tables;
+ *     their months stay readable through the balance checkpoints and the monthly rollups only.</li>
+ * </ul>
+ * Every step is idempotent, so several instances running it at once only cost a failed statement.
+ */
+@Component
+public class PartitionMaintenanceJob {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(PartitionMaintenanceJob.class);
+
+	private final PartitionJdbcRepository partitionJdbcRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final int monthsAhead;
+	private final int retentionMonths;
+
+	public PartitionMaintenanceJob(PartitionJdbcRepository partitionJdbcRepository, TransactionTemplate transactionTemplate,
+								   @Value("${nestegg.partitions.months-ahead:3}") int monthsAhead,
+								   @Value("${nestegg.partitions.retention-months:0}") int retentionMonths) {
+		this.partitionJdbcRepository = partitionJdbcRepository;
+		this.transactionTemplate = transactionTemplate;
+		this.monthsAhead = monthsAhead;
+		this.retentionMonths = retentionMonths;
+	}
+
+	@Scheduled(fixedDelayString = "${nestegg.partitions.interval:PT6H}")
+	public void maintain() {
+		YearMonth current = YearMonth.now(ZoneOffset.UTC);
+
+		for (YearMonth month : this.partitionJdbcRepository.findMonthsInDefault()) {
+			try {
+				Integer moved = this.transactionTemplate.execute(status -> this.partitionJdbcRepository.moveFromDefault(month));
+				LOGGER.info("Moved {} transactions of {} out of the default partition", moved, month);
+			} catch (DataAccessException e) {
+				LOGGER.warn("Could not create the partition of {} from the default partition", month, e);
+			}
+		}
+
+		Set<YearMonth> existing = this.partitionJdbcRepository.findPartitionMonths();
+		for (int i = 0; i <= this.monthsAhead; i++) {
+			YearMonth month = current.plusMonths(i);
+			if (!existing.contains(month)) {
+				try {
+					this.partitionJdbcRepository.createPartition(month);
+					LOGGER.info("Created transaction partition for {}", month);
+				} catch (DataAccessException e) {
+					LOGGER.warn("Could not create the transaction partition for {}", month, e);
+				}
+			}
+		}
+
+		if (this.retentionMonths > 0) {
+			YearMonth oldestKept = current.minusMonths(this.retentionMonths);
+			existing.stream().filter(month -> month.isBefore(oldestKept)).sorted().forEach(month -> {
+				try {
+					this.transactionTemplate.executeWithoutResult(
+							status -> this.partitionJdbcRepository.detachPartition(month));
+					LOGGER.info("Detached transaction partition for {}", month);
+				} catch (DataAccessException e) {
+					LOGGER.warn("Could not detach the transaction partition for {}", month, e);
+				}
+			});
+		}
+	}
+}
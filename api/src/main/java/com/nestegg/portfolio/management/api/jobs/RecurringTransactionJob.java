@@ -0,0 +1,65 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.jobs;
+
+import com.nestegg.portfolio.management.api.services.impl.RecurringTransactionRunner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Creates the due occurrences of recurring transactions, one batch of rules per database transaction. Instances
+ * claim disjoint batches, and a run stops after {@code nestegg.recurring.max-batches} batches so that a large
+ * backlog after downtime is worked off over several runs instead of in one burst.
+ */
+@Component
+public class RecurringTransactionJob {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(RecurringTransactionJob.class);
+
+	private final RecurringTransactionRunner recurringTransactionRunner;
+	private final int batchSize;
+	private final int maxBatches;
+
+	public RecurringTransactionJob(RecurringTransactionRunner recurringTransactionRunner,
+								   @Value("${nestegg.recurring.batch-size:500}") int batchSize,
+								   @Value("${nestegg.recurring.max-batches:20}") int maxBatches) {
+		this.recurringTransactionRunner = recurringTransactionRunner;
+		this.batchSize = batchSize;
+		this.maxBatches = maxBatches;
+	}
+
+	@Scheduled(fixedDelayString = "${nestegg.recurring.interval:PT1M}")
+	public void run() {
+		Instant now = Instant.now();
+		long total = 0;
+		int batches = 0;
+		int claimed;
+		do {
+			claimed = this.recurringTransactionRunner.runDue(now, this.batchSize);
+			total += claimed;
+		} while (claimed == this.batchSize && ++batches < this.maxBatches);
+
+		if (total > 0) {
+			LOGGER.info("Processed {} due recurring transaction rules", total);
+		}
+	}
+}
@@ -0,0 +1,120 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.jobs;
+
+import com.nestegg.portfolio.management.api.repositories.PartitionJdbcRepository;
+import com.nestegg.portfolio.management.api.repositories.RollupJdbcRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Rebuilds the monthly rollups from the raw transactions. Accounts are split into chunks that are rebuilt in
+ * parallel, each chunk in its own transaction, so writers are only blocked on the accounts of one chunk at
+ * a time. Only one backfill runs at once.
+ */
+@Component
+public class RollupBackfillJob {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(RollupBackfillJob.class);
+
+	private final RollupJdbcRepository rollupJdbcRepository;
+	private final PartitionJdbcRepository partitionJdbcRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final int chunkSize;
+	private final int parallelism;
+	private final AtomicBoolean running = new AtomicBoolean();
+
+	public RollupBackfillJob(RollupJdbcRepository rollupJdbcRepository, PartitionJdbcRepository partitionJdbcRepository,
+							 TransactionTemplate transactionTemplate,
+							 @Value("${nestegg.rollup.backfill-chunk-size:100}") int chunkSize,
+							 @Value("${nestegg.rollup.backfill-parallelism:4}") int parallelism) {
+		this.rollupJdbcRepository = rollupJdbcRepository;
+		this.partitionJdbcRepository = partitionJdbcRepository;
+		this.transactionTemplate = transactionTemplate;
+		this.chunkSize = chunkSize;
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * Starts a backfill in the background.
+	 *
+	 * @return {@code false} if a backfill is already running
+	 */
+	public boolean start() {
+		if (!this.running.compareAndSet(false, true)) {
+			return false;
+		}
+		Thread.ofVirtual().name("rollup-backfill").start(() -> {
+			try {
+				backfill();
+			} catch (Exception e) {
+				LOGGER.error("Rollup backfill failed: {}", e.getMessage(), e);
+			} finally {
+				this.running.set(false);
+			}
+		});
+		return true;
+	}
+
+	public void backfill() throws InterruptedException, ExecutionException {
+		long start = System.nanoTime();
+		List<UUID> accountIds = this.rollupJdbcRepository.findAccountIds();
+		List<List<UUID>> chunks = new ArrayList<>();
+		for (int i = 0; i < accountIds.size(); i += this.chunkSize) {
+			chunks.add(accountIds.subList(i, Math.min(i + this.chunkSize, accountIds.size())));
+		}
+		LOGGER.info("Rebuilding rollups of {} accounts in {} chunks", accountIds.size(), chunks.size());
+
+		int rows = 0;
+		try (ExecutorService executor = Executors.newFixedThreadPool(this.parallelism,
+				Thread.ofPlatform().name("rollup-backfill-", 0).factory())) {
+			List<Future<Integer>> results = new ArrayList<>(chunks.size());
+			for (List<UUID> chunk : chunks) {
+				results.add(executor.submit(() -> this.transactionTemplate.execute(status -> rebuild(chunk))));
+			}
+			for (Future<Integer> result : results) {
+				rows += result.get();
+			}
+		}
+		LOGGER.info("Rebuilt {} rollup rows in {} ms", rows, (System.nanoTime() - start) / 1_000_000);
+	}
+
+	/**
+	 * Months whose partition has been detached have no transactions left to rebuild from, so their rollups are kept.
+	 * The lock stops the partition maintenance from detaching another month while the chunk is being rebuilt.
+	 */
+	private int rebuild(List<UUID> accountIds) {
+		this.partitionJdbcRepository.lockAgainstDetach();
+		LocalDate from = this.partitionJdbcRepository.findLastArchivedMonth()
+				.map(month -> month.plusMonths(1).atDay(1))
+				.orElse(null);
+		return this.rollupJdbcRepository.rebuild(accountIds, from);
+	}
+}
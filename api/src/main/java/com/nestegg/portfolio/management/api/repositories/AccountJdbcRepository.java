@@ -0,0 +1,180 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.repositories;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.*;
+
+/**
+ * Set-based account writes for the bulk endpoints. Every method is a single statement over arrays,
+ * so the number of round trips does not depend on the number of accounts.
+ */
+@Repository
+public class AccountJdbcRepository {
+
+	private static final String NAMES_SQL = "select name, id from account where name = any(?)";
+
+	private static final String BALANCES_SQL = "select id, current_balance from account where id = any(?) and is_deleted = false";
+
+	private static final String INSERT_SQL = """
+			insert into account (id, version, created_at, updated_at, is_active, is_deleted,
+			                     name, type, branch, initial_balance, current_balance, currency)
+			select u.id, 0, ?, ?, true, false, u.name, u.type, u.branch, u.balance, u.balance, u.currency
+			from unnest(?::uuid[], ?::text[], ?::text[], ?::text[], ?::bigint[], ?::text[])
+			         as u(id, name, type, branch, balance, currency)
+			on conflict (name) do nothing
+			returning id
+			""";
+
+	private static final String UPDATE_SQL = """
+			update account a
+			set name = u.name, type = u.type, branch = u.branch, version = a.version + 1, updated_at = ?
+			from unnest(?::uuid[], ?::text[], ?::text[], ?::text[]) as u(id, name, type, branch)
+			where a.id = u.id and a.is_deleted = false and a.is_active = true
+			returning a.id
+			""";
+
+	private static final String TOGGLE_STATUS_SQL = """
+			update account set is_active = not is_active, version = version + 1, updated_at = ?
+			where id = any(?) and is_deleted = false
+			returning id
+			""";
+
+	private static final String DELETE_SQL = """
+			update account set is_deleted = true, version = version + 1, updated_at = ?
+			where id = any(?) and is_deleted = false
+			returning id
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public AccountJdbcRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * @return the id of the account holding each of the given names, for the names that are taken
+	 */
+	public Map<String, UUID> findIdsByName(Collection<String> names) {
+		Map<String, UUID> result = new HashMap<>();
+		if (names.isEmpty()) {
+			return result;
+		}
+		this.jdbcTemplate.query(NAMES_SQL, ps -> ps.setArray(1, ps.getConnection().createArrayOf("text", names.toArray())),
+				rs -> {
+					result.put(rs.getString(1), rs.getObject(2, UUID.class));
+				});
+		return result;
+	}
+
+	/**
+	 * @return the persisted current balance of each of the given accounts that exists and is not deleted
+	 */
+	public Map<UUID, Long> findBalances(Collection<UUID> ids) {
+		Map<UUID, Long> result = new HashMap<>();
+		if (ids.isEmpty()) {
+			return result;
+		}
+		this.jdbcTemplate.query(BALANCES_SQL, ps -> setArray(ps, 1, "uuid", ids.toArray()), rs -> {
+			result.put(rs.getObject(1, UUID.class), rs.getLong(2));
+		});
+		return result;
+	}
+
+	/**
+	 * Inserts the accounts, skipping any whose name was taken concurrently.
+	 *
+	 * @return the ids of the accounts actually inserted
+	 */
+	public Set<UUID> insertAll(List<AccountRow> rows) {
+		if (rows.isEmpty()) {
+			return Set.of();
+		}
+		var now = Instant.now().atOffset(ZoneOffset.UTC);
+		return ids(INSERT_SQL, ps -> {
+			ps.setObject(1, now);
+			ps.setObject(2, now);
+			setArray(ps, 3, "uuid", rows.stream().map(AccountRow::id).toArray());
+			setArray(ps, 4, "text", rows.stream().map(AccountRow::name).toArray());
+			setArray(ps, 5, "text", rows.stream().map(AccountRow::type).toArray());
+			setArray(ps, 6, "text", rows.stream().map(AccountRow::branch).toArray());
+			setArray(ps, 7, "bigint", rows.stream().map(AccountRow::balance).toArray());
+			setArray(ps, 8, "text", rows.stream().map(AccountRow::currency).toArray());
+		});
+	}
+
+	/**
+	 * @return the ids of the accounts that exist, are active and not deleted, and were updated
+	 */
+	public Set<UUID> updateAll(List<AccountRow> rows) {
+		if (rows.isEmpty()) {
+			return Set.of();
+		}
+		var now = Instant.now().atOffset(ZoneOffset.UTC);
+		return ids(UPDATE_SQL, ps -> {
+			ps.setObject(1, now);
+			setArray(ps, 2, "uuid", rows.stream().map(AccountRow::id).toArray());
+			setArray(ps, 3, "text", rows.stream().map(AccountRow::name).toArray());
+			setArray(ps, 4, "text", rows.stream().map(AccountRow::type).toArray());
+			setArray(ps, 5, "text", rows.stream().map(AccountRow::branch).toArray());
+		});
+	}
+
+	public Set<UUID> toggleStatus(Collection<UUID> ids) {
+		return byIds(TOGGLE_STATUS_SQL, ids);
+	}
+
+	public Set<UUID> markDeleted(Collection<UUID> ids) {
+		return byIds(DELETE_SQL, ids);
+	}
+
+	private Set<UUID> byIds(String sql, Collection<UUID> ids) {
+		if (ids.isEmpty()) {
+			return Set.of();
+		}
+		var now = Instant.now().atOffset(ZoneOffset.UTC);
+		return ids(sql, ps -> {
+			ps.setObject(1, now);
+			setArray(ps, 2, "uuid", ids.toArray());
+		});
+	}
+
+	private Set<UUID> ids(String sql, PreparedStatementSetter setter) {
+		Set<UUID> result = new HashSet<>();
+		this.jdbcTemplate.query(sql, setter, rs -> {
+			result.add(rs.getObject(1, UUID.class));
+		});
+		return result;
+	}
+
+	private static void setArray(PreparedStatement ps, int index, String type, Object[] values) throws SQLException {
+		ps.setArray(index, ps.getConnection().createArrayOf(type, values));
+	}
+
+	/**
+	 * One account of a bulk write; {@code balance} and {@code currency} are only used on insert.
+	 */
+	public record AccountRow(UUID id, String name, String type, String branch, long balance, String currency) {
+	}
+}
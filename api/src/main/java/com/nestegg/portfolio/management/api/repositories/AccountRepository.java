@@ -16,14 +16,16 @@
 
 package com.nestegg.portfolio.management.api.repositories;
 
+import com.nestegg.portfolio.management.api.dto.AccountView;
 import com.nestegg.portfolio.management.api.entities.Account;
-import lombok.NonNull;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface AccountRepository extends JpaRepository<Account, UUID> {
-	boolean existsByName(@NonNull String name);
+public interface AccountRepository extends SoftDeleteRepository<Account> {
+	@Query("select new com.nestegg.portfolio.management.api.dto.AccountView(cast(a.id as String), a.name, cast(a.type as String), a.branch, a.currentBalance, a.currency, a.isActive, a.isDeleted) from Account a where a.id = :id and a.isDeleted = false")
+	Optional<AccountView> findLiveViewById(UUID id);
 }
\ No newline at end of file
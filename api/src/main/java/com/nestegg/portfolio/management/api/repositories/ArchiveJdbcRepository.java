@@ -0,0 +1,110 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.repositories;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Moves soft-deleted accounts and categories into the archive tables. Transactions are never soft-deleted, so
+ * there is nothing of theirs to move here. Each call is one statement that deletes a batch of expired
+ * tombstones and inserts them into the archive, so a batch is moved atomically. Rows locked by another writer or
+ * another instance of the job are skipped rather than waited for.
+ */
+@Repository
+public class ArchiveJdbcRepository {
+
+	/**
+	 * Categories still referenced by a transaction, a budget or a live recurring transaction are kept until those are
+	 * gone; deleted recurring transactions go by cascade. Transactions are never soft-deleted, so the reference check
+	 * only looks at live rows, through the partial index on {@code (category_id, created_at)}.
+	 */
+	private static final String ARCHIVE_CATEGORIES_SQL = """
+			with moved as (
+			    delete from category
+			    where id in (select c.id from category c
+			                 where c.is_deleted = true and c.updated_at < ?
+			                   and not exists (select 1 from transaction t
+			                                   where t.category_id = c.id and t.is_deleted = false)
+			                   and not exists (select 1 from budget b where b.category_id = c.id)
+			                   and not exists (select 1 from recurring_transaction r
+			                                   where r.category_id = c.id and r.is_deleted = false)
+			                 order by c.updated_at
+			                 limit ?
+			                 for update skip locked)
+			    returning *
+			)
+			insert into category_archive
+			select moved.*, ? from moved
+			""";
+
+	/**
+	 * Accounts still referenced by a transaction or a live recurring transaction are kept until those are gone.
+	 * The derived per-account rows go together with the account, deleted recurring transactions by cascade.
+	 */
+	private static final String ARCHIVE_ACCOUNTS_SQL = """
+			with moved as (
+			    delete from account
+			    where id in (select a.id from account a
+			                 where a.is_deleted = true and a.updated_at < ?
+			                   and not exists (select 1 from transaction t where t.account_id = a.id)
+			                   and not exists (select 1 from recurring_transaction r
+			                                   where r.account_id = a.id and r.is_deleted = false)
+			                 order by a.updated_at
+			                 limit ?
+			                 for update skip locked)
+			    returning *
+			),
+			checkpoints as (
+			    delete from balance_checkpoint c using moved where c.account_id = moved.id
+			),
+			rollups as (
+			    delete from monthly_rollup r using moved where r.account_id = moved.id
+			)
+			insert into account_archive
+			select moved.*, ? from moved
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public ArchiveJdbcRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * @return the number of categories archived, at most {@code limit}
+	 */
+	public int archiveCategories(Instant deletedBefore, int limit) {
+		return archive(ARCHIVE_CATEGORIES_SQL, deletedBefore, limit);
+	}
+
+	/**
+	 * @return the number of accounts archived, at most {@code limit}
+	 */
+	public int archiveAccounts(Instant deletedBefore, int limit) {
+		return archive(ARCHIVE_ACCOUNTS_SQL, deletedBefore, limit);
+	}
+
+	private int archive(String sql, Instant deletedBefore, int limit) {
+		return this.jdbcTemplate.update(sql, deletedBefore.atOffset(ZoneOffset.UTC), limit,
+				OffsetDateTime.now(ZoneOffset.UTC));
+	}
+}
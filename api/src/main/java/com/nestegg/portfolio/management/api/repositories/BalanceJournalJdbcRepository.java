@@ -0,0 +1,99 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.repositories;
+
+import com.nestegg.portfolio.management.api.entities.TransactionType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Append-only journal of transactions whose balance effect has not been applied to their account row yet.
+ */
+@Repository
+public class BalanceJournalJdbcRepository {
+
+	private static final int BATCH_SIZE = 1000;
+
+	private static final String APPEND_SQL = """
+			insert into balance_journal (transaction_id, account_id, category_id, type, amount, created_at)
+			values (?, ?, ?, ?, ?, ?)
+			""";
+
+	/**
+	 * Oldest rows first; rows locked by a concurrent flush are skipped rather than waited for.
+	 */
+	private static final String TAKE_SQL = """
+			delete from balance_journal
+			where seq in (select seq from balance_journal order by seq limit ? for update skip locked)
+			returning transaction_id, account_id, category_id, type, amount, created_at
+			""";
+
+	/**
+	 * Reads the persisted balance and the pending rows in one statement, so a concurrent flush moving rows from
+	 * the journal into the balance is either seen entirely or not at all.
+	 */
+	private static final String BALANCE_SQL = """
+			select a.current_balance
+			     + coalesce((select sum(j.amount) from balance_journal j where j.account_id = a.id), 0)
+			from account a
+			where a.id = ?
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public BalanceJournalJdbcRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	public void append(List<TransactionRow> rows) {
+		this.jdbcTemplate.batchUpdate(APPEND_SQL, rows, BATCH_SIZE, (ps, row) -> {
+			ps.setObject(1, row.id());
+			ps.setObject(2, row.accountId());
+			ps.setObject(3, row.categoryId());
+			ps.setString(4, row.type().name());
+			ps.setLong(5, row.amount());
+			ps.setObject(6, row.createdAt().atOffset(ZoneOffset.UTC));
+		});
+	}
+
+	/**
+	 * Deletes up to {@code limit} of the oldest rows and returns them, without explanation. Must run inside the
+	 * transaction that applies them, so that a rollback puts them back.
+	 */
+	public List<TransactionRow> take(int limit) {
+		return this.jdbcTemplate.query(TAKE_SQL, (rs, i) -> new TransactionRow(
+				rs.getObject(1, UUID.class), rs.getObject(2, UUID.class), rs.getObject(3, UUID.class),
+				TransactionType.valueOf(rs.getString(4)), rs.getLong(5), null,
+				rs.getObject(6, OffsetDateTime.class).toInstant()
+		), limit);
+	}
+
+	/**
+	 * @return the persisted balance plus the pending journal rows, or empty if the account does not exist
+	 */
+	public Optional<Long> findBalance(UUID accountId) {
+		return this.jdbcTemplate.query(BALANCE_SQL, rs -> rs.next()
+				? Optional.of(rs.getLong(1))
+				: Optional.<Long>empty(), accountId);
+	}
+}
@@ -0,0 +1,216 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package com.nestegg.portfolio.management.api.repositories;
+
+import com.nestegg.portfolio.management.api.dto.BudgetView;
+import com.nestegg.portfolio.management.api.entities.Period;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Striped spend counters behind {@link com.nestegg.portfolio.management.api.entities.Budget}.
+ */
+@Repository
+public class BudgetJdbcRepository {
+
+	/**
+	 * Number of stripes per budget and period; bounds both write contention and the rows summed on read.
+	 */
+	public static final int SLOTS = 8;
+
+	private static final String BUDGETS_BY_CATEGORY_SQL = """
+			select id, category_id, period, currency from budget
+			where category_id = any(?) and is_active = true and is_deleted = false
+			for share
+			""";
+
+	private static final String BUDGETS_FOR_VIEW_SQL = """
+			select id, category_id, amount, currency, period from budget
+			where category_id = any(?) and is_deleted = false
+			""";
+
+	private static final String PERIODS_SPENT_SQL = """
+			select s.budget_id, sum(s.spent)::bigint
+			from unnest(?::uuid[], ?::date[]) as p(budget_id, period_start)
+			join budget_spend_slot s on s.budget_id = p.budget_id and s.period_start = p.period_start
+			group by s.budget_id
+			""";
+
+	private static final String ADD_SPENT_SQL = """
+			insert into budget_spend_slot (budget_id, period_start, slot, spent)
+			values (?, ?, ?, ?)
+			on conflict (budget_id, period_start, slot)
+			do update set spent = budget_spend_slot.spent + excluded.spent
+			""";
+
+	private static final String PERIOD_SPENT_SQL = """
+			select coalesce(sum(spent), 0) from budget_spend_slot
+			where budget_id = ? and period_start = ?
+			""";
+
+	private static final String DELETE_SLOTS_SQL = "delete from budget_spend_slot where budget_id = ?";
+
+	private static final String EXPENSES_SINCE_SQL = """
+			select coalesce(-sum(t.amount), 0)::bigint
+			from transaction t
+			join account a on a.id = t.account_id
+			where t.category_id = ? and t.type = 'EXPENSE' and t.is_deleted = false
+			  and t.created_at >= ? and a.currency = ?
+			""";
+
+	private static final String REFRESH_SQL = """
+			update budget b
+			set spent = t.total, remaining = b.amount - t.total
+			from (select b2.id, coalesce(sum(s.spent), 0)::bigint as total
+			      from budget b2
+			      left join budget_spend_slot s on s.budget_id = b2.id and s.period_start = ?
+			      where b2.period = ? and b2.is_deleted = false
+			      group by b2.id) t
+			where b.id = t.id and (b.spent <> t.total or b.remaining <> b.amount - t.total)
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public BudgetJdbcRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * Looks up the active budgets of the given categories and share-locks them until the caller's transaction ends,
+	 * so that a budget cannot change its period or currency between this read and the spending added under it.
+	 */
+	public Map<UUID, BudgetRef> findBudgetsByCategory(Collection<UUID> categoryIds) {
+		Map<UUID, BudgetRef> result = new HashMap<>();
+		if (categoryIds.isEmpty()) {
+			return result;
+		}
+		this.jdbcTemplate.query(BUDGETS_BY_CATEGORY_SQL, ps -> {
+			Array ids = ps.getConnection().createArrayOf("uuid", categoryIds.toArray());
+			ps.setArray(1, ids);
+		}, rs -> {
+			UUID categoryId = rs.getObject(2, UUID.class);
+			result.put(categoryId, new BudgetRef(rs.getObject(1, UUID.class), Period.valueOf(rs.getString(3)),
+					rs.getString(4)));
+		});
+		return result;
+	}
+
+	/**
+	 * Adds spending to one randomly chosen slot per budget and period. Keys are written in sorted order
+	 * and each call touches one slot per key, so concurrent callers cannot deadlock each other.
+	 */
+	public void addSpent(SortedMap<SpendKey, Long> spent) {
+		int slot = ThreadLocalRandom.current().nextInt(SLOTS);
+		List<Object[]> args = new ArrayList<>(spent.size());
+		spent.forEach((key, amount) ->
+				args.add(new Object[]{key.budgetId(), key.periodStart(), slot, amount}));
+		this.jdbcTemplate.batchUpdate(ADD_SPENT_SQL, args);
+	}
+
+	/**
+	 * Drops every slot of a budget and refills the period that starts at {@code periodStart} from the category's
+	 * expenses in {@code currency}. Used when a budget changes its period or currency, which leaves the existing slots
+	 * keyed by period starts or amounts that no longer apply. The caller must hold the budget row's lock.
+	 *
+	 * @return the spending of the refilled period
+	 */
+	public long resetSpent(UUID budgetId, UUID categoryId, String currency, LocalDate periodStart) {
+		this.jdbcTemplate.update(DELETE_SLOTS_SQL, budgetId);
+		Long spent = this.jdbcTemplate.queryForObject(EXPENSES_SINCE_SQL, Long.class, categoryId,
+				periodStart.atStartOfDay().atOffset(ZoneOffset.UTC), currency);
+		if (spent != null && spent != 0) {
+			this.jdbcTemplate.update(ADD_SPENT_SQL, budgetId, periodStart, 0, spent);
+		}
+		return spent != null ? spent : 0L;
+	}
+
+	public long findPeriodSpent(UUID budgetId, LocalDate periodStart) {
+		Long spent = this.jdbcTemplate.queryForObject(PERIOD_SPENT_SQL, Long.class, budgetId, periodStart);
+		return spent != null ? spent : 0L;
+	}
+
+	/**
+	 * Batch form of the budget read: one query for the budgets and one for their spending in the period that
+	 * contains {@code day}.
+	 *
+	 * @return the view of each given category's budget, keyed by category id, for the categories that have one
+	 */
+	public Map<UUID, BudgetView> findViewsByCategory(Collection<UUID> categoryIds, LocalDate day) {
+		Map<UUID, BudgetView> result = new HashMap<>();
+		if (categoryIds.isEmpty()) {
+			return result;
+		}
+		List<BudgetView> budgets = this.jdbcTemplate.query(BUDGETS_FOR_VIEW_SQL, ps -> {
+			Array ids = ps.getConnection().createArrayOf("uuid", categoryIds.toArray());
+			ps.setArray(1, ids);
+		}, (rs, i) -> {
+			Period period = Period.valueOf(rs.getString(5));
+			long amount = rs.getLong(3);
+			return new BudgetView(rs.getString(1), rs.getString(2), amount, 0L, amount, rs.getString(4),
+					period.name(), period.startOf(day));
+		});
+		if (budgets.isEmpty()) {
+			return result;
+		}
+
+		Map<UUID, Long> spent = new HashMap<>();
+		this.jdbcTemplate.query(PERIODS_SPENT_SQL, ps -> {
+			ps.setArray(1, ps.getConnection().createArrayOf("uuid",
+					budgets.stream().map(b -> UUID.fromString(b.id())).toArray()));
+			ps.setArray(2, ps.getConnection().createArrayOf("date",
+					budgets.stream().map(b -> Date.valueOf(b.periodStart())).toArray()));
+		}, rs -> {
+			spent.put(rs.getObject(1, UUID.class), rs.getLong(2));
+		});
+		for (BudgetView budget : budgets) {
+			long periodSpent = spent.getOrDefault(UUID.fromString(budget.id()), 0L);
+			result.put(UUID.fromString(budget.categoryId()), new BudgetView(budget.id(), budget.categoryId(),
+					budget.amount(), periodSpent, Math.subtractExact(budget.amount(), periodSpent), budget.currency(),
+					budget.period(), budget.periodStart()));
+		}
+		return result;
+	}
+
+	/**
+	 * Copies the current period totals of all budgets with the given period into {@code spent} and
+	 * {@code remaining}. Budgets whose period rolled over since the last refresh reset to zero here.
+	 *
+	 * @return the number of budgets updated
+	 */
+	public int refreshSpent(Period period, LocalDate periodStart) {
+		return this.jdbcTemplate.update(REFRESH_SQL, periodStart, period.name());
+	}
+
+	public record BudgetRef(UUID budgetId, Period period, String currency) {
+	}
+
+	public record SpendKey(UUID budgetId, LocalDate periodStart) implements Comparable<SpendKey> {
+		@Override
+		public int compareTo(SpendKey other) {
+			int byBudget = this.budgetId.compareTo(other.budgetId);
+			return byBudget != 0 ? byBudget : this.periodStart.compareTo(other.periodStart);
+		}
+	}
+}
@@ -0,0 +1,161 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.repositories;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.*;
+
+/**
+ * Set-based category writes for the bulk endpoints. Every method is a single statement over arrays,
+ * so the number of round trips does not depend on the number of categories.
+ */
+@Repository
+public class CategoryJdbcRepository {
+
+	private static final String NAMES_SQL = "select name, id from category where name = any(?)";
+
+	private static final String INSERT_SQL = """
+			insert into category (id, version, created_at, updated_at, is_active, is_deleted, name, description)
+			select u.id, 0, ?, ?, true, false, u.name, u.description
+			from unnest(?::uuid[], ?::text[], ?::text[]) as u(id, name, description)
+			on conflict (name) do nothing
+			returning id
+			""";
+
+	private static final String UPDATE_SQL = """
+			update category c
+			set name = u.name, description = u.description, version = c.version + 1, updated_at = ?
+			from unnest(?::uuid[], ?::text[], ?::text[]) as u(id, name, description)
+			where c.id = u.id and c.is_deleted = false
+			returning c.id
+			""";
+
+	private static final String TOGGLE_STATUS_SQL = """
+			update category set is_active = not is_active, version = version + 1, updated_at = ?
+			where id = any(?) and is_deleted = false
+			returning id
+			""";
+
+	private static final String DELETE_SQL = """
+			update category set is_deleted = true, version = version + 1, updated_at = ?
+			where id = any(?) and is_deleted = false
+			returning id
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public CategoryJdbcRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * @return the id of the category holding each of the given names, for the names that are taken
+	 */
+	public Map<String, UUID> findIdsByName(Collection<String> names) {
+		Map<String, UUID> result = new HashMap<>();
+		if (names.isEmpty()) {
+			return result;
+		}
+		this.jdbcTemplate.query(NAMES_SQL, ps -> ps.setArray(1, ps.getConnection().createArrayOf("text", names.toArray())),
+				rs -> {
+					result.put(rs.getString(1), rs.getObject(2, UUID.class));
+				});
+		return result;
+	}
+
+	/**
+	 * Inserts the categories, skipping any whose name was taken concurrently.
+	 *
+	 * @return the ids of the categories actually inserted
+	 */
+	public Set<UUID> insertAll(List<CategoryRow> rows) {
+		if (rows.isEmpty()) {
+			return Set.of();
+		}
+		var now = Instant.now().atOffset(ZoneOffset.UTC);
+		return ids(INSERT_SQL, ps -> {
+			ps.setObject(1, now);
+			ps.setObject(2, now);
+			setArray(ps, 3, "uuid", rows.stream().map(CategoryRow::id).toArray());
+			setArray(ps, 4, "text", rows.stream().map(CategoryRow::name).toArray());
+			setArray(ps, 5, "text", rows.stream().map(CategoryRow::description).toArray());
+		});
+	}
+
+	/**
+	 * @return the ids of the categories that exist and were updated
+	 */
+	public Set<UUID> updateAll(List<CategoryRow> rows) {
+		if (rows.isEmpty()) {
+			return Set.of();
+		}
+		var now = Instant.now().atOffset(ZoneOffset.UTC);
+		return ids(UPDATE_SQL, ps -> {
+			ps.setObject(1, now);
+			setArray(ps, 2, "uuid", rows.stream().map(CategoryRow::id).toArray());
+			setArray(ps, 3, "text", rows.stream().map(CategoryRow::name).toArray());
+			setArray(ps, 4, "text", rows.stream().map(CategoryRow::description).toArray());
+		});
+	}
+
+	/**
+	 * Deleted categories are left untouched and not returned, as are unknown ids.
+	 */
+	public Set<UUID> toggleStatus(Collection<UUID> ids) {
+		return byIds(TOGGLE_STATUS_SQL, ids);
+	}
+
+	/**
+	 * Already deleted categories are not returned.
+	 */
+	public Set<UUID> markDeleted(Collection<UUID> ids) {
+		return byIds(DELETE_SQL, ids);
+	}
+
+	private Set<UUID> byIds(String sql, Collection<UUID> ids) {
+		if (ids.isEmpty()) {
+			return Set.of();
+		}
+		var now = Instant.now().atOffset(ZoneOffset.UTC);
+		return ids(sql, ps -> {
+			ps.setObject(1, now);
+			setArray(ps, 2, "uuid", ids.toArray());
+		});
+	}
+
+	private Set<UUID> ids(String sql, PreparedStatementSetter setter) {
+		Set<UUID> result = new HashSet<>();
+		this.jdbcTemplate.query(sql, setter, rs -> {
+			result.add(rs.getObject(1, UUID.class));
+		});
+		return result;
+	}
+
+	private static void setArray(PreparedStatement ps, int index, String type, Object[] values) throws SQLException {
+		ps.setArray(index, ps.getConnection().createArrayOf(type, values));
+	}
+
+	public record CategoryRow(UUID id, String name, String description) {
+	}
+}
@@ -16,13 +16,21 @@
 
 package com.nestegg.portfolio.management.api.repositories;
 
+import com.nestegg.portfolio.management.api.dto.CategoryView;
 import com.nestegg.portfolio.management.api.entities.Category;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface CategoryRepository extends JpaRepository<Category, UUID> {
-	boolean existsByName(String name);
+public interface CategoryRepository extends SoftDeleteRepository<Category> {
+	@Query("select new com.nestegg.portfolio.management.api.dto.CategoryView(cast(c.id as String), c.name, c.description, c.isActive, c.isDeleted) from Category c where c.id in :ids and c.isDeleted = false")
+	List<CategoryView> findLiveViewsByIdIn(Collection<UUID> ids);
+
+	@Query("select new com.nestegg.portfolio.management.api.dto.CategoryView(cast(c.id as String), c.name, c.description, c.isActive, c.isDeleted) from Category c where c.id = :id and c.isDeleted = false")
+	Optional<CategoryView> findLiveViewById(UUID id);
 }
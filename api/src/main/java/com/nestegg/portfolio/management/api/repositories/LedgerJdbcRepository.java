@@ -0,0 +1,129 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package com.nestegg.portfolio.management.api.repositories;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.*;
+
+/**
+ * Maintains and reads the per-account daily balance checkpoints.
+ */
+@Repository
+public class LedgerJdbcRepository {
+
+	private static final String UPSERT_DELTA_SQL = """
+			insert into balance_checkpoint (account_id, balance_date, net_change, closing_balance)
+			values (?, ?, ?, 0)
+			on conflict (account_id, balance_date)
+			do update set net_change = balance_checkpoint.net_change + excluded.net_change
+			""";
+
+	/**
+	 * Recomputes the closing balances from the earliest changed day onwards as the previous closing
+	 * balance (or the initial balance) plus a running sum of the daily net changes.
+	 */
+	private static final String ROLL_FORWARD_SQL = """
+			update balance_checkpoint c
+			set closing_balance = base.balance + running.total
+			from (select balance_date, sum(net_change) over (order by balance_date) as total
+			      from balance_checkpoint
+			      where account_id = ? and balance_date >= ?) running,
+			     (select coalesce((select closing_balance from balance_checkpoint
+			                       where account_id = ? and balance_date < ?
+			                       order by balance_date desc limit 1),
+			                      (select initial_balance from account where id = ?)) as balance) base
+			where c.account_id = ? and c.balance_date = running.balance_date
+			""";
+
+	private static final String BALANCE_AT_SQL = """
+			select coalesce((select closing_balance from balance_checkpoint
+			                 where account_id = a.id and balance_date < ?
+			                 order by balance_date desc limit 1), a.initial_balance)
+			     + coalesce((select sum(amount) from transaction
+			                 where account_id = a.id and created_at >= ? and created_at <= ?), 0)
+			from account a
+			where a.id = ?
+			""";
+
+	private static final String OPENING_BALANCE_SQL = """
+			select coalesce((select closing_balance from balance_checkpoint
+			                 where account_id = a.id and balance_date < ?
+			                 order by balance_date desc limit 1), a.initial_balance)
+			from account a
+			where a.id = ?
+			""";
+
+	private static final String CLOSING_BALANCES_SQL = """
+			select balance_date, closing_balance from balance_checkpoint
+			where account_id = ? and balance_date between ? and ?
+			order by balance_date
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public LedgerJdbcRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * Adds daily net changes to the checkpoints and rolls the affected closing balances forward. The caller
+	 * must hold the account row locks, which serialises checkpoint maintenance per account.
+	 */
+	public void applyDailyDeltas(Map<UUID, SortedMap<LocalDate, Long>> deltas) {
+		List<Object[]> upserts = new ArrayList<>();
+		List<Object[]> rolls = new ArrayList<>();
+		new TreeMap<>(deltas).forEach((accountId, days) -> {
+			days.forEach((day, delta) -> upserts.add(new Object[]{accountId, day, delta}));
+			LocalDate first = days.firstKey();
+			rolls.add(new Object[]{accountId, first, accountId, first, accountId, accountId});
+		});
+
+		this.jdbcTemplate.batchUpdate(UPSERT_DELTA_SQL, upserts);
+		this.jdbcTemplate.batchUpdate(ROLL_FORWARD_SQL, rolls);
+	}
+
+	public Optional<Long> findBalanceAt(UUID accountId, Instant at) {
+		LocalDate day = LocalDate.ofInstant(at, ZoneOffset.UTC);
+		return this.jdbcTemplate.query(BALANCE_AT_SQL, rs -> rs.next()
+						? Optional.of(rs.getLong(1))
+						: Optional.<Long>empty(),
+				day, day.atStartOfDay().atOffset(ZoneOffset.UTC), at.atOffset(ZoneOffset.UTC), accountId);
+	}
+
+	/**
+	 * Closing balance of the day before {@code day}, i.e. the opening balance of {@code day}.
+	 */
+	public Optional<Long> findOpeningBalance(UUID accountId, LocalDate day) {
+		return this.jdbcTemplate.query(OPENING_BALANCE_SQL, rs -> rs.next()
+				? Optional.of(rs.getLong(1))
+				: Optional.<Long>empty(), day, accountId);
+	}
+
+	public NavigableMap<LocalDate, Long> findClosingBalances(UUID accountId, LocalDate from, LocalDate to) {
+		NavigableMap<LocalDate, Long> result = new TreeMap<>();
+		this.jdbcTemplate.query(CLOSING_BALANCES_SQL, rs -> {
+			result.put(rs.getObject(1, LocalDate.class), rs.getLong(2));
+		}, accountId, from, to);
+		return result;
+	}
+}
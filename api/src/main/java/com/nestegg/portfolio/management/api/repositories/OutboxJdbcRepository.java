@@ -0,0 +1,128 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.repositories;
+
+import com.nestegg.portfolio.management.api.dto.ChangeEvent;
+import com.nestegg.portfolio.management.api.entities.AggregateType;
+import com.nestegg.portfolio.management.api.entities.ChangeType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outbox of change events. Appends must run inside the transaction of the change they describe.
+ */
+@Repository
+public class OutboxJdbcRepository {
+
+	private static final int BATCH_SIZE = 1000;
+
+	/**
+	 * Snapshots the rows as they are at this point of the writing transaction; {@code %s} is the table of a fixed
+	 * {@link AggregateType}, never user input.
+	 */
+	private static final String APPEND_SNAPSHOTS_SQL = """
+			insert into outbox_event (aggregate_type, aggregate_id, event_type, payload, created_at)
+			select ?, t.id, ?, to_jsonb(t), ?
+			from %s t
+			where t.id = any(?)
+			""";
+
+	/**
+	 * Transactions are built from the rows being written rather than read back, which would have to search every
+	 * partition of the table.
+	 */
+	private static final String APPEND_TRANSACTION_SQL = """
+			insert into outbox_event (aggregate_type, aggregate_id, event_type, payload, created_at)
+			values ('TRANSACTION', ?, 'CREATED', jsonb_build_object(
+			        'id', ?::uuid, 'account_id', ?::uuid, 'category_id', ?::uuid, 'explanation', ?::text,
+			        'type', ?::text, 'amount', ?::bigint, 'created_at', ?::timestamptz), ?)
+			""";
+
+	/**
+	 * Oldest events first; events locked by a concurrent relay are skipped rather than waited for. An event whose
+	 * writing transaction has not committed yet is not visible, so it can be relayed after events with a higher
+	 * {@code seq}.
+	 */
+	private static final String TAKE_SQL = """
+			with taken as (
+			    delete from outbox_event
+			    where seq in (select seq from outbox_event order by seq limit ? for update skip locked)
+			    returning seq, aggregate_type, aggregate_id, event_type, created_at, payload
+			)
+			select seq, aggregate_type, aggregate_id, event_type, created_at, payload::text
+			from taken
+			order by seq
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public OutboxJdbcRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * Appends one event per given id that exists in the aggregate's table, with the row as payload.
+	 */
+	public void appendSnapshots(AggregateType aggregate, ChangeType change, Collection<UUID> ids) {
+		if (ids.isEmpty()) {
+			return;
+		}
+		var now = Instant.now().atOffset(ZoneOffset.UTC);
+		this.jdbcTemplate.update(APPEND_SNAPSHOTS_SQL.formatted(aggregate.table()), ps -> {
+			ps.setString(1, aggregate.name());
+			ps.setString(2, change.name());
+			ps.setObject(3, now);
+			ps.setArray(4, ps.getConnection().createArrayOf("uuid", ids.toArray()));
+		});
+	}
+
+	/**
+	 * Appends a {@code CREATED} event for each transaction row.
+	 */
+	public void appendTransactions(List<TransactionRow> rows) {
+		var now = Instant.now().atOffset(ZoneOffset.UTC);
+		this.jdbcTemplate.batchUpdate(APPEND_TRANSACTION_SQL, rows, BATCH_SIZE, (ps, row) -> {
+			ps.setObject(1, row.id());
+			ps.setObject(2, row.id());
+			ps.setObject(3, row.accountId());
+			ps.setObject(4, row.categoryId());
+			ps.setString(5, row.explanation());
+			ps.setString(6, row.type().name());
+			ps.setLong(7, row.amount());
+			ps.setObject(8, row.createdAt().atOffset(ZoneOffset.UTC));
+			ps.setObject(9, now);
+		});
+	}
+
+	/**
+	 * Deletes up to {@code limit} of the oldest events and returns them in order. Must run inside the transaction
+	 * that publishes them, so that a failed publish puts them back.
+	 */
+	public List<ChangeEvent> take(int limit) {
+		return this.jdbcTemplate.query(TAKE_SQL, (rs, i) -> new ChangeEvent(
+				rs.getLong(1), rs.getString(2), rs.getObject(3, UUID.class), rs.getString(4),
+				rs.getObject(5, OffsetDateTime.class).toInstant(), rs.getString(6)
+		), limit);
+	}
+}
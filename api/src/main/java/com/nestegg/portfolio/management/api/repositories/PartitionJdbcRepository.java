@@ -0,0 +1,162 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.repositories;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * DDL for the monthly partitions of {@code transaction}. Partition names are derived from the month only
+ * ({@code transaction_p2025_01}), so every statement here is built from a {@link YearMonth} and never from input.
+ */
+@Repository
+public class PartitionJdbcRepository {
+
+	private static final Pattern PARTITION_NAME = Pattern.compile("transaction_p(\\d{4})_(\\d{2})");
+
+	private static final Pattern ARCHIVE_NAME = Pattern.compile("transaction_archive_p(\\d{4})_(\\d{2})");
+
+	private static final String PARTITIONS_SQL = """
+			select c.relname from pg_inherits i
+			join pg_class c on c.oid = i.inhrelid
+			where i.inhparent = 'transaction'::regclass
+			""";
+
+	private static final String ARCHIVES_SQL = """
+			select relname from pg_class where relkind = 'r' and relname like 'transaction\\_archive\\_p%'
+			""";
+
+	private static final String DEFAULT_MONTHS_SQL = """
+			select distinct date_trunc('month', created_at at time zone 'UTC')::date from transaction_default
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public PartitionJdbcRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	public static String partitionName(YearMonth month) {
+		return "transaction_p%04d_%02d".formatted(month.getYear(), month.getMonthValue());
+	}
+
+	/**
+	 * @return the months that currently have their own partition
+	 */
+	public Set<YearMonth> findPartitionMonths() {
+		Set<YearMonth> months = new HashSet<>();
+		this.jdbcTemplate.query(PARTITIONS_SQL, rs -> {
+			Matcher matcher = PARTITION_NAME.matcher(rs.getString(1));
+			if (matcher.matches()) {
+				months.add(YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))));
+			}
+		});
+		return months;
+	}
+
+	/**
+	 * @return the latest month whose partition has been detached; its transactions and those of every earlier month
+	 * are no longer in {@code transaction}
+	 */
+	public Optional<YearMonth> findLastArchivedMonth() {
+		List<YearMonth> months = new ArrayList<>();
+		this.jdbcTemplate.query(ARCHIVES_SQL, rs -> {
+			Matcher matcher = ARCHIVE_NAME.matcher(rs.getString(1));
+			if (matcher.matches()) {
+				months.add(YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))));
+			}
+		});
+		return months.stream().max(Comparator.naturalOrder());
+	}
+
+	/**
+	 * Keeps {@link #detachPartition(YearMonth)} waiting until the current transaction ends, for readers that work out
+	 * which months are still attached and then read them.
+	 */
+	public void lockAgainstDetach() {
+		this.jdbcTemplate.execute("lock table transaction in access share mode");
+	}
+
+	/**
+	 * @return the months of the rows that ended up in the default partition because their month had none
+	 */
+	public List<YearMonth> findMonthsInDefault() {
+		return this.jdbcTemplate.query(DEFAULT_MONTHS_SQL,
+				(rs, rowNum) -> YearMonth.from(rs.getObject(1, LocalDate.class)));
+	}
+
+	/**
+	 * Creates the partition of a month that has no rows in the default partition yet.
+	 */
+	public void createPartition(YearMonth month) {
+		this.jdbcTemplate.execute("create table if not exists %s partition of transaction for values from (%s) to (%s)"
+				.formatted(partitionName(month), bound(month), bound(month.plusMonths(1))));
+	}
+
+	/**
+	 * Gives a month whose rows sit in the default partition its own partition: the rows are moved into a new table
+	 * which is then attached. Must run in a transaction so that the rows are never visible twice or not at all.
+	 *
+	 * @return the number of rows moved
+	 */
+	public int moveFromDefault(YearMonth month) {
+		String name = partitionName(month);
+		this.jdbcTemplate.execute("create table %s (like transaction including defaults including constraints)"
+				.formatted(name));
+		int moved = this.jdbcTemplate.update("""
+				with moved as (
+				    delete from transaction_default where created_at >= %s and created_at < %s returning *
+				)
+				insert into %s select * from moved
+				""".formatted(bound(month), bound(month.plusMonths(1)), name));
+		this.jdbcTemplate.execute("alter table transaction attach partition %s for values from (%s) to (%s)"
+				.formatted(name, bound(month), bound(month.plusMonths(1))));
+		return moved;
+	}
+
+	/**
+	 * Detaches the partition of a month and keeps it as a standalone {@code transaction_archive_p...} table. Plain
+	 * (non-concurrent) detach is used because Postgres does not allow the concurrent form next to a default partition.
+	 * Must run in a transaction: a partition detached but not renamed would be neither attached nor archived, and
+	 * {@link #createPartition(YearMonth)} would silently skip its month.
+	 * <p>
+	 * The daily balance checkpoints and the monthly rollups of the month stay: they are the only history of it left
+	 * behind, so the rollup rebuild keeps them and point-in-time balances inside the month are refused.
+	 */
+	public void detachPartition(YearMonth month) {
+		String name = partitionName(month);
+		this.jdbcTemplate.execute("alter table transaction detach partition %s".formatted(name));
+		this.jdbcTemplate.execute("alter table %s rename to %s"
+				.formatted(name, name.replace("transaction_p", "transaction_archive_p")));
+	}
+
+	private static String bound(YearMonth month) {
+		return "'%s'::timestamptz".formatted(month.atDay(1).atStartOfDay().atOffset(ZoneOffset.UTC));
+	}
+}
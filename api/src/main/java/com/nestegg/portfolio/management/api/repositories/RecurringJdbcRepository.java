@@ -0,0 +1,122 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.repositories;
+
+import com.nestegg.portfolio.management.api.entities.Period;
+import com.nestegg.portfolio.management.api.entities.TransactionType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Claims due recurrence rules and records how far they have been materialized.
+ */
+@Repository
+public class RecurringJdbcRepository {
+
+	private static final int BATCH_SIZE = 1000;
+
+	/**
+	 * Oldest due rules first, through the partial index on {@code next_run_at}. Rules claimed by another instance
+	 * are skipped, so concurrent runs split the backlog instead of queueing on the same rows. Only the rule rows are
+	 * locked; the state of their account and category comes along so the runner can tell what to do with them.
+	 */
+	private static final String CLAIM_DUE_SQL = """
+			select r.id, r.account_id, r.category_id, r.type, r.amount, r.explanation, r.period, r.starts_at,
+			       r.occurrences, a.is_deleted or c.is_deleted, a.is_active and c.is_active
+			from recurring_transaction r
+			join account a on a.id = r.account_id
+			join category c on c.id = r.category_id
+			where r.next_run_at <= ? and r.is_active = true and r.is_deleted = false
+			order by r.next_run_at
+			limit ?
+			for update of r skip locked
+			""";
+
+	private static final String DEACTIVATE_SQL = """
+			update recurring_transaction
+			set is_active = false, version = version + 1, updated_at = ?
+			where id = ?
+			""";
+
+	private static final String ADVANCE_SQL = """
+			update recurring_transaction
+			set occurrences = ?, next_run_at = ?, version = version + 1, updated_at = ?
+			where id = ?
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public RecurringJdbcRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * Locks up to {@code limit} due rules until the end of the current transaction.
+	 */
+	public List<DueRule> claimDue(Instant now, int limit) {
+		return this.jdbcTemplate.query(CLAIM_DUE_SQL, (rs, i) -> new DueRule(
+				rs.getObject(1, UUID.class), rs.getObject(2, UUID.class), rs.getObject(3, UUID.class),
+				TransactionType.valueOf(rs.getString(4)), rs.getLong(5), rs.getString(6),
+				Period.valueOf(rs.getString(7)), rs.getObject(8, OffsetDateTime.class).toInstant(), rs.getLong(9),
+				rs.getBoolean(10), rs.getBoolean(11)
+		), now.atOffset(ZoneOffset.UTC), limit);
+	}
+
+	public void deactivate(List<UUID> ruleIds) {
+		OffsetDateTime now = Instant.now().atOffset(ZoneOffset.UTC);
+		this.jdbcTemplate.batchUpdate(DEACTIVATE_SQL, ruleIds, BATCH_SIZE, (ps, id) -> {
+			ps.setObject(1, now);
+			ps.setObject(2, id);
+		});
+	}
+
+	public void advance(List<Progress> progress) {
+		OffsetDateTime now = Instant.now().atOffset(ZoneOffset.UTC);
+		this.jdbcTemplate.batchUpdate(ADVANCE_SQL, progress, BATCH_SIZE, (ps, p) -> {
+			ps.setLong(1, p.occurrences());
+			ps.setObject(2, p.nextRunAt().atOffset(ZoneOffset.UTC));
+			ps.setObject(3, now);
+			ps.setObject(4, p.ruleId());
+		});
+	}
+
+	/**
+	 * @param targetDeleted whether the account or the category of the rule is deleted
+	 * @param targetActive  whether both the account and the category of the rule are active
+	 */
+	public record DueRule(UUID id, UUID accountId, UUID categoryId, TransactionType type, long amount,
+						  String explanation, Period period, Instant startsAt, long occurrences,
+						  boolean targetDeleted, boolean targetActive) {
+
+		/**
+		 * @return when occurrence {@code n} (counting from zero) is due
+		 */
+		public Instant occurrence(long n) {
+			OffsetDateTime start = this.startsAt.atOffset(ZoneOffset.UTC);
+			return this.period.plus(start.toLocalDate(), n).atTime(start.toLocalTime()).toInstant(ZoneOffset.UTC);
+		}
+	}
+
+	public record Progress(UUID ruleId, long occurrences, Instant nextRunAt) {
+	}
+}
@@ -0,0 +1,31 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.repositories;
+
+import com.nestegg.portfolio.management.api.dto.RecurringTransactionView;
+import com.nestegg.portfolio.management.api.entities.RecurringTransaction;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface RecurringTransactionRepository extends SoftDeleteRepository<RecurringTransaction> {
+	@Query("select new com.nestegg.portfolio.management.api.dto.RecurringTransactionView(cast(r.id as String), cast(r.account.id as String), cast(r.category.id as String), cast(r.type as String), r.amount, r.explanation, cast(r.period as String), r.startsAt, r.nextRunAt, r.isActive) from RecurringTransaction r where r.id = :id and r.isDeleted = false")
+	Optional<RecurringTransactionView> findLiveViewById(UUID id);
+}
@@ -0,0 +1,210 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.repositories;
+
+import com.nestegg.portfolio.management.api.entities.TransactionType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+
+/**
+ * Maintains and reads the monthly rollups behind the analytics endpoints. Amounts are in the minor units of their
+ * account's currency, so every read is grouped by currency and never adds up amounts of different currencies.
+ */
+@Repository
+public class RollupJdbcRepository {
+
+	private static final String ADD_SQL = """
+			insert into monthly_rollup (account_id, category_id, type, month, total, transaction_count)
+			values (?, ?, ?, ?, ?, ?)
+			on conflict (account_id, category_id, type, month)
+			do update set total = monthly_rollup.total + excluded.total,
+			              transaction_count = monthly_rollup.transaction_count + excluded.transaction_count
+			""";
+
+	private static final String OPENING_NET_WORTH_SQL = """
+			select a.currency,
+			       sum(a.initial_balance + coalesce((select sum(r.total) from monthly_rollup r
+			                                         where r.account_id = a.id and r.month < ?), 0))
+			from account a
+			where a.is_deleted = false
+			group by a.currency
+			""";
+
+	private static final String NET_BY_MONTH_SQL = """
+			select a.currency, r.month, sum(r.total) from monthly_rollup r
+			join account a on a.id = r.account_id
+			where a.is_deleted = false and r.month between ? and ?
+			group by a.currency, r.month
+			""";
+
+	private static final String CASH_FLOW_SQL = """
+			select a.currency, r.month, r.type, sum(r.total) from monthly_rollup r
+			join account a on a.id = r.account_id
+			where a.is_deleted = false and r.month between ? and ? and r.type in ('INCOME', 'EXPENSE')
+			group by a.currency, r.month, r.type
+			""";
+
+	private static final String SPEND_BY_CATEGORY_SQL = """
+			select r.category_id, c.name, a.currency, -sum(r.total), sum(r.transaction_count)
+			from monthly_rollup r
+			join account a on a.id = r.account_id
+			join category c on c.id = r.category_id
+			where a.is_deleted = false and r.type = 'EXPENSE' and r.month between ? and ?
+			group by r.category_id, c.name, a.currency
+			order by a.currency, 4 desc
+			""";
+
+	private static final String ACCOUNT_IDS_SQL = "select id from account";
+
+	private static final String LOCK_ACCOUNT_SQL = "select id from account where id = ? for update";
+
+	private static final String DELETE_SQL = """
+			delete from monthly_rollup where account_id = any(?) and month >= coalesce(?, '-infinity'::date)
+			""";
+
+	private static final String REBUILD_SQL = """
+			insert into monthly_rollup (account_id, category_id, type, month, total, transaction_count)
+			select account_id, category_id, type, date_trunc('month', created_at at time zone 'UTC')::date,
+			       sum(amount), count(*)
+			from transaction t
+			where account_id = any(?)
+			  and created_at >= coalesce(?, '-infinity'::date)::timestamp at time zone 'UTC'
+			  and not exists (select 1 from balance_journal j where j.transaction_id = t.id)
+			group by 1, 2, 3, 4
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public RollupJdbcRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * Adds deltas to the rollups. Keys are written in sorted order so concurrent writers cannot deadlock
+	 * each other; the caller must hold the locks of the accounts involved (see {@link #rebuild(List, LocalDate)}).
+	 */
+	public void addAll(SortedMap<RollupKey, RollupDelta> deltas) {
+		List<Object[]> args = new ArrayList<>(deltas.size());
+		deltas.forEach((key, delta) -> args.add(new Object[]{key.accountId(), key.categoryId(), key.type().name(),
+				key.month(), delta.total(), delta.count()}));
+		this.jdbcTemplate.batchUpdate(ADD_SQL, args);
+	}
+
+	/**
+	 * @return per currency, the balance of the live accounts at the start of the month
+	 */
+	public Map<String, Long> findNetWorthBefore(YearMonth month) {
+		Map<String, Long> result = new TreeMap<>();
+		this.jdbcTemplate.query(OPENING_NET_WORTH_SQL, rs -> {
+			result.put(rs.getString(1), rs.getLong(2));
+		}, month.atDay(1));
+		return result;
+	}
+
+	/**
+	 * @return per currency and month, the net change of the live accounts
+	 */
+	public Map<String, Map<YearMonth, Long>> findNetByMonth(YearMonth from, YearMonth to) {
+		Map<String, Map<YearMonth, Long>> result = new TreeMap<>();
+		this.jdbcTemplate.query(NET_BY_MONTH_SQL, rs -> {
+			result.computeIfAbsent(rs.getString(1), c -> new HashMap<>())
+					.put(YearMonth.from(rs.getObject(2, LocalDate.class)), rs.getLong(3));
+		}, from.atDay(1), to.atDay(1));
+		return result;
+	}
+
+	/**
+	 * @return per currency and month, the signed totals by transaction type (income and expense only)
+	 */
+	public Map<String, Map<YearMonth, Map<TransactionType, Long>>> findCashFlow(YearMonth from, YearMonth to) {
+		Map<String, Map<YearMonth, Map<TransactionType, Long>>> result = new TreeMap<>();
+		this.jdbcTemplate.query(CASH_FLOW_SQL, rs -> {
+			YearMonth month = YearMonth.from(rs.getObject(2, LocalDate.class));
+			result.computeIfAbsent(rs.getString(1), c -> new HashMap<>())
+					.computeIfAbsent(month, m -> new EnumMap<>(TransactionType.class))
+					.put(TransactionType.valueOf(rs.getString(3)), rs.getLong(4));
+		}, from.atDay(1), to.atDay(1));
+		return result;
+	}
+
+	/**
+	 * @return the expenses per category and currency, ordered by currency and then largest first
+	 */
+	public List<CategorySpend> findSpendByCategory(YearMonth from, YearMonth to) {
+		return this.jdbcTemplate.query(SPEND_BY_CATEGORY_SQL, (rs, i) -> new CategorySpend(
+				rs.getObject(1, UUID.class), rs.getString(2), rs.getString(3), rs.getLong(4), rs.getLong(5)
+		), from.atDay(1), to.atDay(1));
+	}
+
+	public List<UUID> findAccountIds() {
+		return this.jdbcTemplate.queryForList(ACCOUNT_IDS_SQL, UUID.class);
+	}
+
+	/**
+	 * Rebuilds the rollups of the given accounts from their transactions. Must run inside a transaction;
+	 * the account rows are locked first, in the same order as the transaction writer locks them, so no writer
+	 * can add to these rollups between the delete and the re-insert. Transactions still in the balance journal
+	 * are left out, the journal flush adds them.
+	 *
+	 * @param from the first month to rebuild, or {@code null} for all of them; the rollups of earlier months are
+	 *             kept as they are, which is what months whose partition has been detached need
+	 * @return the number of rollup rows written
+	 */
+	public int rebuild(List<UUID> accountIds, LocalDate from) {
+		for (UUID accountId : new TreeSet<>(accountIds)) {
+			this.jdbcTemplate.queryForList(LOCK_ACCOUNT_SQL, UUID.class, accountId);
+		}
+		PreparedStatementSetter ids = ps -> {
+			Array array = ps.getConnection().createArrayOf("uuid", accountIds.toArray());
+			ps.setArray(1, array);
+			ps.setObject(2, from, Types.DATE);
+		};
+		this.jdbcTemplate.update(DELETE_SQL, ids);
+		return this.jdbcTemplate.update(REBUILD_SQL, ids);
+	}
+
+	public record RollupKey(UUID accountId, UUID categoryId, TransactionType type, LocalDate month)
+			implements Comparable<RollupKey> {
+		@Override
+		public int compareTo(RollupKey other) {
+			int result = this.accountId.compareTo(other.accountId);
+			if (result == 0) {
+				result = this.categoryId.compareTo(other.categoryId);
+			}
+			if (result == 0) {
+				result = this.type.compareTo(other.type);
+			}
+			return result != 0 ? result : this.month.compareTo(other.month);
+		}
+	}
+
+	public record RollupDelta(long total, long count) {
+		public RollupDelta plus(RollupDelta other) {
+			return new RollupDelta(Math.addExact(this.total, other.total), this.count + other.count);
+		}
+	}
+
+	public record CategorySpend(UUID categoryId, String name, String currency, long spent, long transactions) {
+	}
+}
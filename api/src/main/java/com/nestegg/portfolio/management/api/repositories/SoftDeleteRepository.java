@@ -0,0 +1,76 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.repositories;
+
+import com.nestegg.portfolio.management.api.entities.AuditEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Base for repositories of {@link AuditEntity} subclasses. The inherited reads are redeclared to leave out
+ * soft-deleted rows, so callers do not have to remember the filter; deleted rows are only reachable through SQL,
+ * and are eventually moved to the archive tables by the archive purge job. Writes are unaffected: {@code save}
+ * merges by id and never goes through these queries.
+ * <p>
+ * The filter is a query per method rather than {@code @SQLRestriction} on the entities, which Hibernate would also
+ * apply to the to-one associations pointing at a deleted row, e.g. a budget of a deleted category.
+ */
+@NoRepositoryBean
+public interface SoftDeleteRepository<T extends AuditEntity> extends JpaRepository<T, UUID> {
+
+	@Override
+	@Query("select e from #{#entityName} e where e.id = :id and e.isDeleted = false")
+	Optional<T> findById(UUID id);
+
+	@Override
+	@Query("select count(e) > 0 from #{#entityName} e where e.id = :id and e.isDeleted = false")
+	boolean existsById(UUID id);
+
+	@Override
+	@Query("select e from #{#entityName} e where e.isDeleted = false")
+	List<T> findAll();
+
+	@Override
+	@Query("select e from #{#entityName} e where e.id in :ids and e.isDeleted = false")
+	List<T> findAllById(Iterable<UUID> ids);
+
+	@Override
+	@Query("select count(e) from #{#entityName} e where e.isDeleted = false")
+	long count();
+
+	/**
+	 * Marks a row as deleted with a single update, without loading it first.
+	 *
+	 * @return {@code 1} if the row existed and was not deleted yet, {@code 0} otherwise
+	 */
+	@Transactional
+	@Modifying
+	@Query("update #{#entityName} e set e.isDeleted = true, e.version = e.version + 1, e.updatedAt = :now where e.id = :id and e.isDeleted = false")
+	int softDeleteById(UUID id, Instant now);
+
+	default int softDeleteById(UUID id) {
+		return softDeleteById(id, Instant.now());
+	}
+}
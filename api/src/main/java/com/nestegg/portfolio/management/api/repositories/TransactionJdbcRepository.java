@@ -0,0 +1,219 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package com.nestegg.portfolio.management.api.repositories;
+
+import com.nestegg.portfolio.management.api.dto.TransactionView;
+import com.nestegg.portfolio.management.api.utils.Cursors;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+
+/**
+ * Plain JDBC access for the transaction write path, where JPA's per-entity persist is too slow.
+ */
+@Repository
+public class TransactionJdbcRepository {
+
+	private static final int BATCH_SIZE = 1_000;
+
+	private static final String INSERT_SQL = """
+			insert into transaction (id, version, created_at, updated_at, is_active, is_deleted,
+			                         account_id, category_id, explanation, type, amount)
+			values (?, 0, ?, ?, true, false, ?, ?, ?, ?, ?)
+			""";
+
+	/**
+	 * The balance is only ever changed through relative updates like this one and is not updatable through
+	 * JPA, so it is deliberately left out of the entity's optimistic {@code version}.
+	 */
+	private static final String APPLY_DELTA_SQL = """
+			update account set current_balance = current_balance + ?, updated_at = ?
+			where id = ?
+			""";
+
+	private static final String DEBIT_SQL = """
+			update account set current_balance = current_balance - ?, updated_at = ?
+			where id = ? and is_active = true and is_deleted = false
+			  and (current_balance >= ? or type in ('CREDIT_CARD', 'LOAN'))
+			""";
+
+	private static final String CREDIT_SQL = """
+			update account set current_balance = current_balance + ?, updated_at = ?
+			where id = ? and is_active = true and is_deleted = false
+			""";
+
+	private static final String ACTIVE_IDS_SQL = """
+			select id, 'A' from account where id = any(?) and is_active = true and is_deleted = false
+			union all
+			select id, 'C' from category where id = any(?) and is_active = true and is_deleted = false
+			""";
+
+	private static final String ACTIVE_CATEGORIES_SQL = """
+			select id, name from category where is_active = true and is_deleted = false
+			""";
+
+	private static final String SELECT_SQL = """
+			select id, account_id, category_id, type, amount, explanation, created_at
+			from transaction
+			where is_deleted = false
+			""";
+
+	private static final RowMapper<TransactionView> VIEW_MAPPER = (rs, rowNum) -> new TransactionView(
+			rs.getString(1), rs.getString(2), rs.getString(3), rs.getString(4),
+			rs.getLong(5), rs.getString(6),
+			rs.getObject(7, OffsetDateTime.class).toInstant());
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public TransactionJdbcRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	public void insertAll(List<TransactionRow> rows) {
+		Instant now = Instant.now();
+		this.jdbcTemplate.batchUpdate(INSERT_SQL, rows, BATCH_SIZE, (ps, row) -> {
+			ps.setObject(1, row.id());
+			ps.setObject(2, row.createdAt().atOffset(ZoneOffset.UTC));
+			ps.setObject(3, now.atOffset(ZoneOffset.UTC));
+			ps.setObject(4, row.accountId());
+			ps.setObject(5, row.categoryId());
+			ps.setString(6, row.explanation());
+			ps.setString(7, row.type().name());
+			ps.setLong(8, row.amount());
+		});
+	}
+
+	/**
+	 * Adds each delta to the account's current balance in a single statement per account. Accounts are
+	 * updated in id order so that concurrent batches touching the same accounts never deadlock.
+	 */
+	public void applyBalanceDeltas(Map<UUID, Long> deltas) {
+		Instant now = Instant.now();
+		List<Map.Entry<UUID, Long>> ordered = new ArrayList<>(new TreeMap<>(deltas).entrySet());
+		this.jdbcTemplate.batchUpdate(APPLY_DELTA_SQL, ordered, BATCH_SIZE, (ps, entry) -> {
+			ps.setLong(1, entry.getValue());
+			ps.setObject(2, now.atOffset(ZoneOffset.UTC));
+			ps.setObject(3, entry.getKey());
+		});
+	}
+
+	/**
+	 * Moves {@code amount} between two accounts with one conditional update each. The rows are updated in the
+	 * same order as {@link #applyBalanceDeltas(Map)} locks them, so transfers and batches cannot deadlock.
+	 * The debit only applies if the source stays non-negative, unless it is a credit card or loan account.
+	 *
+	 * @return {@code false} if either update did not apply; the caller must then roll back
+	 */
+	public boolean applyTransfer(UUID from, UUID to, long amount) {
+		OffsetDateTime now = Instant.now().atOffset(ZoneOffset.UTC);
+		boolean debitFirst = from.compareTo(to) < 0;
+		for (int i = 0; i < 2; i++) {
+			boolean debit = (i == 0) == debitFirst;
+			int updated = debit
+					? this.jdbcTemplate.update(DEBIT_SQL, amount, now, from, amount)
+					: this.jdbcTemplate.update(CREDIT_SQL, amount, now, to);
+			if (updated == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Resolves which of the given accounts and categories exist and are usable, in one round trip.
+	 */
+	public ActiveIds findActiveIds(Collection<UUID> accountIds, Collection<UUID> categoryIds) {
+		ActiveIds result = new ActiveIds(new HashSet<>(), new HashSet<>());
+		this.jdbcTemplate.query(ACTIVE_IDS_SQL, ps -> {
+			Array accounts = ps.getConnection().createArrayOf("uuid", accountIds.toArray());
+			Array categories = ps.getConnection().createArrayOf("uuid", categoryIds.toArray());
+			ps.setArray(1, accounts);
+			ps.setArray(2, categories);
+		}, rs -> {
+			UUID id = rs.getObject(1, UUID.class);
+			if ("A".equals(rs.getString(2))) {
+				result.accountIds().add(id);
+			} else {
+				result.categoryIds().add(id);
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * Loads the usable categories keyed by lower-cased name, for mapping imported statement lines.
+	 */
+	public Map<String, UUID> findActiveCategoryIdsByName() {
+		Map<String, UUID> result = new HashMap<>();
+		this.jdbcTemplate.query(ACTIVE_CATEGORIES_SQL, rs -> {
+			result.put(rs.getString(2).toLowerCase(Locale.ROOT), rs.getObject(1, UUID.class));
+		});
+		return result;
+	}
+
+	/**
+	 * Returns up to {@code limit} transactions matching the filter, newest first, strictly after the given
+	 * keyset position. Seeking on {@code (created_at, id)} keeps every page an index range scan, however deep.
+	 *
+	 * @param after position of the last row of the previous page, or {@code null} for the first page
+	 */
+	public List<TransactionView> findPage(TransactionFilter filter, Cursors.Position after, int limit) {
+		StringBuilder sql = new StringBuilder(SELECT_SQL);
+		List<Object> args = new ArrayList<>();
+		if (filter.accountId() != null) {
+			sql.append(" and account_id = ?");
+			args.add(filter.accountId());
+		}
+		if (filter.categoryId() != null) {
+			sql.append(" and category_id = ?");
+			args.add(filter.categoryId());
+		}
+		if (filter.type() != null) {
+			sql.append(" and type = ?");
+			args.add(filter.type().name());
+		}
+		if (filter.from() != null) {
+			sql.append(" and created_at >= ?");
+			args.add(filter.from().atOffset(ZoneOffset.UTC));
+		}
+		if (filter.to() != null) {
+			sql.append(" and created_at < ?");
+			args.add(filter.to().atOffset(ZoneOffset.UTC));
+		}
+		if (after != null) {
+			// the plain bound is implied by the row comparison, but only the plain one lets the planner prune partitions
+			sql.append(" and created_at <= ? and (created_at, id) < (?, ?)");
+			args.add(after.createdAt().atOffset(ZoneOffset.UTC));
+			args.add(after.createdAt().atOffset(ZoneOffset.UTC));
+			args.add(after.id());
+		}
+		sql.append(" order by created_at desc, id desc limit ?");
+		args.add(limit);
+
+		return this.jdbcTemplate.query(sql.toString(), VIEW_MAPPER, args.toArray());
+	}
+
+	public record ActiveIds(Set<UUID> accountIds, Set<UUID> categoryIds) {
+	}
+}
@@ -16,8 +16,11 @@
 
 package com.nestegg.portfolio.management.api.services;
 
+import com.nestegg.portfolio.management.api.dto.AccountBulkCreate;
+import com.nestegg.portfolio.management.api.dto.AccountBulkUpdate;
 import com.nestegg.portfolio.management.api.dto.AccountCreate;
 import com.nestegg.portfolio.management.api.dto.ApiRes;
+import com.nestegg.portfolio.management.api.dto.BulkIds;
 
 /**
  * Service interface for managing accounts.
@@ -64,4 +67,36 @@ public interface AccountService {
 	 * @return an {@link ApiRes} indicating the result of the operation
 	 */
 	ApiRes deleteAccountById(String id);
+
+	/**
+	 * Creates many accounts with a constant number of database round trips.
+	 *
+	 * @param req the accounts to create
+	 * @return an {@link ApiRes} containing the result of each item
+	 */
+	ApiRes createAccounts(AccountBulkCreate req);
+
+	/**
+	 * Updates many accounts with a constant number of database round trips.
+	 *
+	 * @param req the accounts to update, each with its ID
+	 * @return an {@link ApiRes} containing the result of each item
+	 */
+	ApiRes updateAccounts(AccountBulkUpdate req);
+
+	/**
+	 * Toggles the active status of many accounts.
+	 *
+	 * @param req the IDs of the accounts to update
+	 * @return an {@link ApiRes} containing the result of each item
+	 */
+	ApiRes updateAccountsStatus(BulkIds req);
+
+	/**
+	 * Marks many accounts as deleted.
+	 *
+	 * @param req the IDs of the accounts to delete
+	 * @return an {@link ApiRes} containing the result of each item
+	 */
+	ApiRes deleteAccounts(BulkIds req);
 }
\ No newline at end of file
@@ -0,0 +1,63 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.services;
+
+import com.nestegg.portfolio.management.api.dto.ApiRes;
+
+import java.time.YearMonth;
+
+/**
+ * Service interface for portfolio analytics, answered from the monthly rollups.
+ */
+public interface AnalyticsService {
+
+	/**
+	 * Retrieves the combined balance of all accounts at the end of each month in the range, one series per
+	 * currency.
+	 *
+	 * @param from the first month, inclusive
+	 * @param to   the last month, inclusive
+	 * @return an {@link ApiRes} containing one point per month
+	 */
+	ApiRes getNetWorth(YearMonth from, YearMonth to);
+
+	/**
+	 * Retrieves income and expense totals across all accounts for each month in the range, one series per
+	 * currency that has any in the range.
+	 *
+	 * @param from the first month, inclusive
+	 * @param to   the last month, inclusive
+	 * @return an {@link ApiRes} containing one point per month
+	 */
+	ApiRes getCashFlow(YearMonth from, YearMonth to);
+
+	/**
+	 * Retrieves the expenses of the range grouped by category and currency, largest first within a currency.
+	 *
+	 * @param from the first month, inclusive
+	 * @param to   the last month, inclusive
+	 * @return an {@link ApiRes} containing the spending per category
+	 */
+	ApiRes getSpendingByCategory(YearMonth from, YearMonth to);
+
+	/**
+	 * Starts rebuilding all rollups from the raw transactions in the background.
+	 *
+	 * @return an {@link ApiRes} indicating whether the rebuild was started
+	 */
+	ApiRes rebuildRollups();
+}
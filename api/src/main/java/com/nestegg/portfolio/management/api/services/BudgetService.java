@@ -0,0 +1,45 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package com.nestegg.portfolio.management.api.services;
+
+import com.nestegg.portfolio.management.api.dto.ApiRes;
+import com.nestegg.portfolio.management.api.dto.BudgetCreate;
+
+/**
+ * Service interface for managing category budgets.
+ */
+public interface BudgetService {
+
+	/**
+	 * Creates the budget of a category, or updates its amount and period if it already has one.
+	 *
+	 * @param categoryId the ID of the category
+	 * @param req        the budget details
+	 * @return an {@link ApiRes} indicating the result of the operation
+	 */
+	ApiRes saveBudget(String categoryId, BudgetCreate req);
+
+	/**
+	 * Retrieves the budget of a category with the spending of its current period. Only expenses from accounts in the
+	 * budget's currency are counted; there is no conversion between currencies.
+	 *
+	 * @param categoryId the ID of the category
+	 * @return an {@link ApiRes} containing the budget details if found
+	 */
+	ApiRes getBudget(String categoryId);
+}
@@ -17,6 +17,9 @@
 package com.nestegg.portfolio.management.api.services;
 
 import com.nestegg.portfolio.management.api.dto.ApiRes;
+import com.nestegg.portfolio.management.api.dto.BulkIds;
+import com.nestegg.portfolio.management.api.dto.CategoryBulkCreate;
+import com.nestegg.portfolio.management.api.dto.CategoryBulkUpdate;
 import com.nestegg.portfolio.management.api.dto.CategoryCreate;
 
 /**
@@ -71,4 +74,36 @@ public interface CategoryService {
 	 * @return an {@link ApiRes} containing a list of all categories
 	 */
 	ApiRes getAllCategories();
+
+	/**
+	 * Creates many categories with a constant number of database round trips.
+	 *
+	 * @param req the categories to create
+	 * @return an {@link ApiRes} containing the result of each item
+	 */
+	ApiRes createCategories(CategoryBulkCreate req);
+
+	/**
+	 * Updates many categories with a constant number of database round trips.
+	 *
+	 * @param req the categories to update, each with its ID
+	 * @return an {@link ApiRes} containing the result of each item
+	 */
+	ApiRes updateCategories(CategoryBulkUpdate req);
+
+	/**
+	 * Toggles the active status of many categories. Deleted categories are reported as not found.
+	 *
+	 * @param req the IDs of the categories to update
+	 * @return an {@link ApiRes} containing the result of each item
+	 */
+	ApiRes updateCategoriesStatus(BulkIds req);
+
+	/**
+	 * Marks many categories as deleted.
+	 *
+	 * @param req the IDs of the categories to delete
+	 * @return an {@link ApiRes} containing the result of each item
+	 */
+	ApiRes deleteCategories(BulkIds req);
 }
\ No newline at end of file
@@ -0,0 +1,37 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.services;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+/**
+ * Service interface for streaming change events to clients.
+ */
+public interface ChangeEventService {
+
+	/**
+	 * Opens a server-sent events stream of the change events relayed by this instance from now on. Delivery is best
+	 * effort: events relayed before the stream opened, or while it was closed, are not replayed, and an event may be
+	 * sent twice with the same id.
+	 *
+	 * @param aggregates the aggregate types to receive, or empty for all of them
+	 * @return the stream; each event carries the outbox {@code seq} as id and the change type as name
+	 */
+	SseEmitter subscribe(List<String> aggregates);
+}
@@ -0,0 +1,35 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.services;
+
+import com.nestegg.portfolio.management.api.dto.ChangeEvent;
+
+import java.util.List;
+
+/**
+ * Destination of the change events relayed from the outbox. Every sink bean receives every batch.
+ */
+public interface ChangeEventSink {
+
+	/**
+	 * Publishes one batch of events, ordered by {@code seq}. Throwing puts the whole batch back into the outbox
+	 * and it is published again, to every sink, by a later relay run; delivery is at least once.
+	 *
+	 * @param events the events, never empty
+	 */
+	void publish(List<ChangeEvent> events);
+}
@@ -0,0 +1,49 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package com.nestegg.portfolio.management.api.services;
+
+import com.nestegg.portfolio.management.api.dto.ApiRes;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Service interface for point-in-time account balances.
+ */
+public interface LedgerService {
+
+	/**
+	 * Retrieves the balance of an account at a given instant.
+	 *
+	 * @param accountId the ID of the account
+	 * @param at        the instant to evaluate the balance at
+	 * @return an {@link ApiRes} containing the balance if the account exists
+	 */
+	ApiRes getBalanceAt(String accountId, Instant at);
+
+	/**
+	 * Retrieves the closing balances of an account between two days, one point per step.
+	 *
+	 * @param accountId the ID of the account
+	 * @param from      the first day, inclusive
+	 * @param to        the last day, inclusive
+	 * @param step      the distance between points, one of {@code DAILY}, {@code WEEKLY}, {@code MONTHLY} or {@code YEARLY}
+	 * @return an {@link ApiRes} containing the list of balance points
+	 */
+	ApiRes getBalanceHistory(String accountId, LocalDate from, LocalDate to, String step);
+}
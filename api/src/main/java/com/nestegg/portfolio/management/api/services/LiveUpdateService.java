@@ -0,0 +1,43 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.services;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Service interface for pushing balance and budget changes to clients instead of having them poll.
+ */
+public interface LiveUpdateService {
+
+	/**
+	 * Opens a server-sent events stream of an account's current balance. The current value is sent right away,
+	 * then a new one whenever the balance changes; rapid changes are coalesced into the latest value.
+	 *
+	 * @param accountId the ID of the account
+	 * @return the stream of {@code balance} events
+	 */
+	SseEmitter streamAccount(String accountId);
+
+	/**
+	 * Opens a server-sent events stream of the budget of a category. The current value is sent right away, then a
+	 * new one whenever its spent or remaining amount changes; rapid changes are coalesced into the latest value.
+	 *
+	 * @param categoryId the ID of the category
+	 * @return the stream of {@code budget} events
+	 */
+	SseEmitter streamBudget(String categoryId);
+}
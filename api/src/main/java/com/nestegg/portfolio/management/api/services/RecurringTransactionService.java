@@ -0,0 +1,51 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.services;
+
+import com.nestegg.portfolio.management.api.dto.ApiRes;
+import com.nestegg.portfolio.management.api.dto.RecurringTransactionCreate;
+
+/**
+ * Service interface for managing recurring transactions.
+ */
+public interface RecurringTransactionService {
+
+	/**
+	 * Creates a recurrence rule. Its first occurrence is due at {@code startsAt}, or now if it is not given;
+	 * occurrences in the past are created by the next run of the recurring transaction job.
+	 *
+	 * @param req the rule details
+	 * @return an {@link ApiRes} containing the id of the rule
+	 */
+	ApiRes createRecurringTransaction(RecurringTransactionCreate req);
+
+	/**
+	 * Retrieves a recurrence rule with the time its next occurrence is due.
+	 *
+	 * @param id the ID of the rule
+	 * @return an {@link ApiRes} containing the rule if found
+	 */
+	ApiRes getRecurringTransaction(String id);
+
+	/**
+	 * Deletes a recurrence rule. Transactions it already created are kept.
+	 *
+	 * @param id the ID of the rule
+	 * @return an {@link ApiRes} indicating the result of the operation
+	 */
+	ApiRes deleteRecurringTransaction(String id);
+}
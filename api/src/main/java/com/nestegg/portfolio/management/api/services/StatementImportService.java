@@ -0,0 +1,55 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package com.nestegg.portfolio.management.api.services;
+
+import com.nestegg.portfolio.management.api.dto.ApiRes;
+
+import java.io.InputStream;
+
+/**
+ * Service interface for importing bank statements as transactions.
+ */
+public interface StatementImportService {
+
+	/**
+	 * Streams a statement into transactions of the given account. The body is parsed and written
+	 * incrementally, so memory use does not depend on the statement size.
+	 *
+	 * @param accountId  the ID of the account the statement belongs to
+	 * @param format     the statement format, {@code CSV} or {@code OFX}
+	 * @param categoryId the ID of the category used for lines without a known category, may be {@code null}
+	 * @param body       the raw statement
+	 * @return an {@link ApiRes} containing the final import counts
+	 */
+	ApiRes importStatement(String accountId, String format, String categoryId, InputStream body);
+
+	/**
+	 * Retrieves the progress of a running or recently finished import.
+	 *
+	 * @param id the ID of the import
+	 * @return an {@link ApiRes} containing the import progress if found
+	 */
+	ApiRes getImport(String id);
+
+	/**
+	 * Retrieves the progress of all running and recently finished imports.
+	 *
+	 * @return an {@link ApiRes} containing a list of import progresses
+	 */
+	ApiRes getImports();
+}
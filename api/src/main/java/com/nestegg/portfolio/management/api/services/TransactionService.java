@@ -0,0 +1,62 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package com.nestegg.portfolio.management.api.services;
+
+import com.nestegg.portfolio.management.api.dto.ApiRes;
+import com.nestegg.portfolio.management.api.dto.TransactionBatchCreate;
+import com.nestegg.portfolio.management.api.dto.TransferCreate;
+import com.nestegg.portfolio.management.api.entities.TransactionType;
+
+import java.time.Instant;
+
+/**
+ * Service interface for managing transactions.
+ */
+public interface TransactionService {
+
+	/**
+	 * Creates a batch of transactions and applies their net effect to the account balances.
+	 *
+	 * @param req the batch containing the transactions to create
+	 * @return an {@link ApiRes} indicating the result of the operation
+	 */
+	ApiRes createTransactions(TransactionBatchCreate req);
+
+	/**
+	 * Moves money from one account to another atomically, recording a transfer transaction on each side.
+	 *
+	 * @param req the transfer details
+	 * @return an {@link ApiRes} containing the ids of the debit and credit transactions
+	 */
+	ApiRes createTransfer(TransferCreate req);
+
+	/**
+	 * Lists transactions newest first, one keyset page at a time. All filters are optional.
+	 *
+	 * @param accountId  only transactions of this account
+	 * @param categoryId only transactions of this category
+	 * @param type       only transactions of this type
+	 * @param from       only transactions created at or after this instant
+	 * @param to         only transactions created before this instant
+	 * @param cursor     the cursor returned with the previous page, or {@code null} for the first page
+	 * @param size       the maximum number of transactions in the page
+	 * @return an {@link ApiRes} containing the page and the cursor of the next one
+	 */
+	ApiRes getTransactions(String accountId, String categoryId, TransactionType type, Instant from, Instant to,
+						   String cursor, int size);
+}
@@ -16,20 +16,27 @@
 
 package com.nestegg.portfolio.management.api.services.impl;
 
-import com.nestegg.portfolio.management.api.dto.AccountCreate;
-import com.nestegg.portfolio.management.api.dto.AccountView;
-import com.nestegg.portfolio.management.api.dto.ApiRes;
+import com.nestegg.portfolio.management.api.dto.*;
 import com.nestegg.portfolio.management.api.entities.Account;
 import com.nestegg.portfolio.management.api.entities.AccountType;
+import com.nestegg.portfolio.management.api.entities.AggregateType;
+import com.nestegg.portfolio.management.api.entities.ChangeType;
+import com.nestegg.portfolio.management.api.exceptions.ResourceNotFoundException;
+import com.nestegg.portfolio.management.api.repositories.AccountJdbcRepository;
+import com.nestegg.portfolio.management.api.repositories.AccountJdbcRepository.AccountRow;
 import com.nestegg.portfolio.management.api.repositories.AccountRepository;
 import com.nestegg.portfolio.management.api.services.AccountService;
+import com.nestegg.portfolio.management.api.utils.Money;
 import com.nestegg.portfolio.management.api.utils.StringValidators;
+import com.nestegg.portfolio.management.api.utils.Uuids;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 
-import java.math.BigInteger;
-import java.util.Map;
+import java.util.*;
 
 @Service
 public class AccountServiceImpl implements AccountService {
@@ -37,11 +44,19 @@ public class AccountServiceImpl implements AccountService {
 	private static final Logger LOGGER = LoggerFactory.getLogger(AccountServiceImpl.class);
 
 	private final AccountRepository accountRepository;
+	private final AccountJdbcRepository accountJdbcRepository;
 	private final CommonService commonService;
+	private final HotBalanceStore hotBalanceStore;
+	private final String defaultCurrency;
 
-	public AccountServiceImpl(AccountRepository accountRepository, CommonService commonService) {
+	public AccountServiceImpl(AccountRepository accountRepository, AccountJdbcRepository accountJdbcRepository,
+							  CommonService commonService, HotBalanceStore hotBalanceStore,
+							  @Value("${nestegg.money.default-currency:USD}") String defaultCurrency) {
 		this.accountRepository = accountRepository;
+		this.accountJdbcRepository = accountJdbcRepository;
 		this.commonService = commonService;
+		this.hotBalanceStore = hotBalanceStore;
+		this.defaultCurrency = defaultCurrency;
 	}
 
 	@Override
@@ -53,20 +68,27 @@ public class AccountServiceImpl implements AccountService {
 			return ApiRes.badRequest("Account name and branch must not be null or blank");
 		}
 
-		if (this.accountRepository.existsByName(req.name())) {
-			LOGGER.warn("Account creation failed. Account with name {} already exists.", req.name());
-			return ApiRes.conflict("Account with the same name already exists");
-		}
-		BigInteger balance = req.initialBalance() != null ? req.initialBalance() : BigInteger.valueOf(0);
-
+		long balance = req.initialBalance() != null ? req.initialBalance() : 0L;
 
 		var newAccount = Account.builder().name(req.name())
-				.type(AccountType.valueOf(req.type()))
+				.type(req.type())
 				.branch(req.branch())
+				.currency(Money.currency(req.currency(), this.defaultCurrency))
 				.currentBalance(balance)
 				.initialBalance(balance).build();
 
-		var createdAccount = this.accountRepository.save(newAccount);
+		Account createdAccount;
+		try {
+			// the unique constraint on name is the uniqueness check; flush so a violation surfaces here
+			createdAccount = this.commonService.saveRecorded(AggregateType.ACCOUNT, ChangeType.CREATED,
+					() -> this.accountRepository.saveAndFlush(newAccount));
+		} catch (DataIntegrityViolationException e) {
+			if (!CommonService.violatesUnique(e, "uk_account_name")) {
+				throw e;
+			}
+			LOGGER.warn("Account creation failed. Account with name {} already exists.", req.name());
+			return ApiRes.conflict("Account with the same name already exists");
+		}
 		LOGGER.info("Created new account name {} id {}", createdAccount.getName(), createdAccount.getId());
 		return ApiRes.created(
 				"Account created successfully", Map.of(
@@ -77,21 +99,33 @@ public class AccountServiceImpl implements AccountService {
 
 	@Override
 	public ApiRes updateAccount(AccountCreate req, String id) {
-		Account account = commonService.getAccount(id);
-
-		if (account.getIsDeleted() || !account.getIsActive()) {
-			return ApiRes.badRequest("Cannot update a deleted account or an inactive account");
+		String invalid = validate(req.name(), req.branch(), req.type());
+		if (invalid != null) {
+			LOGGER.warn("Account update failed. {}", invalid);
+			return ApiRes.badRequest(invalid);
 		}
 
-		if (accountRepository.existsByName(req.name())) {
-			return ApiRes.conflict("Account with the same name already exists");
+		Account account = commonService.getAccount(id);
+
+		if (!account.getIsActive()) {
+			return ApiRes.badRequest("Cannot update an inactive account");
 		}
 
-		account.setType(AccountType.valueOf(req.type()));
+		account.setType(req.type());
 		account.setBranch(req.branch());
 		account.setName(req.name());
 
-		this.accountRepository.save(account);
+		try {
+			this.commonService.saveRecorded(AggregateType.ACCOUNT, ChangeType.UPDATED,
+					() -> this.accountRepository.saveAndFlush(account));
+		} catch (DataIntegrityViolationException e) {
+			if (!CommonService.violatesUnique(e, "uk_account_name")) {
+				throw e;
+			}
+			LOGGER.warn("Account update failed. Account with name {} already exists.", req.name());
+			return ApiRes.conflict("Account with the same name already exists");
+		}
+		this.commonService.evictAccount(account.getId());
 
 		return ApiRes.ok("Account updated successfully");
 	}
@@ -100,12 +134,10 @@ public class AccountServiceImpl implements AccountService {
 	public ApiRes updateAccount(String id) {
 		LOGGER.info("Toggling account status with id: {}", id);
 		Account account = commonService.getAccount(id);
-		if (account.getIsDeleted()) {
-			return ApiRes.badRequest("Cannot update a deleted account");
-		}
-
 		account.setIsActive(!account.getIsActive());
-		this.accountRepository.save(account);
+		this.commonService.saveRecorded(AggregateType.ACCOUNT, ChangeType.STATUS_CHANGED,
+				() -> this.accountRepository.saveAndFlush(account));
+		this.commonService.evictAccount(account.getId());
 
 		LOGGER.info("Toggled account status with id: {}. New status isActive={}", id, account.getIsActive());
 		return ApiRes.ok("Account status updated successfully");
@@ -113,12 +145,10 @@ public class AccountServiceImpl implements AccountService {
 
 	@Override
 	public ApiRes getAccountById(String id) {
-		Account account = commonService.getAccount(id);
-
-		AccountView view = new AccountView(
-				account.getId().toString(), account.getName(), account.getType().name(),
-				account.getBranch(), account.getCurrentBalance(), account.getIsActive(), account.getIsDeleted()
-		);
+		AccountView view = commonService.getAccountView(id);
+		if (this.hotBalanceStore.isEnabled()) {
+			view = view.toBuilder().balance(this.hotBalanceStore.balance(UUID.fromString(view.id()))).build();
+		}
 
 		return ApiRes.ok("Account existed", view);
 	}
@@ -126,10 +156,155 @@ public class AccountServiceImpl implements AccountService {
 	@Override
 	public ApiRes deleteAccountById(String id) {
 		LOGGER.info("Deleting account with id: {}", id);
-		Account account = commonService.getAccount(id);
-		account.setIsDeleted(true);
-		this.accountRepository.save(account);
+		UUID uuid = StringValidators.tryParseUUID(id);
+		if (uuid == null || this.commonService.writeRecorded(AggregateType.ACCOUNT, ChangeType.DELETED,
+				() -> this.accountRepository.softDeleteById(uuid) == 0 ? Set.of() : Set.of(uuid)).isEmpty()) {
+			throw new ResourceNotFoundException("Account with id %s not found".formatted(id));
+		}
+		this.commonService.evictAccount(uuid);
 		LOGGER.info("Deleted account with id: {}", id);
 		return ApiRes.accepted("Account deleted successfully");
 	}
+
+	@Override
+	public ApiRes createAccounts(AccountBulkCreate req) {
+		List<AccountCreate> items = req.accounts();
+		LOGGER.info("Creating {} accounts in bulk", items.size());
+		BulkItemResult[] results = new BulkItemResult[items.size()];
+
+		Map<String, Integer> byName = new LinkedHashMap<>();
+		String[] currencies = new String[items.size()];
+		for (int i = 0; i < items.size(); i++) {
+			AccountCreate item = items.get(i);
+			String invalid = item == null ? "Account must not be null" : validate(item.name(), item.branch(), item.type());
+			if (invalid == null) {
+				currencies[i] = Money.tryCurrency(item.currency(), this.defaultCurrency);
+				invalid = currencies[i] == null ? "Unknown currency: " + item.currency() : null;
+			}
+			if (invalid != null) {
+				results[i] = BulkItemResult.badRequest(i, null, invalid);
+			} else if (byName.putIfAbsent(item.name(), i) != null) {
+				results[i] = BulkItemResult.conflict(i, null, "Duplicate account name in request");
+			}
+		}
+
+		Map<String, UUID> taken = this.accountJdbcRepository.findIdsByName(byName.keySet());
+		List<AccountRow> rows = new ArrayList<>();
+		List<Integer> indexes = new ArrayList<>();
+		byName.forEach((name, i) -> {
+			if (taken.containsKey(name)) {
+				results[i] = BulkItemResult.conflict(i, null, "Account with the same name already exists");
+				return;
+			}
+			AccountCreate item = items.get(i);
+			long balance = item.initialBalance() != null ? item.initialBalance() : 0L;
+			rows.add(new AccountRow(Uuids.timeOrdered(), name, item.type().name(), item.branch(), balance,
+					currencies[i]));
+			indexes.add(i);
+		});
+
+		Set<UUID> inserted = this.commonService.writeRecorded(AggregateType.ACCOUNT, ChangeType.CREATED,
+				() -> this.accountJdbcRepository.insertAll(rows));
+		for (int r = 0; r < rows.size(); r++) {
+			int i = indexes.get(r);
+			UUID id = rows.get(r).id();
+			results[i] = inserted.contains(id)
+					? BulkItemResult.created(i, id.toString())
+					: BulkItemResult.conflict(i, null, "Account with the same name already exists");
+		}
+
+		BulkResult result = BulkResult.of(results);
+		LOGGER.info("Bulk account creation finished: {} created, {} failed", result.succeeded(), result.failed());
+		return ApiRes.ok("Bulk account creation processed", result);
+	}
+
+	@Override
+	public ApiRes updateAccounts(AccountBulkUpdate req) {
+		List<AccountUpdate> items = req.accounts();
+		LOGGER.info("Updating {} accounts in bulk", items.size());
+		BulkItemResult[] results = new BulkItemResult[items.size()];
+
+		Map<String, Integer> byName = new LinkedHashMap<>();
+		Set<UUID> seenIds = new HashSet<>();
+		UUID[] ids = new UUID[items.size()];
+		for (int i = 0; i < items.size(); i++) {
+			AccountUpdate item = items.get(i);
+			ids[i] = item == null ? null : StringValidators.tryParseUUID(item.id());
+			String invalid = ids[i] == null ? "Invalid UUID format" : validate(item.name(), item.branch(), item.type());
+			if (invalid != null) {
+				results[i] = BulkItemResult.badRequest(i, item == null ? null : item.id(), invalid);
+			} else if (!seenIds.add(ids[i])) {
+				results[i] = BulkItemResult.badRequest(i, item.id(), "Duplicate id in request");
+			} else if (byName.putIfAbsent(item.name(), i) != null) {
+				results[i] = BulkItemResult.conflict(i, item.id(), "Duplicate account name in request");
+			}
+		}
+
+		Map<String, UUID> taken = this.accountJdbcRepository.findIdsByName(byName.keySet());
+		List<AccountRow> rows = new ArrayList<>();
+		List<Integer> indexes = new ArrayList<>();
+		byName.forEach((name, i) -> {
+			UUID owner = taken.get(name);
+			if (owner != null && !owner.equals(ids[i])) {
+				results[i] = BulkItemResult.conflict(i, ids[i].toString(), "Account with the same name already exists");
+				return;
+			}
+			AccountUpdate item = items.get(i);
+			rows.add(new AccountRow(ids[i], name, item.type().name(), item.branch(), 0L, null));
+			indexes.add(i);
+		});
+
+		Set<UUID> updated;
+		try {
+			updated = this.commonService.writeRecorded(AggregateType.ACCOUNT, ChangeType.UPDATED,
+					() -> this.accountJdbcRepository.updateAll(rows));
+		} catch (DuplicateKeyException e) {
+			LOGGER.warn("Bulk account update lost a race on account names", e);
+			for (int i : indexes) {
+				results[i] = BulkItemResult.conflict(i, ids[i].toString(), "Account name was taken concurrently, retry the item");
+			}
+			return ApiRes.ok("Bulk account update processed", BulkResult.of(results));
+		}
+
+		for (int i : indexes) {
+			results[i] = updated.contains(ids[i])
+					? BulkItemResult.ok(i, ids[i].toString())
+					: BulkItemResult.notFound(i, ids[i].toString(), "Account not found, inactive or deleted");
+		}
+		this.commonService.evictAccounts(updated);
+
+		BulkResult result = BulkResult.of(results);
+		LOGGER.info("Bulk account update finished: {} updated, {} failed", result.succeeded(), result.failed());
+		return ApiRes.ok("Bulk account update processed", result);
+	}
+
+	@Override
+	public ApiRes updateAccountsStatus(BulkIds req) {
+		LOGGER.info("Toggling status of {} accounts in bulk", req.ids().size());
+		BulkItemResult[] results = this.commonService.applyToIds(req.ids(),
+				ids -> this.commonService.writeRecorded(AggregateType.ACCOUNT, ChangeType.STATUS_CHANGED,
+						() -> this.accountJdbcRepository.toggleStatus(ids)),
+				this.commonService::evictAccounts, "Account not found or deleted");
+		return ApiRes.ok("Bulk account status update processed", BulkResult.of(results));
+	}
+
+	@Override
+	public ApiRes deleteAccounts(BulkIds req) {
+		LOGGER.info("Deleting {} accounts in bulk", req.ids().size());
+		BulkItemResult[] results = this.commonService.applyToIds(req.ids(),
+				ids -> this.commonService.writeRecorded(AggregateType.ACCOUNT, ChangeType.DELETED,
+						() -> this.accountJdbcRepository.markDeleted(ids)),
+				this.commonService::evictAccounts, "Account not found or already deleted");
+		return ApiRes.ok("Bulk account deletion processed", BulkResult.of(results));
+	}
+
+	private static String validate(String name, String branch, AccountType type) {
+		if (StringValidators.isNullOrEmpty(name) || StringValidators.isNullOrEmpty(branch)) {
+			return "Account name and branch must not be null or blank";
+		}
+		if (type == null) {
+			return "Account type is incorrect";
+		}
+		return null;
+	}
 }
@@ -0,0 +1,133 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.services.impl;
+
+import com.nestegg.portfolio.management.api.dto.ApiRes;
+import com.nestegg.portfolio.management.api.dto.CashFlowPoint;
+import com.nestegg.portfolio.management.api.dto.CategorySpendView;
+import com.nestegg.portfolio.management.api.dto.NetWorthPoint;
+import com.nestegg.portfolio.management.api.entities.TransactionType;
+import com.nestegg.portfolio.management.api.jobs.RollupBackfillJob;
+import com.nestegg.portfolio.management.api.repositories.RollupJdbcRepository;
+import com.nestegg.portfolio.management.api.services.AnalyticsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+@Service
+public class AnalyticsServiceImpl implements AnalyticsService {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(AnalyticsServiceImpl.class);
+
+	private static final int MAX_MONTHS = 600;
+
+	private final RollupJdbcRepository rollupJdbcRepository;
+	private final RollupBackfillJob rollupBackfillJob;
+
+	public AnalyticsServiceImpl(RollupJdbcRepository rollupJdbcRepository, RollupBackfillJob rollupBackfillJob) {
+		this.rollupJdbcRepository = rollupJdbcRepository;
+		this.rollupBackfillJob = rollupBackfillJob;
+	}
+
+	@Override
+	public ApiRes getNetWorth(YearMonth from, YearMonth to) {
+		String invalid = validateRange(from, to);
+		if (invalid != null) {
+			return ApiRes.badRequest(invalid);
+		}
+
+		Map<String, Long> opening = this.rollupJdbcRepository.findNetWorthBefore(from);
+		Map<String, Map<YearMonth, Long>> nets = this.rollupJdbcRepository.findNetByMonth(from, to);
+
+		Set<String> currencies = new TreeSet<>(opening.keySet());
+		currencies.addAll(nets.keySet());
+		List<NetWorthPoint> points = new ArrayList<>();
+		for (String currency : currencies) {
+			long balance = opening.getOrDefault(currency, 0L);
+			Map<YearMonth, Long> byMonth = nets.getOrDefault(currency, Map.of());
+			for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+				balance = Math.addExact(balance, byMonth.getOrDefault(month, 0L));
+				points.add(new NetWorthPoint(month, currency, balance));
+			}
+		}
+		return ApiRes.ok("Net worth retrieved successfully", points);
+	}
+
+	@Override
+	public ApiRes getCashFlow(YearMonth from, YearMonth to) {
+		String invalid = validateRange(from, to);
+		if (invalid != null) {
+			return ApiRes.badRequest(invalid);
+		}
+
+		Map<String, Map<YearMonth, Map<TransactionType, Long>>> totals =
+				this.rollupJdbcRepository.findCashFlow(from, to);
+
+		List<CashFlowPoint> points = new ArrayList<>();
+		totals.forEach((currency, byMonth) -> {
+			for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+				Map<TransactionType, Long> byType = byMonth.getOrDefault(month, Map.of());
+				long income = byType.getOrDefault(TransactionType.INCOME, 0L);
+				long expense = Math.negateExact(byType.getOrDefault(TransactionType.EXPENSE, 0L));
+				points.add(new CashFlowPoint(month, currency, income, expense, Math.subtractExact(income, expense)));
+			}
+		});
+		return ApiRes.ok("Cash flow retrieved successfully", points);
+	}
+
+	@Override
+	public ApiRes getSpendingByCategory(YearMonth from, YearMonth to) {
+		String invalid = validateRange(from, to);
+		if (invalid != null) {
+			return ApiRes.badRequest(invalid);
+		}
+
+		List<CategorySpendView> spending = this.rollupJdbcRepository.findSpendByCategory(from, to).stream()
+				.map(s -> new CategorySpendView(s.categoryId().toString(), s.name(), s.currency(), s.spent(),
+						s.transactions()))
+				.toList();
+		return ApiRes.ok("Spending by category retrieved successfully", spending);
+	}
+
+	@Override
+	public ApiRes rebuildRollups() {
+		if (!this.rollupBackfillJob.start()) {
+			LOGGER.warn("Rollup rebuild requested while another rebuild is running");
+			return ApiRes.conflict("A rollup rebuild is already running");
+		}
+		LOGGER.info("Rollup rebuild started");
+		return ApiRes.accepted("Rollup rebuild started");
+	}
+
+	private static String validateRange(YearMonth from, YearMonth to) {
+		if (to.isBefore(from)) {
+			return "The end of the range must not be before its start";
+		}
+		if (from.until(to, ChronoUnit.MONTHS) >= MAX_MONTHS) {
+			return "Analytics ranges are limited to %d months".formatted(MAX_MONTHS);
+		}
+		return null;
+	}
+}
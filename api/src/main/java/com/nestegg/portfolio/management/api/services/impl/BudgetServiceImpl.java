@@ -0,0 +1,110 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package com.nestegg.portfolio.management.api.services.impl;
+
+import com.nestegg.portfolio.management.api.dto.ApiRes;
+import com.nestegg.portfolio.management.api.dto.BudgetCreate;
+import com.nestegg.portfolio.management.api.dto.BudgetView;
+import com.nestegg.portfolio.management.api.dto.CategoryView;
+import com.nestegg.portfolio.management.api.entities.AggregateType;
+import com.nestegg.portfolio.management.api.entities.Budget;
+import com.nestegg.portfolio.management.api.entities.Category;
+import com.nestegg.portfolio.management.api.entities.ChangeType;
+import com.nestegg.portfolio.management.api.entities.Period;
+import com.nestegg.portfolio.management.api.exceptions.ResourceNotFoundException;
+import com.nestegg.portfolio.management.api.repositories.BudgetJdbcRepository;
+import com.nestegg.portfolio.management.api.repositories.BudgetRepository;
+import com.nestegg.portfolio.management.api.services.BudgetService;
+import com.nestegg.portfolio.management.api.utils.Money;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.UUID;
+
+@Service
+public class BudgetServiceImpl implements BudgetService {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(BudgetServiceImpl.class);
+
+	private final BudgetRepository budgetRepository;
+	private final BudgetJdbcRepository budgetJdbcRepository;
+	private final CommonService commonService;
+	private final String defaultCurrency;
+
+	public BudgetServiceImpl(BudgetRepository budgetRepository, BudgetJdbcRepository budgetJdbcRepository,
+							 CommonService commonService,
+							 @Value("${nestegg.money.default-currency:USD}") String defaultCurrency) {
+		this.budgetRepository = budgetRepository;
+		this.budgetJdbcRepository = budgetJdbcRepository;
+		this.commonService = commonService;
+		this.defaultCurrency = defaultCurrency;
+	}
+
+	@Override
+	public ApiRes saveBudget(String categoryId, BudgetCreate req) {
+		LOGGER.info("Saving budget for category with id: {}", categoryId);
+		Category category = this.commonService.getCategory(categoryId);
+
+		Period period = req.period();
+		var existing = this.budgetRepository.findByCategoryId(category.getId());
+		if (existing.isPresent()) {
+			Budget budget = existing.get();
+			String currency = Money.currency(req.currency(), budget.getCurrency());
+			boolean rekey = budget.getPeriod() != period || !budget.getCurrency().equals(currency);
+			budget.setAmount(req.amount());
+			budget.setCurrency(currency);
+			budget.setPeriod(period);
+			this.commonService.saveRecorded(AggregateType.BUDGET, ChangeType.UPDATED, () -> {
+				Budget saved = this.budgetRepository.saveAndFlush(budget);
+				if (rekey) {
+					// The flush holds the budget row's lock, so no writer adds spending under the old period now.
+					this.budgetJdbcRepository.resetSpent(saved.getId(), category.getId(), currency,
+							period.startOf(LocalDate.now(ZoneOffset.UTC)));
+				}
+				return saved;
+			});
+			LOGGER.info("Budget with id {} updated successfully.", budget.getId());
+			return ApiRes.ok("Budget updated successfully", Map.of("id", budget.getId().toString()));
+		}
+
+		Budget budget = this.commonService.saveRecorded(AggregateType.BUDGET, ChangeType.CREATED,
+				() -> this.budgetRepository.saveAndFlush(Budget.builder()
+						.category(category).amount(req.amount()).currency(Money.currency(req.currency(), this.defaultCurrency))
+						.spent(0L).remaining(req.amount()).period(period).build()));
+		LOGGER.info("Budget with id {} created successfully.", budget.getId());
+		return ApiRes.created("Budget created successfully", Map.of("id", budget.getId().toString()));
+	}
+
+	@Override
+	public ApiRes getBudget(String categoryId) {
+		CategoryView category = this.commonService.getCategoryView(categoryId);
+		Budget budget = this.budgetRepository.findByCategoryId(UUID.fromString(category.id())).orElseThrow(() ->
+				new ResourceNotFoundException("Budget of category %s not found".formatted(categoryId)));
+
+		LocalDate periodStart = budget.getPeriod().startOf(LocalDate.now(ZoneOffset.UTC));
+		long spent = this.budgetJdbcRepository.findPeriodSpent(budget.getId(), periodStart);
+		BudgetView view = new BudgetView(budget.getId().toString(), categoryId, budget.getAmount(), spent,
+				Math.subtractExact(budget.getAmount(), spent), budget.getCurrency(), budget.getPeriod().name(), periodStart);
+		return ApiRes.ok("Budget retrieved successfully", view);
+	}
+}
@@ -16,47 +16,69 @@
 
 package com.nestegg.portfolio.management.api.services.impl;
 
-import com.nestegg.portfolio.management.api.dto.ApiRes;
-import com.nestegg.portfolio.management.api.dto.CategoryCreate;
-import com.nestegg.portfolio.management.api.dto.CategoryView;
+import com.nestegg.portfolio.management.api.dto.*;
+import com.nestegg.portfolio.management.api.entities.AggregateType;
 import com.nestegg.portfolio.management.api.entities.Category;
+import com.nestegg.portfolio.management.api.entities.ChangeType;
+import com.nestegg.portfolio.management.api.exceptions.ResourceNotFoundException;
+import com.nestegg.portfolio.management.api.repositories.CategoryJdbcRepository;
+import com.nestegg.portfolio.management.api.repositories.CategoryJdbcRepository.CategoryRow;
 import com.nestegg.portfolio.management.api.repositories.CategoryRepository;
 import com.nestegg.portfolio.management.api.services.CategoryService;
 import com.nestegg.portfolio.management.api.utils.StringValidators;
+import com.nestegg.portfolio.management.api.utils.Uuids;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 
-import java.util.Map;
+import java.util.*;
 
 @Service
 public class CategoryServiceImpl implements CategoryService {
 	private static final Logger LOGGER = LoggerFactory.getLogger(CategoryServiceImpl.class);
+	private static final int MAX_NAME_LENGTH = 50;
+	private static final int MAX_DESCRIPTION_LENGTH = 100;
+
 	private final CategoryRepository categoryRepository;
+	private final CategoryJdbcRepository categoryJdbcRepository;
 	private final CommonService commonService;
 
-	public CategoryServiceImpl(CategoryRepository categoryRepository, CommonService commonService) {
+	public CategoryServiceImpl(CategoryRepository categoryRepository, CategoryJdbcRepository categoryJdbcRepository,
+							   CommonService commonService) {
 		this.categoryRepository = categoryRepository;
+		this.categoryJdbcRepository = categoryJdbcRepository;
 		this.commonService = commonService;
 	}
 
 	private boolean isInvalid(CategoryCreate req) {
 		return StringValidators.isNullOrEmpty(req.name())
-				|| StringValidators.isNullOrEmpty(req.description())
-				|| this.categoryRepository.existsByName(req.name());
+				|| StringValidators.isNullOrEmpty(req.description());
 	}
 
 	@Override
 	public ApiRes createCategory(CategoryCreate req) {
 		LOGGER.info("Creating category with name: {}", req.name());
 		if (isInvalid(req)) {
-			LOGGER.warn("Category creation failed. Category name or description is null or blank, or category with name {} already exists.", req.name());
-			return ApiRes.badRequest("Category name and description must not be null or blank, and category with the same name must not exist");
+			LOGGER.warn("Category creation failed. Category name or description is null or blank.");
+			return ApiRes.badRequest("Category name and description must not be null or blank");
 		}
 
 		Category category = Category.builder()
 				.name(req.name()).description(req.description()).build();
-		Category newCate = this.categoryRepository.save(category);
+		Category newCate;
+		try {
+			// the unique constraint on name is the uniqueness check; flush so a violation surfaces here
+			newCate = this.commonService.saveRecorded(AggregateType.CATEGORY, ChangeType.CREATED,
+					() -> this.categoryRepository.saveAndFlush(category));
+		} catch (DataIntegrityViolationException e) {
+			if (!CommonService.violatesUnique(e, "uk_category_name")) {
+				throw e;
+			}
+			LOGGER.warn("Category creation failed. Category with name {} already exists.", req.name());
+			return ApiRes.conflict("Category with the same name already exists");
+		}
 		LOGGER.info("Category with id {} created successfully.", newCate.getId());
 		return ApiRes.created("Category created successfully", Map.of("id", newCate.getId().toString()));
 	}
@@ -66,15 +88,26 @@ public class CategoryServiceImpl implements CategoryService {
 		LOGGER.info("Updating category with id: {}", id);
 
 		if (isInvalid(req)) {
-			LOGGER.warn("Category update failed. Category name or description is null or blank, or category with name {} already exists.", req.name());
-			return ApiRes.badRequest("Category name and description must not be null or blank, and category with the same name must not exist");
+			LOGGER.warn("Category update failed. Category name or description is null or blank.");
+			return ApiRes.badRequest("Category name and description must not be null or blank");
 		}
 
 		Category category = this.commonService.getCategory(id);
 		category.setName(req.name());
 		category.setDescription(req.description());
 
-		Category updatedCate = this.categoryRepository.save(category);
+		Category updatedCate;
+		try {
+			updatedCate = this.commonService.saveRecorded(AggregateType.CATEGORY, ChangeType.UPDATED,
+					() -> this.categoryRepository.saveAndFlush(category));
+		} catch (DataIntegrityViolationException e) {
+			if (!CommonService.violatesUnique(e, "uk_category_name")) {
+				throw e;
+			}
+			LOGGER.warn("Category update failed. Category with name {} already exists.", req.name());
+			return ApiRes.conflict("Category with the same name already exists");
+		}
+		this.commonService.evictCategory(updatedCate.getId());
 		LOGGER.info("Category with id {} updated successfully.", updatedCate.getId());
 
 		return ApiRes.ok("Category updated successfully", Map.of("id", updatedCate.getId().toString()));
@@ -84,12 +117,10 @@ public class CategoryServiceImpl implements CategoryService {
 	public ApiRes updateStatusCategory(String id) {
 		LOGGER.info("Updating status of category with id: {}", id);
 		Category category = this.commonService.getCategory(id);
-		if (category.getIsDeleted()) {
-			return ApiRes.badRequest("Cannot update status of a deleted category");
-		}
-
 		category.setIsActive(!category.getIsActive());
-		Category updatedCate = this.categoryRepository.save(category);
+		Category updatedCate = this.commonService.saveRecorded(AggregateType.CATEGORY, ChangeType.STATUS_CHANGED,
+				() -> this.categoryRepository.saveAndFlush(category));
+		this.commonService.evictCategory(updatedCate.getId());
 		LOGGER.info("Category with id {} status updated successfully to {}.", updatedCate.getId(), updatedCate.getIsActive());
 		return ApiRes.ok("Category status updated successfully", Map.of("id", updatedCate.getId().toString(), "isActive", updatedCate.getIsActive()));
 	}
@@ -97,22 +128,20 @@ public class CategoryServiceImpl implements CategoryService {
 	@Override
 	public ApiRes deleteCategory(String id) {
 		LOGGER.info("Deleting category with id: {}", id);
-		Category category = this.commonService.getCategory(id);
-		if (category.getIsDeleted()) {
-			return ApiRes.badRequest("Category is already deleted");
+		UUID uuid = StringValidators.tryParseUUID(id);
+		if (uuid == null || this.commonService.writeRecorded(AggregateType.CATEGORY, ChangeType.DELETED,
+				() -> this.categoryRepository.softDeleteById(uuid) == 0 ? Set.of() : Set.of(uuid)).isEmpty()) {
+			throw new ResourceNotFoundException("Category with id %s not found".formatted(id));
 		}
-		category.setIsDeleted(true);
-		Category deletedCate = this.categoryRepository.save(category);
-		LOGGER.info("Category with id {} marked as deleted successfully.", deletedCate.getId());
+		this.commonService.evictCategory(uuid);
+		LOGGER.info("Category with id {} marked as deleted successfully.", id);
 		return ApiRes.accepted("Category deleted successfully");
 	}
 
 	@Override
 	public ApiRes getCategoryById(String id) {
 		LOGGER.info("Retrieving category with id: {}", id);
-		Category category = this.commonService.getCategory(id);
-
-		CategoryView view = new CategoryView(category.getId().toString(), category.getName(), category.getDescription(), category.getIsActive(), category.getIsDeleted());
+		CategoryView view = this.commonService.getCategoryView(id);
 
 		return ApiRes.ok("Category retrieved successfully", view);
 	}
@@ -122,4 +151,138 @@ public class CategoryServiceImpl implements CategoryService {
 		//TODO: will be implemented later when the authentication is done
 		return null;
 	}
+
+	@Override
+	public ApiRes createCategories(CategoryBulkCreate req) {
+		List<CategoryCreate> items = req.categories();
+		LOGGER.info("Creating {} categories in bulk", items.size());
+		BulkItemResult[] results = new BulkItemResult[items.size()];
+
+		Map<String, Integer> byName = new LinkedHashMap<>();
+		for (int i = 0; i < items.size(); i++) {
+			CategoryCreate item = items.get(i);
+			String invalid = item == null ? "Category must not be null" : validate(item.name(), item.description());
+			if (invalid != null) {
+				results[i] = BulkItemResult.badRequest(i, null, invalid);
+			} else if (byName.putIfAbsent(item.name(), i) != null) {
+				results[i] = BulkItemResult.conflict(i, null, "Duplicate category name in request");
+			}
+		}
+
+		Map<String, UUID> taken = this.categoryJdbcRepository.findIdsByName(byName.keySet());
+		List<CategoryRow> rows = new ArrayList<>();
+		List<Integer> indexes = new ArrayList<>();
+		byName.forEach((name, i) -> {
+			if (taken.containsKey(name)) {
+				results[i] = BulkItemResult.conflict(i, null, "Category with the same name already exists");
+				return;
+			}
+			rows.add(new CategoryRow(Uuids.timeOrdered(), name, items.get(i).description()));
+			indexes.add(i);
+		});
+
+		Set<UUID> inserted = this.commonService.writeRecorded(AggregateType.CATEGORY, ChangeType.CREATED,
+				() -> this.categoryJdbcRepository.insertAll(rows));
+		for (int r = 0; r < rows.size(); r++) {
+			int i = indexes.get(r);
+			UUID id = rows.get(r).id();
+			results[i] = inserted.contains(id)
+					? BulkItemResult.created(i, id.toString())
+					: BulkItemResult.conflict(i, null, "Category with the same name already exists");
+		}
+
+		BulkResult result = BulkResult.of(results);
+		LOGGER.info("Bulk category creation finished: {} created, {} failed", result.succeeded(), result.failed());
+		return ApiRes.ok("Bulk category creation processed", result);
+	}
+
+	@Override
+	public ApiRes updateCategories(CategoryBulkUpdate req) {
+		List<CategoryUpdate> items = req.categories();
+		LOGGER.info("Updating {} categories in bulk", items.size());
+		BulkItemResult[] results = new BulkItemResult[items.size()];
+
+		Map<String, Integer> byName = new LinkedHashMap<>();
+		Set<UUID> seenIds = new HashSet<>();
+		UUID[] ids = new UUID[items.size()];
+		for (int i = 0; i < items.size(); i++) {
+			CategoryUpdate item = items.get(i);
+			ids[i] = item == null ? null : StringValidators.tryParseUUID(item.id());
+			String invalid = ids[i] == null ? "Invalid UUID format" : validate(item.name(), item.description());
+			if (invalid != null) {
+				results[i] = BulkItemResult.badRequest(i, item == null ? null : item.id(), invalid);
+			} else if (!seenIds.add(ids[i])) {
+				results[i] = BulkItemResult.badRequest(i, item.id(), "Duplicate id in request");
+			} else if (byName.putIfAbsent(item.name(), i) != null) {
+				results[i] = BulkItemResult.conflict(i, item.id(), "Duplicate category name in request");
+			}
+		}
+
+		Map<String, UUID> taken = this.categoryJdbcRepository.findIdsByName(byName.keySet());
+		List<CategoryRow> rows = new ArrayList<>();
+		List<Integer> indexes = new ArrayList<>();
+		byName.forEach((name, i) -> {
+			UUID owner = taken.get(name);
+			if (owner != null && !owner.equals(ids[i])) {
+				results[i] = BulkItemResult.conflict(i, ids[i].toString(), "Category with the same name already exists");
+				return;
+			}
+			rows.add(new CategoryRow(ids[i], name, items.get(i).description()));
+			indexes.add(i);
+		});
+
+		Set<UUID> updated;
+		try {
+			updated = this.commonService.writeRecorded(AggregateType.CATEGORY, ChangeType.UPDATED,
+					() -> this.categoryJdbcRepository.updateAll(rows));
+		} catch (DuplicateKeyException e) {
+			LOGGER.warn("Bulk category update lost a race on category names", e);
+			for (int i : indexes) {
+				results[i] = BulkItemResult.conflict(i, ids[i].toString(), "Category name was taken concurrently, retry the item");
+			}
+			return ApiRes.ok("Bulk category update processed", BulkResult.of(results));
+		}
+
+		for (int i : indexes) {
+			results[i] = updated.contains(ids[i])
+					? BulkItemResult.ok(i, ids[i].toString())
+					: BulkItemResult.notFound(i, ids[i].toString(), "Category not found or deleted");
+		}
+		this.commonService.evictCategories(updated);
+
+		BulkResult result = BulkResult.of(results);
+		LOGGER.info("Bulk category update finished: {} updated, {} failed", result.succeeded(), result.failed());
+		return ApiRes.ok("Bulk category update processed", result);
+	}
+
+	@Override
+	public ApiRes updateCategoriesStatus(BulkIds req) {
+		LOGGER.info("Toggling status of {} categories in bulk", req.ids().size());
+		BulkItemResult[] results = this.commonService.applyToIds(req.ids(),
+				ids -> this.commonService.writeRecorded(AggregateType.CATEGORY, ChangeType.STATUS_CHANGED,
+						() -> this.categoryJdbcRepository.toggleStatus(ids)),
+				this.commonService::evictCategories, "Category not found or deleted");
+		return ApiRes.ok("Bulk category status update processed", BulkResult.of(results));
+	}
+
+	@Override
+	public ApiRes deleteCategories(BulkIds req) {
+		LOGGER.info("Deleting {} categories in bulk", req.ids().size());
+		BulkItemResult[] results = this.commonService.applyToIds(req.ids(),
+				ids -> this.commonService.writeRecorded(AggregateType.CATEGORY, ChangeType.DELETED,
+						() -> this.categoryJdbcRepository.markDeleted(ids)),
+				this.commonService::evictCategories, "Category not found or already deleted");
+		return ApiRes.ok("Bulk category deletion processed", BulkResult.of(results));
+	}
+
+	private static String validate(String name, String description) {
+		if (StringValidators.isNullOrEmpty(name) || StringValidators.isNullOrEmpty(description)) {
+			return "Category name and description must not be null or blank";
+		}
+		if (name.length() > MAX_NAME_LENGTH || description.length() > MAX_DESCRIPTION_LENGTH) {
+			return "Category name must be at most %d and description at most %d characters"
+					.formatted(MAX_NAME_LENGTH, MAX_DESCRIPTION_LENGTH);
+		}
+		return null;
+	}
 }
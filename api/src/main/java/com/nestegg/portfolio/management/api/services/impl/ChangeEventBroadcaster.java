@@ -0,0 +1,175 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.nestegg.portfolio.management.api.services.impl;
+
+import com.nestegg.portfolio.management.api.dto.ChangeEvent;
+import com.nestegg.portfolio.management.api.entities.AggregateType;
+import com.nestegg.portfolio.management.api.exceptions.StreamLimitExceededException;
+import com.nestegg.portfolio.management.api.services.ChangeEventService;
+import com.nestegg.portfolio.management.api.services.ChangeEventSink;
+import com.nestegg.portfolio.management.api.utils.EnumResolver;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process sink that fans the relayed events out to the open server-sent events streams. The outbox is drained by
+ * whichever instance's relay gets to it first, so with several application instances a stream only carries the
+ * events relayed by its own instance; consumers that need every event read them from an external sink.
+ * <p>
+ * The relay only queues the events: each stream has a bounded queue that a virtual thread drains while it is not
+ * empty, so a slow client never holds up the relay's database transaction. A stream that falls more than
+ * {@code nestegg.outbox.sse-queue-capacity} events behind is closed rather than left with a gap in the middle.
+ * <p>
+ * The streams are lossy all the same: events relayed while a client is disconnected, or still queued when its
+ * stream is closed, are not sent again on reconnect, since {@code Last-Event-ID} is not supported. They are also
+ * at least once: events are queued before the relay commits, so a batch whose relay transaction rolls back is sent
+ * again by the next run. Clients that need every event exactly once read an external sink; stream clients
+ * drop events whose id they have already seen and refetch the aggregates after reconnecting.
+ */
+@Service
+public class ChangeEventBroadcaster implements ChangeEventService, ChangeEventSink {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ChangeEventBroadcaster.class);
+
+	private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+	private final AtomicInteger streams = new AtomicInteger();
+	private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+	private final Duration timeout;
+	private final int queueCapacity;
+	private final int maxStreams;
+
+	public ChangeEventBroadcaster(@Value("${nestegg.outbox.sse-timeout:PT30M}") Duration timeout,
+								  @Value("${nestegg.outbox.sse-queue-capacity:1000}") int queueCapacity,
+								  @Value("${nestegg.outbox.max-streams:1000}") int maxStreams) {
+		this.timeout = timeout;
+		this.queueCapacity = queueCapacity;
+		this.maxStreams = maxStreams;
+	}
+
+	@PreDestroy
+	void shutdown() {
+		this.senders.shutdownNow();
+	}
+
+	@Override
+	public SseEmitter subscribe(List<String> aggregates) {
+		Set<String> filter = new HashSet<>();
+		for (String aggregate : aggregates) {
+			filter.add(EnumResolver.of(AggregateType.class).parse(aggregate).name());
+		}
+		if (this.streams.incrementAndGet() > this.maxStreams) {
+			this.streams.decrementAndGet();
+			throw new StreamLimitExceededException("Too many open change event streams. Please retry shortly.");
+		}
+
+		Subscriber subscriber = new Subscriber(new SseEmitter(this.timeout.toMillis()), filter);
+		Runnable unsubscribe = () -> {
+			if (subscriber.closed.compareAndSet(false, true)) {
+				this.subscribers.remove(subscriber);
+				this.streams.decrementAndGet();
+			}
+		};
+		subscriber.emitter.onCompletion(unsubscribe);
+		subscriber.emitter.onError(e -> unsubscribe.run());
+		subscriber.emitter.onTimeout(subscriber.emitter::complete);
+		this.subscribers.add(subscriber);
+		LOGGER.debug("Change event stream opened, {} open", this.streams.get());
+		return subscriber.emitter;
+	}
+
+	/**
+	 * Never blocks and never fails: events are only queued, and a stream whose queue is full is closed, dropping the
+	 * events it had not sent yet, while the other streams and sinks still get the batch. Runs inside the relay's
+	 * transaction, so queued events are not taken back if that transaction rolls back.
+	 */
+	@Override
+	public void publish(List<ChangeEvent> events) {
+		for (Subscriber subscriber : this.subscribers) {
+			subscriber.offer(events);
+		}
+	}
+
+	private final class Subscriber {
+		private final SseEmitter emitter;
+		private final Set<String> filter;
+		private final BlockingQueue<ChangeEvent> queue = new ArrayBlockingQueue<>(ChangeEventBroadcaster.this.queueCapacity);
+		private final AtomicBoolean sending = new AtomicBoolean();
+		private final AtomicBoolean closed = new AtomicBoolean();
+
+		private Subscriber(SseEmitter emitter, Set<String> filter) {
+			this.emitter = emitter;
+			this.filter = filter;
+		}
+
+		/**
+		 * Queues the events the stream asked for, and starts a sender unless one is already running for this stream.
+		 * On overflow the stream is closed and the queued events are discarded.
+		 */
+		private void offer(List<ChangeEvent> events) {
+			if (this.closed.get()) {
+				return;
+			}
+			for (ChangeEvent event : events) {
+				if ((this.filter.isEmpty() || this.filter.contains(event.aggregateType())) && !this.queue.offer(event)) {
+					LOGGER.debug("Closing change event stream that fell {} events behind", this.queue.size());
+					ChangeEventBroadcaster.this.subscribers.remove(this);
+					this.queue.clear();
+					this.emitter.complete();
+					return;
+				}
+			}
+			if (!this.queue.isEmpty() && this.sending.compareAndSet(false, true)) {
+				ChangeEventBroadcaster.this.senders.execute(this::drainQueue);
+			}
+		}
+
+		private void drainQueue() {
+			do {
+				ChangeEvent event;
+				while ((event = this.queue.poll()) != null) {
+					try {
+						this.emitter.send(SseEmitter.event().id(Long.toString(event.seq())).name(event.eventType())
+								.data(event, MediaType.APPLICATION_JSON));
+					} catch (IOException | IllegalStateException e) {
+						LOGGER.debug("Dropping change event stream", e);
+						ChangeEventBroadcaster.this.subscribers.remove(this);
+						this.queue.clear();
+						this.emitter.completeWithError(e);
+						return;
+					}
+				}
+				this.sending.set(false);
+				// an event queued between the last poll and the reset would otherwise wait for the next batch
+			} while (!this.queue.isEmpty() && this.sending.compareAndSet(false, true));
+		}
+	}
+}
@@ -14,29 +14,71 @@
  *    limitations under the License.
  */
 
+
 package com.nestegg.portfolio.management.api.services.impl;
 
+import com.nestegg.portfolio.management.api.config.CacheConfig;
+import com.nestegg.portfolio.management.api.dto.AccountView;
+import com.nestegg.portfolio.management.api.dto.BulkItemResult;
+import com.nestegg.portfolio.management.api.dto.CategoryView;
 import com.nestegg.portfolio.management.api.entities.Account;
+import com.nestegg.portfolio.management.api.entities.AggregateType;
+import com.nestegg.portfolio.management.api.entities.AuditEntity;
 import com.nestegg.portfolio.management.api.entities.Category;
+import com.nestegg.portfolio.management.api.entities.ChangeType;
 import com.nestegg.portfolio.management.api.exceptions.ResourceNotFoundException;
 import com.nestegg.portfolio.management.api.repositories.AccountRepository;
 import com.nestegg.portfolio.management.api.repositories.CategoryRepository;
+import com.nestegg.portfolio.management.api.repositories.OutboxJdbcRepository;
+import com.nestegg.portfolio.management.api.utils.StringValidators;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.UUID;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 @Service
 public class CommonService {
 	private static final Logger LOGGER = LoggerFactory.getLogger(CommonService.class);
+	private static final String UNIQUE_VIOLATION = "23505";
 
 	private final AccountRepository accountRepository;
 	private final CategoryRepository categoryRepository;
+	private final OutboxJdbcRepository outboxJdbcRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final Cache accountCache;
+	private final Cache categoryCache;
+	private final AtomicLong categoryEvictions = new AtomicLong();
 
-	public CommonService(AccountRepository accountRepository, CategoryRepository categoryRepository) {
+	public CommonService(AccountRepository accountRepository, CategoryRepository categoryRepository,
+						 OutboxJdbcRepository outboxJdbcRepository, TransactionTemplate transactionTemplate,
+						 CacheManager cacheManager) {
 		this.accountRepository = accountRepository;
 		this.categoryRepository = categoryRepository;
+		this.outboxJdbcRepository = outboxJdbcRepository;
+		this.transactionTemplate = transactionTemplate;
+		this.accountCache = Objects.requireNonNull(cacheManager.getCache(CacheConfig.ACCOUNTS));
+		this.categoryCache = Objects.requireNonNull(cacheManager.getCache(CacheConfig.CATEGORIES));
+	}
+
+	/**
+	 * Tells a violation of the given unique constraint apart from the other integrity violations a save can hit,
+	 * such as a not-null or check constraint, which must not be reported as a name conflict.
+	 */
+	static boolean violatesUnique(DataIntegrityViolationException e, String constraint) {
+		return e.getMostSpecificCause() instanceof SQLException cause
+				&& UNIQUE_VIOLATION.equals(cause.getSQLState())
+				&& String.valueOf(cause.getMessage()).contains(constraint);
 	}
 
 	private UUID fromString(String id) {
@@ -62,4 +104,145 @@ public class CommonService {
 		});
 	}
 
+	/**
+	 * Read-only view of an account, served from the cache when possible and otherwise projected straight from
+	 * a single select without loading the entity. Write paths must keep using {@link #getAccount(String)} so
+	 * that they modify a fresh managed entity.
+	 * <p>
+	 * A miss is loaded inside Caffeine's atomic compute for the key, and an eviction of that key waits for the
+	 * compute to finish; a view read just before a writer's commit is therefore removed again by the writer's
+	 * after-commit eviction instead of surviving it.
+	 */
+	protected AccountView getAccountView(String id) {
+		UUID uuid = fromString(id);
+		return load(this.accountCache, uuid, () -> this.accountRepository.findLiveViewById(uuid).orElseThrow(() -> {
+			LOGGER.debug("Account with id {} not found", id);
+			return new ResourceNotFoundException("Account with id %s not found".formatted(id));
+		}));
+	}
+
+	protected CategoryView getCategoryView(String id) {
+		UUID uuid = fromString(id);
+		return load(this.categoryCache, uuid, () -> this.categoryRepository.findLiveViewById(uuid).orElseThrow(() -> {
+			LOGGER.debug("Category with id {} not found", id);
+			return new ResourceNotFoundException("Category with id %s not found".formatted(id));
+		}));
+	}
+
+	/**
+	 * Resolves many categories at once; cache misses are loaded with a single query. The loaded views are only
+	 * cached if no category was evicted while they were read, so a concurrent writer's eviction cannot be undone
+	 * by views read before its commit.
+	 *
+	 * @return the views of the categories that exist and are not deleted, keyed by id
+	 */
+	protected Map<UUID, CategoryView> getCategoryViews(Collection<UUID> ids) {
+		Map<UUID, CategoryView> result = new HashMap<>();
+		List<UUID> misses = new ArrayList<>();
+		for (UUID id : ids) {
+			CategoryView view = this.categoryCache.get(id, CategoryView.class);
+			if (view != null) {
+				result.put(id, view);
+			} else {
+				misses.add(id);
+			}
+		}
+
+		if (!misses.isEmpty()) {
+			long generation = this.categoryEvictions.get();
+			List<CategoryView> loaded = this.categoryRepository.findLiveViewsByIdIn(misses);
+			synchronized (this.categoryEvictions) {
+				boolean current = this.categoryEvictions.get() == generation;
+				for (CategoryView view : loaded) {
+					UUID id = UUID.fromString(view.id());
+					if (current) {
+						this.categoryCache.put(id, view);
+					}
+					result.put(id, view);
+				}
+			}
+		}
+		return result;
+	}
+
+	protected void evictAccount(UUID id) {
+		this.accountCache.evict(id);
+	}
+
+	protected void evictAccounts(Collection<UUID> ids) {
+		ids.forEach(this.accountCache::evict);
+	}
+
+	protected void evictCategory(UUID id) {
+		evictCategories(List.of(id));
+	}
+
+	protected void evictCategories(Collection<UUID> ids) {
+		synchronized (this.categoryEvictions) {
+			this.categoryEvictions.incrementAndGet();
+			ids.forEach(this.categoryCache::evict);
+		}
+	}
+
+	private static <T> T load(Cache cache, UUID id, Callable<T> loader) {
+		try {
+			return cache.get(id, loader);
+		} catch (Cache.ValueRetrievalException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Saves an entity and records the change event in one transaction. The save must flush, so that the event
+	 * snapshots the saved row; an exception from the save rolls both back and is rethrown.
+	 */
+	protected <T extends AuditEntity> T saveRecorded(AggregateType aggregate, ChangeType change, Supplier<T> save) {
+		return this.transactionTemplate.execute(status -> {
+			T saved = save.get();
+			this.outboxJdbcRepository.appendSnapshots(aggregate, change, List.of(saved.getId()));
+			return saved;
+		});
+	}
+
+	/**
+	 * Runs a write and records a change event for every row it returns, in one transaction.
+	 *
+	 * @return the ids returned by the write
+	 */
+	protected Set<UUID> writeRecorded(AggregateType aggregate, ChangeType change, Supplier<Set<UUID>> write) {
+		return this.transactionTemplate.execute(status -> {
+			Set<UUID> written = write.get();
+			this.outboxJdbcRepository.appendSnapshots(aggregate, change, written);
+			return written;
+		});
+	}
+
+	/**
+	 * Runs one set-based write over the given ids and reports the outcome of each one. Malformed and
+	 * repeated ids are rejected up front; ids the write did not return are reported as not found.
+	 */
+	protected BulkItemResult[] applyToIds(List<String> ids, Function<Collection<UUID>, Set<UUID>> write,
+										  Consumer<Collection<UUID>> evict, String notFoundMessage) {
+		BulkItemResult[] results = new BulkItemResult[ids.size()];
+		Map<UUID, Integer> pending = new LinkedHashMap<>();
+		for (int i = 0; i < ids.size(); i++) {
+			UUID id = StringValidators.tryParseUUID(ids.get(i));
+			if (id == null) {
+				results[i] = BulkItemResult.badRequest(i, ids.get(i), "Invalid UUID format");
+			} else if (pending.putIfAbsent(id, i) != null) {
+				results[i] = BulkItemResult.badRequest(i, ids.get(i), "Duplicate id in request");
+			}
+		}
+
+		Set<UUID> affected = write.apply(pending.keySet());
+		pending.forEach((id, i) -> results[i] = affected.contains(id)
+				? BulkItemResult.ok(i, id.toString())
+				: BulkItemResult.notFound(i, id.toString(), notFoundMessage));
+		evict.accept(affected);
+		return results;
+	}
+
 }
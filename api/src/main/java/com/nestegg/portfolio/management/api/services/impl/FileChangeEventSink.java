@@ -0,0 +1,69 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.services.impl;
+
+import com.nestegg.portfolio.management.api.dto.ChangeEvent;
+import com.nestegg.portfolio.management.api.services.ChangeEventSink;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends the relayed events to a local file, one JSON object per line ({@code nestegg.outbox.file-sink-path}).
+ * Each batch is forced to disk before the relay deletes it from the outbox, so a crash can repeat lines but not
+ * lose them.
+ */
+@Component
+@ConditionalOnProperty("nestegg.outbox.file-sink-path")
+public class FileChangeEventSink implements ChangeEventSink {
+
+	private final Path path;
+	private final JsonMapper jsonMapper;
+
+	public FileChangeEventSink(@Value("${nestegg.outbox.file-sink-path}") Path path, JsonMapper jsonMapper) {
+		this.path = path;
+		this.jsonMapper = jsonMapper;
+	}
+
+	@Override
+	public synchronized void publish(List<ChangeEvent> events) {
+		StringBuilder lines = new StringBuilder();
+		for (ChangeEvent event : events) {
+			lines.append(this.jsonMapper.writeValueAsString(event)).append('\n');
+		}
+
+		try (FileChannel channel = FileChannel.open(this.path,
+				StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+			var buffer = StandardCharsets.UTF_8.encode(lines.toString());
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+			channel.force(false);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Could not append change events to " + this.path, e);
+		}
+	}
+}
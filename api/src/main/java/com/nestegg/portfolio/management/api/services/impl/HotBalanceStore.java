@@ -0,0 +1,214 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.services.impl;
+
+import com.nestegg.portfolio.management.api.exceptions.ResourceNotFoundException;
+import com.nestegg.portfolio.management.api.repositories.BalanceJournalJdbcRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * In-memory current balances for the hot-balance mode ({@code nestegg.hot-balance.enabled}). Each account has its
+ * own atomic counter, so reads of a loaded balance never block and writers only contend on the accounts they touch.
+ * A balance is loaded on first use as the persisted balance plus the pending journal rows, and is updated by
+ * {@link TransactionWriter} after each commit. Balances nobody has used for {@code nestegg.hot-balance.idle-timeout}
+ * are dropped by {@link #evictIdle()} and loaded again on their next use.
+ * <p>
+ * The store is per process: the mode requires a single application instance.
+ */
+@Component
+public class HotBalanceStore {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(HotBalanceStore.class);
+
+	private final Map<UUID, Entry> balances = new ConcurrentHashMap<>();
+	private final List<Consumer<UUID>> listeners = new CopyOnWriteArrayList<>();
+	private final BalanceJournalJdbcRepository balanceJournalJdbcRepository;
+	private final boolean enabled;
+	private final long idleTimeoutNanos;
+
+	public HotBalanceStore(BalanceJournalJdbcRepository balanceJournalJdbcRepository,
+						   @Value("${nestegg.hot-balance.enabled:false}") boolean enabled,
+						   @Value("${nestegg.hot-balance.idle-timeout:PT10M}") Duration idleTimeout) {
+		this.balanceJournalJdbcRepository = balanceJournalJdbcRepository;
+		this.enabled = enabled;
+		this.idleTimeoutNanos = idleTimeout.toNanos();
+		if (enabled) {
+			LOGGER.warn("Hot-balance mode is enabled. Balances are held in this instance's memory, so this must be "
+					+ "the only application instance; the recurring transaction job and the outbox relay are built to "
+					+ "share their work between instances, but transactions written by another instance never reach "
+					+ "these balances");
+		}
+	}
+
+	public boolean isEnabled() {
+		return this.enabled;
+	}
+
+	public long balance(UUID accountId) {
+		return entry(accountId, 0).balance.get();
+	}
+
+	/**
+	 * Loads the balances that are not in memory yet and keeps them in memory until {@link #release(Collection)}.
+	 * Writers call this as the first statement of their transactional method, before they insert their journal rows,
+	 * and release after they have {@link #add(UUID, long) added} their deltas: the load cannot see the writer's own
+	 * uncommitted rows, and the counter it loaded is still the one in memory when the delta is added, so that delta
+	 * is counted exactly once.
+	 */
+	public void load(Collection<UUID> accountIds) {
+		List<UUID> loaded = new ArrayList<>(accountIds.size());
+		try {
+			for (UUID accountId : accountIds) {
+				entry(accountId, 1);
+				loaded.add(accountId);
+			}
+		} catch (RuntimeException e) {
+			release(loaded);
+			throw e;
+		}
+	}
+
+	/**
+	 * Ends a writer's {@link #load(Collection)}; must be called once the writer's transaction has completed.
+	 */
+	public void release(Collection<UUID> accountIds) {
+		for (UUID accountId : accountIds) {
+			this.balances.computeIfPresent(accountId, (id, entry) -> {
+				entry.writers--;
+				return entry;
+			});
+		}
+	}
+
+	/**
+	 * Adds a committed delta. Accounts that are not loaded are skipped, their next load reads the delta from the
+	 * database.
+	 */
+	public void add(UUID accountId, long delta) {
+		Entry entry = this.balances.get(accountId);
+		if (entry != null && entry.loaded) {
+			entry.balance.addAndGet(delta);
+			entry.lastUsed = System.nanoTime();
+			this.listeners.forEach(listener -> listener.accept(accountId));
+		}
+	}
+
+	/**
+	 * Registers a callback run with the account ID after every {@link #add(UUID, long)} to a loaded balance. It runs
+	 * on the committing thread and must not block.
+	 */
+	public void onChange(Consumer<UUID> listener) {
+		this.listeners.add(listener);
+	}
+
+	/**
+	 * Reserves a debit before it is written, failing if it would take the balance below zero and the account may
+	 * not go negative. The caller must {@link #add(UUID, long) add} the amount back if the write does not commit.
+	 */
+	public boolean tryDebit(UUID accountId, long amount, boolean allowNegative) {
+		AtomicLong counter = entry(accountId, 0).balance;
+		long current;
+		do {
+			current = counter.get();
+			if (!allowNegative && current < amount) {
+				return false;
+			}
+		} while (!counter.compareAndSet(current, Math.subtractExact(current, amount)));
+		return true;
+	}
+
+	/**
+	 * Drops the balances that no writer holds and that have not been used for the idle timeout. Called by the journal
+	 * flush once it has drained the journal, so a dropped balance is mostly reloaded from the account row alone.
+	 *
+	 * @return the number of balances dropped
+	 */
+	public int evictIdle() {
+		long now = System.nanoTime();
+		int evicted = 0;
+		for (UUID accountId : this.balances.keySet()) {
+			boolean[] removed = new boolean[1];
+			this.balances.computeIfPresent(accountId, (id, entry) -> {
+				removed[0] = entry.writers == 0 && now - entry.lastUsed >= this.idleTimeoutNanos;
+				return removed[0] ? null : entry;
+			});
+			if (removed[0]) {
+				evicted++;
+			}
+		}
+		return evicted;
+	}
+
+	/**
+	 * Returns the loaded entry of an account. A loaded entry is returned without locking; otherwise the entry is put
+	 * into the map first and loaded afterwards, so that a delta committed after the load finds this entry and one
+	 * committed before it is part of the loaded balance. {@code pin} is added to the entry's writer count.
+	 */
+	private Entry entry(UUID accountId, int pin) {
+		Entry entry = this.balances.get(accountId);
+		if (pin == 0 && entry != null && entry.loaded) {
+			entry.lastUsed = System.nanoTime();
+			return entry;
+		}
+		entry = this.balances.compute(accountId, (id, existing) -> {
+			Entry result = existing != null ? existing : new Entry();
+			result.writers += pin;
+			result.lastUsed = System.nanoTime();
+			return result;
+		});
+		synchronized (entry) {
+			if (!entry.loaded) {
+				try {
+					entry.balance.set(this.balanceJournalJdbcRepository.findBalance(accountId).orElseThrow(() ->
+							new ResourceNotFoundException("Account with id %s not found".formatted(accountId))));
+				} catch (RuntimeException e) {
+					if (pin != 0) {
+						release(List.of(accountId));
+					}
+					throw e;
+				}
+				entry.loaded = true;
+			}
+		}
+		return entry;
+	}
+
+	/**
+	 * One account's balance. {@code writers} is only changed inside the map's compute for the account, which is
+	 * also where idle entries are removed, so an entry a writer holds is never removed.
+	 */
+	private static final class Entry {
+		private final AtomicLong balance = new AtomicLong();
+		private int writers;
+		private volatile long lastUsed;
+		private volatile boolean loaded;
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package com.nestegg.portfolio.management.api.services.impl;
+
+import com.nestegg.portfolio.management.api.dto.ApiRes;
+import com.nestegg.portfolio.management.api.dto.BalancePoint;
+import com.nestegg.portfolio.management.api.dto.BalanceView;
+import com.nestegg.portfolio.management.api.entities.Period;
+import com.nestegg.portfolio.management.api.exceptions.ResourceNotFoundException;
+import com.nestegg.portfolio.management.api.repositories.LedgerJdbcRepository;
+import com.nestegg.portfolio.management.api.repositories.PartitionJdbcRepository;
+import com.nestegg.portfolio.management.api.services.LedgerService;
+import com.nestegg.portfolio.management.api.utils.EnumResolver;
+import com.nestegg.portfolio.management.api.utils.StringValidators;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.*;
+
+@Service
+public class LedgerServiceImpl implements LedgerService {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(LedgerServiceImpl.class);
+
+	private static final int MAX_POINTS = 3_660;
+
+	private final LedgerJdbcRepository ledgerJdbcRepository;
+	private final PartitionJdbcRepository partitionJdbcRepository;
+
+	public LedgerServiceImpl(LedgerJdbcRepository ledgerJdbcRepository, PartitionJdbcRepository partitionJdbcRepository) {
+		this.ledgerJdbcRepository = ledgerJdbcRepository;
+		this.partitionJdbcRepository = partitionJdbcRepository;
+	}
+
+	@Override
+	public ApiRes getBalanceAt(String accountId, Instant at) {
+		UUID id = StringValidators.parseUUID(accountId);
+		Instant instant = at != null ? at : Instant.now();
+		Optional<YearMonth> archived = this.partitionJdbcRepository.findLastArchivedMonth();
+		if (archived.isPresent() && !YearMonth.from(instant.atOffset(ZoneOffset.UTC)).isAfter(archived.get())) {
+			// the checkpoints of archived months are daily; the transactions within a day are gone
+			return ApiRes.badRequest("Transactions up to %s are archived, use the balance history for earlier balances"
+					.formatted(archived.get()));
+		}
+
+		long balance = this.ledgerJdbcRepository.findBalanceAt(id, instant)
+				.orElseThrow(() -> notFound(accountId));
+		return ApiRes.ok("Balance retrieved successfully", new BalanceView(accountId, instant, balance));
+	}
+
+	@Override
+	public ApiRes getBalanceHistory(String accountId, LocalDate from, LocalDate to, String step) {
+		UUID id = StringValidators.parseUUID(accountId);
+		Period period = EnumResolver.of(Period.class).parse(step);
+		if (to.isBefore(from)) {
+			return ApiRes.badRequest("The end of the range must not be before its start");
+		}
+
+		List<LocalDate> days = new ArrayList<>();
+		for (LocalDate day = from; !day.isAfter(to); day = period.next(day)) {
+			if (days.size() == MAX_POINTS) {
+				return ApiRes.badRequest("Balance history is limited to %d points".formatted(MAX_POINTS));
+			}
+			days.add(day);
+		}
+
+		long opening = this.ledgerJdbcRepository.findOpeningBalance(id, from)
+				.orElseThrow(() -> notFound(accountId));
+		NavigableMap<LocalDate, Long> closings = this.ledgerJdbcRepository.findClosingBalances(id, from, to);
+		LOGGER.debug("Building {} balance points for account {} from {} checkpoints", days.size(), accountId, closings.size());
+
+		List<BalancePoint> points = new ArrayList<>(days.size());
+		for (LocalDate day : days) {
+			Map.Entry<LocalDate, Long> closing = closings.floorEntry(day);
+			points.add(new BalancePoint(day, closing != null ? closing.getValue() : opening));
+		}
+		return ApiRes.ok("Balance history retrieved successfully", points);
+	}
+
+	private static ResourceNotFoundException notFound(String accountId) {
+		LOGGER.debug("Account with id {} not found", accountId);
+		return new ResourceNotFoundException("Account with id %s not found".formatted(accountId));
+	}
+}
@@ -0,0 +1,318 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.services.impl;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.nestegg.portfolio.management.api.dto.BalanceView;
+import com.nestegg.portfolio.management.api.dto.BudgetView;
+import com.nestegg.portfolio.management.api.dto.ChangeEvent;
+import com.nestegg.portfolio.management.api.entities.AggregateType;
+import com.nestegg.portfolio.management.api.entities.TransactionType;
+import com.nestegg.portfolio.management.api.exceptions.ResourceNotFoundException;
+import com.nestegg.portfolio.management.api.exceptions.StreamLimitExceededException;
+import com.nestegg.portfolio.management.api.repositories.AccountJdbcRepository;
+import com.nestegg.portfolio.management.api.repositories.BudgetJdbcRepository;
+import com.nestegg.portfolio.management.api.services.ChangeEventSink;
+import com.nestegg.portfolio.management.api.services.LiveUpdateService;
+import com.nestegg.portfolio.management.api.utils.StringValidators;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * Live balance and budget streams. Streams are grouped by the account or category they watch; the relayed change
+ * events only mark the watched ones as changed, and {@link #flushChanges()} re-reads all of them with one query
+ * per kind and pushes a value to a stream only when the balance, or the spent or remaining amount, differs from the
+ * last one pushed. Changes relayed by other application instances are picked up by {@link #resync()}.
+ * <p>
+ * An idle stream holds no thread, only its emitter and one pending-value slot. A value is sent on a virtual thread
+ * started when the slot fills; while a slow client is still being written to, newer values replace the pending one
+ * instead of queueing, so each stream buffers at most one value.
+ */
+@Service
+public class LiveUpdateServiceImpl implements LiveUpdateService, ChangeEventSink {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(LiveUpdateServiceImpl.class);
+
+	private static final BiPredicate<BalanceView, BalanceView> BALANCE_CHANGED =
+			(last, current) -> last.balance() != current.balance();
+	private static final BiPredicate<BudgetView, BudgetView> BUDGET_CHANGED =
+			(last, current) -> last.spent() != current.spent() || last.remaining() != current.remaining();
+
+	private final Map<UUID, Topic<BalanceView>> accounts = new ConcurrentHashMap<>();
+	private final Map<UUID, Topic<BudgetView>> budgets = new ConcurrentHashMap<>();
+	private final Set<UUID> changedAccounts = ConcurrentHashMap.newKeySet();
+	private final Set<UUID> changedCategories = ConcurrentHashMap.newKeySet();
+	private final AtomicInteger streams = new AtomicInteger();
+	private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+	private final AccountJdbcRepository accountJdbcRepository;
+	private final BudgetJdbcRepository budgetJdbcRepository;
+	private final HotBalanceStore hotBalanceStore;
+	private final JsonMapper jsonMapper;
+	private final int maxStreams;
+	private final Duration timeout;
+
+	public LiveUpdateServiceImpl(AccountJdbcRepository accountJdbcRepository, BudgetJdbcRepository budgetJdbcRepository,
+								 HotBalanceStore hotBalanceStore, JsonMapper jsonMapper,
+								 @Value("${nestegg.live.max-streams:20000}") int maxStreams,
+								 @Value("${nestegg.live.stream-timeout:PT30M}") Duration timeout) {
+		this.accountJdbcRepository = accountJdbcRepository;
+		this.budgetJdbcRepository = budgetJdbcRepository;
+		this.hotBalanceStore = hotBalanceStore;
+		this.jsonMapper = jsonMapper;
+		this.maxStreams = maxStreams;
+		this.timeout = timeout;
+		// the relay can hand over a transaction event before its delta reaches the store, so a flush could read and
+		// keep the balance from before the write; the store reports each applied delta to have it flushed again
+		hotBalanceStore.onChange(id -> {
+			if (this.accounts.containsKey(id)) {
+				this.changedAccounts.add(id);
+			}
+		});
+	}
+
+	@PreDestroy
+	void shutdown() {
+		this.senders.shutdownNow();
+	}
+
+	@Override
+	public SseEmitter streamAccount(String accountId) {
+		UUID id = StringValidators.tryParseUUID(accountId);
+		BalanceView current = id == null ? null : loadBalances(Set.of(id)).get(id);
+		if (current == null) {
+			throw new ResourceNotFoundException("Account with id %s not found".formatted(accountId));
+		}
+		return subscribe(this.accounts, id, "balance", current);
+	}
+
+	@Override
+	public SseEmitter streamBudget(String categoryId) {
+		UUID id = StringValidators.tryParseUUID(categoryId);
+		BudgetView current = id == null ? null : loadBudgets(Set.of(id)).get(id);
+		if (current == null) {
+			throw new ResourceNotFoundException("Budget of category %s not found".formatted(categoryId));
+		}
+		return subscribe(this.budgets, id, "budget", current);
+	}
+
+	/**
+	 * Only marks the watched accounts and categories the events touch; never reads the database and never fails.
+	 */
+	@Override
+	public void publish(List<ChangeEvent> events) {
+		if (this.accounts.isEmpty() && this.budgets.isEmpty()) {
+			return;
+		}
+		for (ChangeEvent event : events) {
+			boolean transaction = AggregateType.TRANSACTION.name().equals(event.aggregateType());
+			if (!transaction && !AggregateType.BUDGET.name().equals(event.aggregateType())) {
+				continue;
+			}
+			RowKeys keys;
+			try {
+				keys = this.jsonMapper.readValue(event.payload(), RowKeys.class);
+			} catch (RuntimeException e) {
+				LOGGER.warn("Skipping unreadable change event {}", event.seq(), e);
+				continue;
+			}
+			if (transaction && this.accounts.containsKey(keys.accountId())) {
+				this.changedAccounts.add(keys.accountId());
+			}
+			// budgets only count expenses; a budget event can change the remaining amount
+			boolean affectsBudget = !transaction || TransactionType.EXPENSE.name().equals(keys.type());
+			if (affectsBudget && this.budgets.containsKey(keys.categoryId())) {
+				this.changedCategories.add(keys.categoryId());
+			}
+		}
+	}
+
+	/**
+	 * Pushes the watched values marked as changed since the last call, coalescing every change in between.
+	 */
+	public synchronized void flushChanges() {
+		refresh(this.accounts, drain(this.changedAccounts), this::loadBalances, BALANCE_CHANGED);
+		refresh(this.budgets, drain(this.changedCategories), this::loadBudgets, BUDGET_CHANGED);
+	}
+
+	/**
+	 * Re-reads every watched value, for changes this instance was not told about: writes relayed by another
+	 * instance and budget periods rolling over.
+	 */
+	public synchronized void resync() {
+		refresh(this.accounts, new HashSet<>(this.accounts.keySet()), this::loadBalances, BALANCE_CHANGED);
+		refresh(this.budgets, new HashSet<>(this.budgets.keySet()), this::loadBudgets, BUDGET_CHANGED);
+	}
+
+	public int openStreams() {
+		return this.streams.get();
+	}
+
+	private <T> SseEmitter subscribe(Map<UUID, Topic<T>> topics, UUID key, String eventName, T current) {
+		if (this.streams.incrementAndGet() > this.maxStreams) {
+			this.streams.decrementAndGet();
+			throw new StreamLimitExceededException("Too many open live update streams. Please retry shortly.");
+		}
+
+		Subscriber subscriber = new Subscriber(new SseEmitter(this.timeout.toMillis()), eventName);
+		Runnable unsubscribe = () -> {
+			if (subscriber.closed.compareAndSet(false, true)) {
+				topics.computeIfPresent(key, (k, topic) -> {
+					topic.subscribers.remove(subscriber);
+					return topic.subscribers.isEmpty() ? null : topic;
+				});
+				this.streams.decrementAndGet();
+			}
+		};
+		subscriber.emitter.onCompletion(unsubscribe);
+		subscriber.emitter.onError(e -> unsubscribe.run());
+		subscriber.emitter.onTimeout(subscriber.emitter::complete);
+		topics.compute(key, (k, topic) -> {
+			Topic<T> result = topic != null ? topic : new Topic<>();
+			result.subscribers.add(subscriber);
+			return result;
+		});
+		subscriber.offer(current);
+		return subscriber.emitter;
+	}
+
+	private <T> void refresh(Map<UUID, Topic<T>> topics, Set<UUID> keys, Function<Set<UUID>, Map<UUID, T>> load,
+							 BiPredicate<T, T> changed) {
+		keys.retainAll(topics.keySet());
+		if (keys.isEmpty()) {
+			return;
+		}
+
+		Map<UUID, T> values = load.apply(keys);
+		for (UUID key : keys) {
+			Topic<T> topic = topics.get(key);
+			if (topic == null) {
+				continue;
+			}
+			T value = values.get(key);
+			if (value == null) {
+				// deleted since the streams were opened
+				topic.subscribers.forEach(subscriber -> subscriber.emitter.complete());
+			} else if (topic.last == null || changed.test(topic.last, value)) {
+				topic.last = value;
+				topic.subscribers.forEach(subscriber -> subscriber.offer(value));
+			}
+		}
+	}
+
+	private Map<UUID, BalanceView> loadBalances(Set<UUID> ids) {
+		Instant now = Instant.now();
+		Map<UUID, BalanceView> result = new HashMap<>();
+		this.accountJdbcRepository.findBalances(ids).forEach((id, balance) -> result.put(id, new BalanceView(
+				id.toString(), now, this.hotBalanceStore.isEnabled() ? this.hotBalanceStore.balance(id) : balance)));
+		return result;
+	}
+
+	private Map<UUID, BudgetView> loadBudgets(Set<UUID> categoryIds) {
+		return this.budgetJdbcRepository.findViewsByCategory(categoryIds, LocalDate.now(ZoneOffset.UTC));
+	}
+
+	private static Set<UUID> drain(Set<UUID> changed) {
+		Set<UUID> result = new HashSet<>();
+		for (Iterator<UUID> it = changed.iterator(); it.hasNext(); ) {
+			result.add(it.next());
+			it.remove();
+		}
+		return result;
+	}
+
+	/**
+	 * The streams watching one account or category, and the value last pushed to them.
+	 */
+	private static final class Topic<T> {
+		private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+		private T last;
+	}
+
+	private final class Subscriber {
+		private final SseEmitter emitter;
+		private final String eventName;
+		private final AtomicReference<Object> pending = new AtomicReference<>();
+		private final AtomicBoolean sending = new AtomicBoolean();
+		private final AtomicBoolean closed = new AtomicBoolean();
+
+		private Subscriber(SseEmitter emitter, String eventName) {
+			this.emitter = emitter;
+			this.eventName = eventName;
+		}
+
+		/**
+		 * Replaces the pending value, and starts a sender unless one is already running for this stream.
+		 */
+		private void offer(Object value) {
+			if (this.closed.get()) {
+				return;
+			}
+			this.pending.set(value);
+			if (this.sending.compareAndSet(false, true)) {
+				LiveUpdateServiceImpl.this.senders.execute(this::drainPending);
+			}
+		}
+
+		private void drainPending() {
+			do {
+				Object value;
+				while ((value = this.pending.getAndSet(null)) != null) {
+					try {
+						this.emitter.send(SseEmitter.event().name(this.eventName).data(value, MediaType.APPLICATION_JSON));
+					} catch (IOException | IllegalStateException e) {
+						LOGGER.debug("Closing live update stream", e);
+						this.emitter.completeWithError(e);
+						return;
+					}
+				}
+				this.sending.set(false);
+				// a value offered between the last poll and the reset would otherwise wait for the next change
+			} while (this.pending.get() != null && this.sending.compareAndSet(false, true));
+		}
+	}
+
+	/**
+	 * The columns of a transaction or budget event payload that decide which streams it affects.
+	 */
+	@JsonIgnoreProperties(ignoreUnknown = true)
+	private record RowKeys(@JsonProperty("account_id") UUID accountId, @JsonProperty("category_id") UUID categoryId,
+						   @JsonProperty("type") String type) {
+	}
+}
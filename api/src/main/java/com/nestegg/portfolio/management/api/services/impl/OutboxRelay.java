@@ -0,0 +1,55 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.services.impl;
+
+import com.nestegg.portfolio.management.api.dto.ChangeEvent;
+import com.nestegg.portfolio.management.api.repositories.OutboxJdbcRepository;
+import com.nestegg.portfolio.management.api.services.ChangeEventSink;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Moves change events from the outbox to the sinks. Events are removed from the outbox in the transaction that
+ * publishes them, so a sink failure or a crash before the commit leaves them to be published again.
+ */
+@Component
+public class OutboxRelay {
+
+	private final OutboxJdbcRepository outboxJdbcRepository;
+	private final List<ChangeEventSink> sinks;
+
+	public OutboxRelay(OutboxJdbcRepository outboxJdbcRepository, List<ChangeEventSink> sinks) {
+		this.outboxJdbcRepository = outboxJdbcRepository;
+		this.sinks = sinks;
+	}
+
+	/**
+	 * Publishes up to {@code limit} of the oldest events to every sink and removes them from the outbox.
+	 *
+	 * @return the number of events published
+	 */
+	@Transactional
+	public int relay(int limit) {
+		List<ChangeEvent> events = this.outboxJdbcRepository.take(limit);
+		if (!events.isEmpty()) {
+			this.sinks.forEach(sink -> sink.publish(events));
+		}
+		return events.size();
+	}
+}
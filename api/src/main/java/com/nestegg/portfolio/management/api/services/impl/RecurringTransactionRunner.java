@@ -0,0 +1,111 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.services.impl;
+
+import com.nestegg.portfolio.management.api.repositories.RecurringJdbcRepository;
+import com.nestegg.portfolio.management.api.repositories.RecurringJdbcRepository.DueRule;
+import com.nestegg.portfolio.management.api.repositories.RecurringJdbcRepository.Progress;
+import com.nestegg.portfolio.management.api.repositories.TransactionRow;
+import com.nestegg.portfolio.management.api.utils.Uuids;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Materializes due occurrences of recurrence rules into transactions. One call claims a batch of rules, writes
+ * their occurrences through {@link TransactionWriter} and advances the rules, all in one database transaction, so
+ * an occurrence is created exactly once even with several instances running. Each rule contributes at most
+ * {@code nestegg.recurring.max-occurrences-per-rule} occurrences per call; a rule that is further behind stays due
+ * and is picked up by a later batch, which keeps every transaction small when catching up after downtime.
+ * <p>
+ * A rule whose account or category is deleted is deactivated, since neither can come back. A rule whose account or
+ * category is only inactive is held: its occurrences stay unmaterialized and it is retried every
+ * {@code nestegg.recurring.hold-interval}, so once both are active again the missed occurrences are caught up like
+ * after downtime instead of being lost.
+ */
+@Component
+public class RecurringTransactionRunner {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(RecurringTransactionRunner.class);
+
+	private final RecurringJdbcRepository recurringJdbcRepository;
+	private final TransactionWriter transactionWriter;
+	private final int maxOccurrencesPerRule;
+	private final Duration holdInterval;
+
+	public RecurringTransactionRunner(RecurringJdbcRepository recurringJdbcRepository,
+									  TransactionWriter transactionWriter,
+									  @Value("${nestegg.recurring.max-occurrences-per-rule:100}") int maxOccurrencesPerRule,
+									  @Value("${nestegg.recurring.hold-interval:PT1H}") Duration holdInterval) {
+		this.recurringJdbcRepository = recurringJdbcRepository;
+		this.transactionWriter = transactionWriter;
+		this.maxOccurrencesPerRule = maxOccurrencesPerRule;
+		this.holdInterval = holdInterval;
+	}
+
+	/**
+	 * @return the number of rules claimed; fewer than {@code limit} means no more rules were due or unclaimed
+	 */
+	@Transactional
+	public int runDue(Instant now, int limit) {
+		List<DueRule> rules = this.recurringJdbcRepository.claimDue(now, limit);
+		if (rules.isEmpty()) {
+			return 0;
+		}
+
+		List<TransactionRow> rows = new ArrayList<>();
+		List<Progress> progress = new ArrayList<>(rules.size());
+		List<UUID> orphaned = new ArrayList<>();
+		int held = 0;
+		for (DueRule rule : rules) {
+			if (rule.targetDeleted()) {
+				orphaned.add(rule.id());
+				continue;
+			}
+			if (!rule.targetActive()) {
+				progress.add(new Progress(rule.id(), rule.occurrences(), now.plus(this.holdInterval)));
+				held++;
+				continue;
+			}
+			long n = rule.occurrences();
+			Instant at = rule.occurrence(n);
+			for (int i = 0; i < this.maxOccurrencesPerRule && !at.isAfter(now); i++) {
+				rows.add(new TransactionRow(Uuids.timeOrdered(), rule.accountId(), rule.categoryId(), rule.type(),
+						rule.type().signed(rule.amount()), rule.explanation(), at));
+				at = rule.occurrence(++n);
+			}
+			progress.add(new Progress(rule.id(), n, at));
+		}
+
+		this.transactionWriter.write(rows);
+		this.recurringJdbcRepository.advance(progress);
+		this.recurringJdbcRepository.deactivate(orphaned);
+		if (held > 0 || !orphaned.isEmpty()) {
+			LOGGER.debug("Held {} recurring transactions with an inactive account or category, deactivated {} with a "
+					+ "deleted one", held, orphaned.size());
+		}
+		return rules.size();
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.services.impl;
+
+import com.nestegg.portfolio.management.api.dto.ApiRes;
+import com.nestegg.portfolio.management.api.dto.RecurringTransactionCreate;
+import com.nestegg.portfolio.management.api.entities.*;
+import com.nestegg.portfolio.management.api.exceptions.ResourceNotFoundException;
+import com.nestegg.portfolio.management.api.repositories.RecurringTransactionRepository;
+import com.nestegg.portfolio.management.api.services.RecurringTransactionService;
+import com.nestegg.portfolio.management.api.utils.StringValidators;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+@Service
+public class RecurringTransactionServiceImpl implements RecurringTransactionService {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(RecurringTransactionServiceImpl.class);
+
+	private final RecurringTransactionRepository recurringTransactionRepository;
+	private final CommonService commonService;
+
+	public RecurringTransactionServiceImpl(RecurringTransactionRepository recurringTransactionRepository,
+										   CommonService commonService) {
+		this.recurringTransactionRepository = recurringTransactionRepository;
+		this.commonService = commonService;
+	}
+
+	@Override
+	public ApiRes createRecurringTransaction(RecurringTransactionCreate req) {
+		TransactionType type = req.type();
+		if (type == TransactionType.TRANSFER) {
+			return ApiRes.badRequest("Transfers cannot recur");
+		}
+		Account account = this.commonService.getAccount(req.accountId());
+		Category category = this.commonService.getCategory(req.categoryId());
+		if (!account.getIsActive() || !category.getIsActive()) {
+			return ApiRes.badRequest("Account and category must be active");
+		}
+
+		Instant startsAt = req.startsAt() != null ? req.startsAt() : Instant.now();
+		RecurringTransaction rule = this.recurringTransactionRepository.save(RecurringTransaction.builder()
+				.account(account).category(category).type(type).amount(req.amount()).explanation(req.explanation())
+				.period(req.period())
+				.startsAt(startsAt).occurrences(0).nextRunAt(startsAt).build());
+		LOGGER.info("Created {} recurring transaction {} for account {}", rule.getPeriod(), rule.getId(), account.getId());
+		return ApiRes.created("Recurring transaction created successfully", Map.of("id", rule.getId().toString()));
+	}
+
+	@Override
+	public ApiRes getRecurringTransaction(String id) {
+		UUID uuid = StringValidators.tryParseUUID(id);
+		if (uuid == null) {
+			throw notFound(id);
+		}
+		return this.recurringTransactionRepository.findLiveViewById(uuid)
+				.map(view -> ApiRes.ok("Recurring transaction retrieved successfully", view))
+				.orElseThrow(() -> notFound(id));
+	}
+
+	@Override
+	public ApiRes deleteRecurringTransaction(String id) {
+		UUID uuid = StringValidators.tryParseUUID(id);
+		if (uuid == null || this.recurringTransactionRepository.softDeleteById(uuid) == 0) {
+			throw notFound(id);
+		}
+		LOGGER.info("Deleted recurring transaction {}", id);
+		return ApiRes.accepted("Recurring transaction deleted successfully");
+	}
+
+	private static ResourceNotFoundException notFound(String id) {
+		LOGGER.debug("Recurring transaction with id {} not found", id);
+		return new ResourceNotFoundException("Recurring transaction with id %s not found".formatted(id));
+	}
+}
@@ -0,0 +1,233 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package com.nestegg.portfolio.management.api.services.impl;
+
+import com.nestegg.portfolio.management.api.dto.ApiRes;
+import com.nestegg.portfolio.management.api.entities.StatementFormat;
+import com.nestegg.portfolio.management.api.exceptions.ResourceNotFoundException;
+import com.nestegg.portfolio.management.api.repositories.TransactionJdbcRepository;
+import com.nestegg.portfolio.management.api.repositories.TransactionRow;
+import com.nestegg.portfolio.management.api.services.StatementImportService;
+import com.nestegg.portfolio.management.api.services.impl.imports.ImportProgress;
+import com.nestegg.portfolio.management.api.services.impl.imports.StatementLine;
+import com.nestegg.portfolio.management.api.services.impl.imports.StatementParser;
+import com.nestegg.portfolio.management.api.utils.EnumResolver;
+import com.nestegg.portfolio.management.api.utils.StringValidators;
+import com.nestegg.portfolio.management.api.utils.Uuids;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Imports statements as a two-stage pipeline: the request thread parses the body line by line and hands
+ * entries to a writer stage through a bounded queue. A full queue blocks the parser, so a slow database
+ * throttles reading instead of growing the heap. The writer maps categories and persists fixed-size chunks,
+ * each in its own database transaction.
+ */
+@Service
+public class StatementImportServiceImpl implements StatementImportService {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(StatementImportServiceImpl.class);
+
+	private static final int QUEUE_CAPACITY = 4_096;
+	private static final int CHUNK_SIZE = 1_000;
+	private static final long PROGRESS_LOG_INTERVAL = 100_000;
+	private static final Duration FINISHED_RETENTION = Duration.ofHours(1);
+	private static final StatementLine END = new StatementLine(-1, null, null, null, null, null);
+
+	private final TransactionJdbcRepository transactionJdbcRepository;
+	private final TransactionWriter transactionWriter;
+	private final CommonService commonService;
+	private final Map<UUID, ImportProgress> imports = new ConcurrentHashMap<>();
+	private final ExecutorService writers = Executors.newVirtualThreadPerTaskExecutor();
+
+	public StatementImportServiceImpl(TransactionJdbcRepository transactionJdbcRepository,
+									  TransactionWriter transactionWriter, CommonService commonService) {
+		this.transactionJdbcRepository = transactionJdbcRepository;
+		this.transactionWriter = transactionWriter;
+		this.commonService = commonService;
+	}
+
+	@PreDestroy
+	void shutdown() {
+		this.writers.shutdownNow();
+	}
+
+	@Override
+	public ApiRes importStatement(String accountId, String format, String categoryId, InputStream body) {
+		StatementFormat statementFormat = EnumResolver.of(StatementFormat.class).parse(format);
+		UUID account = StringValidators.parseUUID(accountId);
+		UUID defaultCategory = StringValidators.isNullOrEmpty(categoryId) ? null : StringValidators.parseUUID(categoryId);
+
+		var active = this.transactionJdbcRepository.findActiveIds(Set.of(account),
+				defaultCategory == null ? Set.of() : Set.of(defaultCategory));
+		if (!active.accountIds().contains(account)) {
+			return ApiRes.badRequest("Account %s not found or inactive".formatted(accountId));
+		}
+		if (defaultCategory != null && !active.categoryIds().contains(defaultCategory)) {
+			return ApiRes.badRequest("Category %s not found or inactive".formatted(categoryId));
+		}
+		String currency = this.commonService.getAccountView(accountId).currency();
+
+		ImportProgress progress = register(account, statementFormat);
+		LOGGER.info("Starting {} statement import {} for account {}", statementFormat, progress.getId(), accountId);
+
+		Map<String, UUID> categories = this.transactionJdbcRepository.findActiveCategoryIdsByName();
+		BlockingQueue<StatementLine> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+		Future<?> writer = this.writers.submit(() -> {
+			write(queue, account, defaultCategory, categories, progress);
+			return null;
+		});
+
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8), 64 * 1024)) {
+			StatementParser parser = StatementParser.of(statementFormat, reader, currency);
+			parser.start();
+			parse(parser, queue, writer, progress);
+			writer.get();
+		} catch (IllegalArgumentException e) {
+			fail(progress, writer);
+			LOGGER.warn("Statement import {} rejected: {}", progress.getId(), e.getMessage());
+			return ApiRes.badRequest(e.getMessage());
+		} catch (IOException | ExecutionException e) {
+			fail(progress, writer);
+			LOGGER.error("Statement import {} failed after {} transactions", progress.getId(), progress.getImported(), e);
+			return ApiRes.internalError("Statement import failed after %d transactions".formatted(progress.getImported()));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			fail(progress, writer);
+			return ApiRes.internalError("Statement import was interrupted");
+		}
+
+		progress.finish(ImportProgress.Status.COMPLETED);
+		LOGGER.info("Finished statement import {}: {}", progress.getId(), progress.toView());
+		return ApiRes.created("Statement imported successfully", progress.toView());
+	}
+
+	@Override
+	public ApiRes getImport(String id) {
+		ImportProgress progress = this.imports.get(StringValidators.parseUUID(id));
+		if (progress == null) {
+			throw new ResourceNotFoundException("Import with id %s not found".formatted(id));
+		}
+		return ApiRes.ok("Import retrieved successfully", progress.toView());
+	}
+
+	@Override
+	public ApiRes getImports() {
+		return ApiRes.ok("Imports retrieved successfully",
+				this.imports.values().stream().map(ImportProgress::toView).toList());
+	}
+
+	private ImportProgress register(UUID account, StatementFormat format) {
+		Instant cutoff = Instant.now().minus(FINISHED_RETENTION);
+		this.imports.values().removeIf(p -> p.getFinishedAt() != null && p.getFinishedAt().isBefore(cutoff));
+
+		ImportProgress progress = new ImportProgress(account, format);
+		this.imports.put(progress.getId(), progress);
+		return progress;
+	}
+
+	private void fail(ImportProgress progress, Future<?> writer) {
+		writer.cancel(true);
+		progress.finish(ImportProgress.Status.FAILED);
+	}
+
+	private void parse(StatementParser parser, BlockingQueue<StatementLine> queue, Future<?> writer,
+					   ImportProgress progress) throws IOException, InterruptedException, ExecutionException {
+		while (true) {
+			StatementLine line;
+			try {
+				line = parser.next();
+			} catch (IllegalArgumentException | DateTimeException e) {
+				LOGGER.debug("Skipping statement entry {}: {}", parser.position(), e.getMessage());
+				progress.skipped();
+				continue;
+			}
+
+			progress.linesRead(parser.position());
+			if (parser.position() % PROGRESS_LOG_INTERVAL == 0) {
+				LOGGER.info("Statement import {} progress: {}", progress.getId(), progress.toView());
+			}
+			if (line == null) {
+				enqueue(queue, END, writer);
+				return;
+			}
+			enqueue(queue, line, writer);
+		}
+	}
+
+	/**
+	 * Blocks while the writer is behind, but gives up as soon as the writer has stopped.
+	 */
+	private void enqueue(BlockingQueue<StatementLine> queue, StatementLine line, Future<?> writer)
+			throws InterruptedException, ExecutionException {
+		while (!queue.offer(line, 1, TimeUnit.SECONDS)) {
+			if (writer.isDone()) {
+				writer.get();
+				throw new ExecutionException(new IllegalStateException("Import writer stopped unexpectedly"));
+			}
+		}
+	}
+
+	private void write(BlockingQueue<StatementLine> queue, UUID account, UUID defaultCategory,
+					   Map<String, UUID> categories, ImportProgress progress) throws InterruptedException {
+		List<TransactionRow> chunk = new ArrayList<>(CHUNK_SIZE);
+		while (true) {
+			StatementLine line = queue.take();
+			if (line == END) {
+				break;
+			}
+
+			UUID category = line.category() == null
+					? defaultCategory
+					: categories.getOrDefault(line.category().trim().toLowerCase(Locale.ROOT), defaultCategory);
+			if (category == null) {
+				progress.skipped();
+				continue;
+			}
+
+			chunk.add(new TransactionRow(Uuids.timeOrdered(), account, category, line.type(), line.amount(),
+					line.explanation(), line.date()));
+			if (chunk.size() == CHUNK_SIZE) {
+				flush(chunk, progress);
+			}
+		}
+		flush(chunk, progress);
+	}
+
+	private void flush(List<TransactionRow> chunk, ImportProgress progress) {
+		if (chunk.isEmpty()) {
+			return;
+		}
+		this.transactionWriter.write(chunk);
+		progress.imported(chunk.size());
+		chunk.clear();
+	}
+}
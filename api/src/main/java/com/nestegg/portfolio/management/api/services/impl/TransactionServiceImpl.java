@@ -0,0 +1,172 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package com.nestegg.portfolio.management.api.services.impl;
+
+import com.nestegg.portfolio.management.api.dto.ApiRes;
+import com.nestegg.portfolio.management.api.dto.CategoryView;
+import com.nestegg.portfolio.management.api.dto.CursorPage;
+import com.nestegg.portfolio.management.api.dto.TransactionBatchCreate;
+import com.nestegg.portfolio.management.api.dto.TransactionCreate;
+import com.nestegg.portfolio.management.api.dto.TransactionView;
+import com.nestegg.portfolio.management.api.dto.TransferCreate;
+import com.nestegg.portfolio.management.api.entities.TransactionType;
+import com.nestegg.portfolio.management.api.exceptions.TransferRejectedException;
+import com.nestegg.portfolio.management.api.repositories.TransactionFilter;
+import com.nestegg.portfolio.management.api.repositories.TransactionJdbcRepository;
+import com.nestegg.portfolio.management.api.repositories.TransactionRow;
+import com.nestegg.portfolio.management.api.services.TransactionService;
+import com.nestegg.portfolio.management.api.utils.Cursors;
+import com.nestegg.portfolio.management.api.utils.StringValidators;
+import com.nestegg.portfolio.management.api.utils.Uuids;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.*;
+
+@Service
+public class TransactionServiceImpl implements TransactionService {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(TransactionServiceImpl.class);
+
+	private static final int MAX_PAGE_SIZE = 500;
+
+	private final TransactionJdbcRepository transactionJdbcRepository;
+	private final TransactionWriter transactionWriter;
+	private final CommonService commonService;
+
+	public TransactionServiceImpl(TransactionJdbcRepository transactionJdbcRepository, TransactionWriter transactionWriter,
+								  CommonService commonService) {
+		this.transactionJdbcRepository = transactionJdbcRepository;
+		this.transactionWriter = transactionWriter;
+		this.commonService = commonService;
+	}
+
+	@Override
+	public ApiRes createTransactions(TransactionBatchCreate req) {
+		List<TransactionCreate> items = req.transactions();
+		LOGGER.info("Creating batch of {} transactions", items.size());
+
+		Instant now = Instant.now();
+		List<TransactionRow> rows = new ArrayList<>(items.size());
+		Set<UUID> accountIds = new HashSet<>();
+		Set<UUID> categoryIds = new HashSet<>();
+
+		for (TransactionCreate item : items) {
+			TransactionType type = item.type();
+			if (type == TransactionType.TRANSFER) {
+				return ApiRes.badRequest("Transfer transactions cannot be created in a batch");
+			}
+
+			UUID accountId = StringValidators.parseUUID(item.accountId());
+			UUID categoryId = StringValidators.parseUUID(item.categoryId());
+			accountIds.add(accountId);
+			categoryIds.add(categoryId);
+
+			rows.add(new TransactionRow(Uuids.timeOrdered(), accountId, categoryId, type, type.signed(item.amount()),
+					item.explanation(), item.date() != null ? item.date() : now));
+		}
+
+		Map<UUID, CategoryView> categories = this.commonService.getCategoryViews(categoryIds);
+		categoryIds.removeIf(id -> categories.containsKey(id)
+				&& categories.get(id).isActive() && !categories.get(id).isDeleted());
+		if (!categoryIds.isEmpty()) {
+			LOGGER.warn("Transaction batch rejected. Unknown or inactive categories: {}", categoryIds);
+			return ApiRes.badRequest("Categories not found or inactive: %s".formatted(categoryIds));
+		}
+
+		var active = this.transactionJdbcRepository.findActiveIds(accountIds, Set.of());
+		if (!active.accountIds().containsAll(accountIds)) {
+			accountIds.removeAll(active.accountIds());
+			LOGGER.warn("Transaction batch rejected. Unknown or inactive accounts: {}", accountIds);
+			return ApiRes.badRequest("Accounts not found or inactive: %s".formatted(accountIds));
+		}
+
+		this.transactionWriter.write(rows);
+		LOGGER.info("Created batch of {} transactions across {} accounts", rows.size(), accountIds.size());
+		return ApiRes.created("Transactions created successfully", Map.of("count", rows.size()));
+	}
+
+	@Override
+	public ApiRes createTransfer(TransferCreate req) {
+		UUID from = StringValidators.parseUUID(req.fromAccountId());
+		UUID to = StringValidators.parseUUID(req.toAccountId());
+		UUID categoryId = StringValidators.parseUUID(req.categoryId());
+		if (from.equals(to)) {
+			return ApiRes.badRequest("Source and destination accounts must differ");
+		}
+
+		CategoryView category = this.commonService.getCategoryViews(Set.of(categoryId)).get(categoryId);
+		if (category == null || !category.isActive() || category.isDeleted()) {
+			return ApiRes.badRequest("Categories not found or inactive: [%s]".formatted(categoryId));
+		}
+
+		Set<UUID> accountIds = new HashSet<>(List.of(from, to));
+		accountIds.removeAll(this.transactionJdbcRepository.findActiveIds(accountIds, Set.of()).accountIds());
+		if (!accountIds.isEmpty()) {
+			return ApiRes.badRequest("Accounts not found or inactive: %s".formatted(accountIds));
+		}
+		String currency = this.commonService.getAccountView(from.toString()).currency();
+		if (!currency.equals(this.commonService.getAccountView(to.toString()).currency())) {
+			return ApiRes.badRequest("Transfers between accounts in different currencies are not supported");
+		}
+
+		Instant at = req.date() != null ? req.date() : Instant.now();
+		TransactionRow debit = new TransactionRow(Uuids.timeOrdered(), from, categoryId, TransactionType.TRANSFER,
+				Math.negateExact(req.amount()), req.explanation(), at);
+		TransactionRow credit = new TransactionRow(Uuids.timeOrdered(), to, categoryId, TransactionType.TRANSFER,
+				req.amount(), req.explanation(), at);
+
+		try {
+			this.transactionWriter.transfer(debit, credit);
+		} catch (TransferRejectedException e) {
+			LOGGER.warn("Transfer of {} from {} to {} rejected: {}", req.amount(), from, to, e.getMessage());
+			return ApiRes.conflict(e.getMessage());
+		}
+		LOGGER.info("Transferred {} from account {} to account {}", req.amount(), from, to);
+		return ApiRes.created("Transfer created successfully", Map.of(
+				"debitId", debit.id().toString(),
+				"creditId", credit.id().toString()
+		));
+	}
+
+	@Override
+	public ApiRes getTransactions(String accountId, String categoryId, TransactionType type, Instant from, Instant to,
+								  String cursor, int size) {
+		if (size < 1 || size > MAX_PAGE_SIZE) {
+			return ApiRes.badRequest("Page size must be between 1 and %d".formatted(MAX_PAGE_SIZE));
+		}
+
+		TransactionFilter filter = new TransactionFilter(
+				StringValidators.isNullOrEmpty(accountId) ? null : StringValidators.parseUUID(accountId),
+				StringValidators.isNullOrEmpty(categoryId) ? null : StringValidators.parseUUID(categoryId),
+				type,
+				from, to);
+		Cursors.Position after = StringValidators.isNullOrEmpty(cursor) ? null : Cursors.decode(cursor);
+
+		List<TransactionView> rows = this.transactionJdbcRepository.findPage(filter, after, size + 1);
+		String nextCursor = null;
+		if (rows.size() > size) {
+			rows = rows.subList(0, size);
+			TransactionView last = rows.getLast();
+			nextCursor = Cursors.encode(last.createdAt(), UUID.fromString(last.id()));
+		}
+		return ApiRes.ok("Transactions retrieved successfully", new CursorPage<>(rows, nextCursor));
+	}
+}
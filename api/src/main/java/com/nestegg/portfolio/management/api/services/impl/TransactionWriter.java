@@ -0,0 +1,283 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package com.nestegg.portfolio.management.api.services.impl;
+
+import com.nestegg.portfolio.management.api.entities.AccountType;
+import com.nestegg.portfolio.management.api.entities.TransactionType;
+import com.nestegg.portfolio.management.api.exceptions.TransferRejectedException;
+import com.nestegg.portfolio.management.api.repositories.BalanceJournalJdbcRepository;
+import com.nestegg.portfolio.management.api.repositories.BudgetJdbcRepository;
+import com.nestegg.portfolio.management.api.repositories.BudgetJdbcRepository.BudgetRef;
+import com.nestegg.portfolio.management.api.repositories.BudgetJdbcRepository.SpendKey;
+import com.nestegg.portfolio.management.api.repositories.LedgerJdbcRepository;
+import com.nestegg.portfolio.management.api.repositories.OutboxJdbcRepository;
+import com.nestegg.portfolio.management.api.repositories.PartitionJdbcRepository;
+import com.nestegg.portfolio.management.api.repositories.RollupJdbcRepository;
+import com.nestegg.portfolio.management.api.repositories.RollupJdbcRepository.RollupDelta;
+import com.nestegg.portfolio.management.api.repositories.RollupJdbcRepository.RollupKey;
+import com.nestegg.portfolio.management.api.repositories.TransactionJdbcRepository;
+import com.nestegg.portfolio.management.api.repositories.TransactionRow;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Single write path for transaction rows. Each call inserts its rows with JDBC batches, records them in the outbox
+ * and moves the balances, ledger checkpoints, rollups and budget spending they affect, all in one database
+ * transaction. Cached views of the touched accounts are evicted once the transaction commits.
+ */
+@Component
+public class TransactionWriter {
+
+	private final TransactionJdbcRepository transactionJdbcRepository;
+	private final BalanceJournalJdbcRepository balanceJournalJdbcRepository;
+	private final LedgerJdbcRepository ledgerJdbcRepository;
+	private final BudgetJdbcRepository budgetJdbcRepository;
+	private final RollupJdbcRepository rollupJdbcRepository;
+	private final OutboxJdbcRepository outboxJdbcRepository;
+	private final PartitionJdbcRepository partitionJdbcRepository;
+	private final HotBalanceStore hotBalanceStore;
+	private final CommonService commonService;
+
+	public TransactionWriter(TransactionJdbcRepository transactionJdbcRepository,
+							 BalanceJournalJdbcRepository balanceJournalJdbcRepository,
+							 LedgerJdbcRepository ledgerJdbcRepository,
+							 BudgetJdbcRepository budgetJdbcRepository,
+							 RollupJdbcRepository rollupJdbcRepository,
+							 OutboxJdbcRepository outboxJdbcRepository,
+							 PartitionJdbcRepository partitionJdbcRepository,
+							 HotBalanceStore hotBalanceStore,
+							 CommonService commonService) {
+		this.transactionJdbcRepository = transactionJdbcRepository;
+		this.balanceJournalJdbcRepository = balanceJournalJdbcRepository;
+		this.ledgerJdbcRepository = ledgerJdbcRepository;
+		this.budgetJdbcRepository = budgetJdbcRepository;
+		this.rollupJdbcRepository = rollupJdbcRepository;
+		this.outboxJdbcRepository = outboxJdbcRepository;
+		this.partitionJdbcRepository = partitionJdbcRepository;
+		this.hotBalanceStore = hotBalanceStore;
+		this.commonService = commonService;
+	}
+
+	/**
+	 * Writes a batch of rows. Each touched account balance is updated once with the net delta of the batch.
+	 * <p>
+	 * In the hot-balance mode the account rows are not touched: the rows are appended to the balance journal, the
+	 * in-memory {@link HotBalanceStore} is updated after the commit, and {@link #applyJournal(int)} later applies
+	 * the journal in batches. Ledger and analytics reads then lag behind by up to one flush interval.
+	 *
+	 * @throws IllegalArgumentException if a row is dated in an archived month
+	 */
+	@Transactional
+	public void write(List<TransactionRow> rows) {
+		if (rows.isEmpty()) {
+			return;
+		}
+		rejectArchivedMonths(rows);
+
+		Map<UUID, Long> deltas = deltas(rows);
+		if (this.hotBalanceStore.isEnabled()) {
+			this.hotBalanceStore.load(deltas.keySet());
+			afterCompletion(committed -> {
+				if (committed) {
+					deltas.forEach(this.hotBalanceStore::add);
+				}
+				this.hotBalanceStore.release(deltas.keySet());
+			});
+			this.transactionJdbcRepository.insertAll(rows);
+			this.outboxJdbcRepository.appendTransactions(rows);
+			this.balanceJournalJdbcRepository.append(rows);
+			applyBudgetSpending(rows);
+			return;
+		}
+
+		this.transactionJdbcRepository.insertAll(rows);
+		this.outboxJdbcRepository.appendTransactions(rows);
+		applyBalances(rows, deltas);
+		applyBudgetSpending(rows);
+	}
+
+	/**
+	 * Writes both legs of a transfer. The balances are moved first with conditional updates, taken in the same lock
+	 * order as batch writes; if the source cannot cover the amount or either account is no longer active, nothing
+	 * is written. In the hot-balance mode
+	 * the debit is reserved in memory instead and released again if the write does not commit.
+	 *
+	 * @param debit  the negative leg on the source account
+	 * @param credit the positive leg on the destination account
+	 * @throws TransferRejectedException if the balance updates did not apply
+	 */
+	@Transactional
+	public void transfer(TransactionRow debit, TransactionRow credit) {
+		List<TransactionRow> rows = List.of(debit, credit);
+		rejectArchivedMonths(rows);
+		if (this.hotBalanceStore.isEnabled()) {
+			List<UUID> accountIds = List.of(debit.accountId(), credit.accountId());
+			this.hotBalanceStore.load(accountIds);
+			AtomicBoolean reserved = new AtomicBoolean();
+			afterCompletion(committed -> {
+				if (reserved.get()) {
+					this.hotBalanceStore.add(committed ? credit.accountId() : debit.accountId(), credit.amount());
+				}
+				this.hotBalanceStore.release(accountIds);
+			});
+			AccountType type = AccountType.valueOf(this.commonService.getAccountView(debit.accountId().toString()).type());
+			if (!this.hotBalanceStore.tryDebit(debit.accountId(), credit.amount(), type.mayGoNegative())) {
+				throw new TransferRejectedException("Source account has insufficient funds");
+			}
+			reserved.set(true);
+			this.transactionJdbcRepository.insertAll(rows);
+			this.outboxJdbcRepository.appendTransactions(rows);
+			this.balanceJournalJdbcRepository.append(rows);
+			return;
+		}
+
+		if (!this.transactionJdbcRepository.applyTransfer(debit.accountId(), credit.accountId(), credit.amount())) {
+			throw new TransferRejectedException(
+					"Source account has insufficient funds, or one of the accounts is not active");
+		}
+		this.transactionJdbcRepository.insertAll(rows);
+		this.outboxJdbcRepository.appendTransactions(rows);
+		applyDerivedState(rows, Set.of(debit.accountId(), credit.accountId()));
+	}
+
+	/**
+	 * Applies up to {@code limit} of the oldest journal rows to the account balances, ledger checkpoints and
+	 * rollups, and removes them from the journal, in one transaction.
+	 *
+	 * @return the number of rows applied
+	 */
+	@Transactional
+	public int applyJournal(int limit) {
+		List<TransactionRow> rows = this.balanceJournalJdbcRepository.take(limit);
+		if (!rows.isEmpty()) {
+			applyBalances(rows, deltas(rows));
+		}
+		return rows.size();
+	}
+
+	private void applyBalances(List<TransactionRow> rows, Map<UUID, Long> deltas) {
+		this.transactionJdbcRepository.applyBalanceDeltas(deltas);
+		applyDerivedState(rows, deltas.keySet());
+	}
+
+	/**
+	 * Ledger checkpoints and rollups for rows whose balance effect is already applied, i.e. while the account
+	 * rows are locked.
+	 */
+	private void applyDerivedState(List<TransactionRow> rows, Set<UUID> accountIds) {
+		Map<UUID, SortedMap<LocalDate, Long>> dailyDeltas = new HashMap<>();
+		SortedMap<RollupKey, RollupDelta> rollups = new TreeMap<>();
+		for (TransactionRow row : rows) {
+			LocalDate day = day(row);
+			dailyDeltas.computeIfAbsent(row.accountId(), id -> new TreeMap<>())
+					.merge(day, row.amount(), Math::addExact);
+			rollups.merge(new RollupKey(row.accountId(), row.categoryId(), row.type(), day.withDayOfMonth(1)),
+					new RollupDelta(row.amount(), 1), RollupDelta::plus);
+		}
+
+		this.ledgerJdbcRepository.applyDailyDeltas(dailyDeltas);
+		this.rollupJdbcRepository.addAll(rollups);
+
+		afterCompletion(committed -> {
+			if (committed) {
+				this.commonService.evictAccounts(accountIds);
+			}
+		});
+	}
+
+	/**
+	 * Adds expenses to the striped spend slots of their category's budget. Amounts are not converted, so only
+	 * expenses from accounts in the budget's currency count towards it.
+	 */
+	private void applyBudgetSpending(List<TransactionRow> rows) {
+		Set<UUID> expenseCategories = new HashSet<>();
+		for (TransactionRow row : rows) {
+			if (row.type() == TransactionType.EXPENSE) {
+				expenseCategories.add(row.categoryId());
+			}
+		}
+		Map<UUID, BudgetRef> budgets = this.budgetJdbcRepository.findBudgetsByCategory(expenseCategories);
+		if (budgets.isEmpty()) {
+			return;
+		}
+
+		Map<UUID, String> currencies = new HashMap<>();
+		SortedMap<SpendKey, Long> spent = new TreeMap<>();
+		for (TransactionRow row : rows) {
+			BudgetRef budget = budgets.get(row.categoryId());
+			if (budget != null && row.type() == TransactionType.EXPENSE
+					&& budget.currency().equals(currencies.computeIfAbsent(row.accountId(),
+					id -> this.commonService.getAccountView(id.toString()).currency()))) {
+				SpendKey key = new SpendKey(budget.budgetId(), budget.period().startOf(day(row)));
+				spent.merge(key, Math.negateExact(row.amount()), Math::addExact);
+			}
+		}
+		this.budgetJdbcRepository.addSpent(spent);
+	}
+
+	/**
+	 * Refuses rows dated in a month whose partition has been detached: they would land in the default partition,
+	 * next to checkpoints and rollups that no longer change. The current month is never detached, so rows dated in
+	 * it skip the lookup. Otherwise the lock keeps a detach from slipping in between the check and the insert.
+	 *
+	 * @throws IllegalArgumentException if a row is dated in an archived month
+	 */
+	private void rejectArchivedMonths(List<TransactionRow> rows) {
+		YearMonth earliest = rows.stream().map(row -> YearMonth.from(day(row)))
+				.min(Comparator.naturalOrder()).orElseThrow();
+		if (!earliest.isBefore(YearMonth.now(ZoneOffset.UTC))) {
+			return;
+		}
+		this.partitionJdbcRepository.lockAgainstDetach();
+		Optional<YearMonth> archived = this.partitionJdbcRepository.findLastArchivedMonth();
+		if (archived.isPresent() && !earliest.isAfter(archived.get())) {
+			throw new IllegalArgumentException(
+					"Transactions up to %s are archived, no transactions can be added to them".formatted(archived.get()));
+		}
+	}
+
+	private static Map<UUID, Long> deltas(List<TransactionRow> rows) {
+		Map<UUID, Long> deltas = new HashMap<>();
+		for (TransactionRow row : rows) {
+			deltas.merge(row.accountId(), row.amount(), Math::addExact);
+		}
+		return deltas;
+	}
+
+	private static void afterCompletion(Consumer<Boolean> action) {
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				action.accept(status == STATUS_COMMITTED);
+			}
+		});
+	}
+
+	private static LocalDate day(TransactionRow row) {
+		return LocalDate.ofInstant(row.createdAt(), ZoneOffset.UTC);
+	}
+}
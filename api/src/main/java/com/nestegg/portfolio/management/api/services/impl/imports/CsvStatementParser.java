@@ -0,0 +1,134 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package com.nestegg.portfolio.management.api.services.impl.imports;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Parses CSV statements with a header row naming the columns {@code date}, {@code amount} and optionally
+ * {@code type}, {@code category} and {@code explanation}, in any order. Quoted fields may contain commas.
+ */
+class CsvStatementParser implements StatementParser {
+
+	private final BufferedReader reader;
+	private final List<String> fields = new ArrayList<>();
+	private final StringBuilder field = new StringBuilder();
+	private final int fractionDigits;
+	private long lineNumber;
+
+	private int date = -1;
+	private int type = -1;
+	private int amount = -1;
+	private int category = -1;
+	private int explanation = -1;
+
+	CsvStatementParser(Reader reader, int fractionDigits) {
+		this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader, 64 * 1024);
+		this.fractionDigits = fractionDigits;
+	}
+
+	@Override
+	public StatementLine next() throws IOException {
+		String line;
+		do {
+			line = this.reader.readLine();
+			if (line == null) {
+				return null;
+			}
+			this.lineNumber++;
+		} while (line.isBlank());
+
+		split(line);
+		if (this.fields.size() <= Math.max(this.date, this.amount)) {
+			throw new IllegalArgumentException("Line %d has %d columns".formatted(this.lineNumber, this.fields.size()));
+		}
+
+		return StatementParser.line(this.lineNumber,
+				StatementParser.toInstant(this.fields.get(this.date)),
+				column(this.type),
+				StatementParser.toMinorUnits(this.fields.get(this.amount), this.fractionDigits),
+				column(this.category),
+				column(this.explanation));
+	}
+
+	@Override
+	public long position() {
+		return this.lineNumber;
+	}
+
+	@Override
+	public void start() throws IOException {
+		String header = this.reader.readLine();
+		this.lineNumber++;
+		if (header == null) {
+			throw new IllegalArgumentException("CSV statement is empty");
+		}
+
+		split(header.startsWith("\uFEFF") ? header.substring(1) : header);
+		for (int i = 0; i < this.fields.size(); i++) {
+			switch (this.fields.get(i).trim().toLowerCase(Locale.ROOT)) {
+				case "date" -> this.date = i;
+				case "type" -> this.type = i;
+				case "amount" -> this.amount = i;
+				case "category" -> this.category = i;
+				case "explanation", "description" -> this.explanation = i;
+				default -> {
+				}
+			}
+		}
+		if (this.date < 0 || this.amount < 0) {
+			throw new IllegalArgumentException("CSV header must contain date and amount columns");
+		}
+	}
+
+	private String column(int index) {
+		return index >= 0 && index < this.fields.size() ? this.fields.get(index) : null;
+	}
+
+	private void split(String line) {
+		this.fields.clear();
+		this.field.setLength(0);
+		boolean quoted = false;
+		for (int i = 0; i < line.length(); i++) {
+			char c = line.charAt(i);
+			if (quoted) {
+				if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+					this.field.append('"');
+					i++;
+				} else if (c == '"') {
+					quoted = false;
+				} else {
+					this.field.append(c);
+				}
+			} else if (c == '"') {
+				quoted = true;
+			} else if (c == ',') {
+				this.fields.add(this.field.toString());
+				this.field.setLength(0);
+			} else {
+				this.field.append(c);
+			}
+		}
+		this.fields.add(this.field.toString());
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package com.nestegg.portfolio.management.api.services.impl.imports;
+
+import com.nestegg.portfolio.management.api.dto.ImportProgressView;
+import com.nestegg.portfolio.management.api.entities.StatementFormat;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Live counters of a running statement import, shared between the parsing and writing stages.
+ */
+public class ImportProgress {
+
+	public enum Status {
+		RUNNING,
+		COMPLETED,
+		FAILED
+	}
+
+	private final UUID id = UUID.randomUUID();
+	private final UUID accountId;
+	private final StatementFormat format;
+	private final Instant startedAt = Instant.now();
+	private final AtomicLong linesRead = new AtomicLong();
+	private final AtomicLong imported = new AtomicLong();
+	private final AtomicLong skipped = new AtomicLong();
+	private volatile Status status = Status.RUNNING;
+	private volatile Instant finishedAt;
+
+	public ImportProgress(UUID accountId, StatementFormat format) {
+		this.accountId = accountId;
+		this.format = format;
+	}
+
+	public UUID getId() {
+		return id;
+	}
+
+	public Status getStatus() {
+		return status;
+	}
+
+	public Instant getFinishedAt() {
+		return finishedAt;
+	}
+
+	public void linesRead(long lines) {
+		this.linesRead.set(lines);
+	}
+
+	public void imported(long count) {
+		this.imported.addAndGet(count);
+	}
+
+	public void skipped() {
+		this.skipped.incrementAndGet();
+	}
+
+	public long getImported() {
+		return this.imported.get();
+	}
+
+	public void finish(Status status) {
+		this.finishedAt = Instant.now();
+		this.status = status;
+	}
+
+	public ImportProgressView toView() {
+		return new ImportProgressView(this.id.toString(), this.accountId.toString(), this.format.name(),
+				this.status.name(), this.linesRead.get(), this.imported.get(), this.skipped.get(),
+				this.startedAt, this.finishedAt);
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package com.nestegg.portfolio.management.api.services.impl.imports;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+/**
+ * Parses the {@code <STMTTRN>} entries of an OFX statement. The input is tokenised tag by tag rather than
+ * line by line because both SGML (OFX 1.x, unclosed tags) and XML (OFX 2.x) files are often a single line.
+ */
+class OfxStatementParser implements StatementParser {
+
+	private final Reader reader;
+	private final StringBuilder token = new StringBuilder();
+	private final int fractionDigits;
+	private long entries;
+	private int pending = -1;
+
+	OfxStatementParser(Reader reader, int fractionDigits) {
+		this.reader = reader instanceof BufferedReader ? reader : new BufferedReader(reader, 64 * 1024);
+		this.fractionDigits = fractionDigits;
+	}
+
+	@Override
+	public StatementLine next() throws IOException {
+		String tag;
+		do {
+			tag = nextTag();
+			if (tag == null) {
+				return null;
+			}
+		} while (!tag.equals("STMTTRN"));
+
+		this.entries++;
+		String type = null;
+		String posted = null;
+		String amount = null;
+		String name = null;
+		String memo = null;
+		while ((tag = nextTag()) != null && !tag.equals("/STMTTRN")) {
+			switch (tag) {
+				case "TRNTYPE" -> type = value();
+				case "DTPOSTED" -> posted = value();
+				case "TRNAMT" -> amount = value();
+				case "NAME" -> name = value();
+				case "MEMO" -> memo = value();
+				default -> {
+				}
+			}
+		}
+
+		if (posted == null || amount == null) {
+			throw new IllegalArgumentException("OFX entry %d has no DTPOSTED or TRNAMT".formatted(this.entries));
+		}
+		String explanation = name != null ? name : memo;
+		String resolvedType = "CREDIT".equals(type) ? "INCOME" : "DEBIT".equals(type) ? "EXPENSE" : null;
+		return StatementParser.line(this.entries, toInstant(posted), resolvedType,
+				StatementParser.toMinorUnits(amount, this.fractionDigits), null, explanation);
+	}
+
+	@Override
+	public long position() {
+		return this.entries;
+	}
+
+	/**
+	 * OFX dates look like {@code 20240131120000.000[-5:EST]}; only the calendar day is kept.
+	 */
+	private static Instant toInstant(String posted) {
+		if (posted.length() < 8) {
+			throw new IllegalArgumentException("Invalid OFX date: " + posted);
+		}
+		return LocalDate.parse(posted.substring(0, 8), DateTimeFormatter.BASIC_ISO_DATE)
+				.atStartOfDay().toInstant(ZoneOffset.UTC);
+	}
+
+	private String nextTag() throws IOException {
+		int c = this.pending >= 0 ? this.pending : this.reader.read();
+		this.pending = -1;
+		while (c >= 0 && c != '<') {
+			c = this.reader.read();
+		}
+		if (c < 0) {
+			return null;
+		}
+
+		this.token.setLength(0);
+		while ((c = this.reader.read()) >= 0 && c != '>') {
+			this.token.append((char) c);
+		}
+		return this.token.toString().trim().toUpperCase(Locale.ROOT);
+	}
+
+	private String value() throws IOException {
+		this.token.setLength(0);
+		int c;
+		while ((c = this.reader.read()) >= 0 && c != '<') {
+			this.token.append((char) c);
+		}
+		this.pending = c;
+		return this.token.toString().trim();
+	}
+}
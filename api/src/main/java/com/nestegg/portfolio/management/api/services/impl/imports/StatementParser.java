@@ -0,0 +1,108 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package com.nestegg.portfolio.management.api.services.impl.imports;
+
+import com.nestegg.portfolio.management.api.entities.StatementFormat;
+import com.nestegg.portfolio.management.api.entities.TransactionType;
+import com.nestegg.portfolio.management.api.utils.EnumResolver;
+import com.nestegg.portfolio.management.api.utils.Money;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+/**
+ * Pull-based statement parser that reads one entry at a time, so the whole file is never held in memory.
+ */
+public interface StatementParser {
+
+	/**
+	 * Reads any preamble the format requires before the first entry.
+	 *
+	 * @throws IllegalArgumentException if the statement cannot be parsed at all
+	 */
+	default void start() throws IOException {
+	}
+
+	/**
+	 * Reads the next entry.
+	 *
+	 * @return the next entry, or {@code null} at the end of the statement
+	 * @throws IllegalArgumentException if the entry is malformed; the parser stays positioned after it
+	 */
+	StatementLine next() throws IOException;
+
+	/**
+	 * Number of source lines or entries consumed so far, including malformed ones.
+	 */
+	long position();
+
+	/**
+	 * @param currency the currency of the account the statement is imported into, which decides how many decimals
+	 *                 an amount may have
+	 */
+	static StatementParser of(StatementFormat format, Reader reader, String currency) {
+		int fractionDigits = Money.fractionDigits(currency);
+		return switch (format) {
+			case CSV -> new CsvStatementParser(reader, fractionDigits);
+			case OFX -> new OfxStatementParser(reader, fractionDigits);
+		};
+	}
+
+	/**
+	 * Converts a decimal statement amount such as {@code -12.34} into signed minor units.
+	 *
+	 * @param fractionDigits the minor-unit digits of the currency, see {@link Money#fractionDigits(String)}
+	 */
+	static long toMinorUnits(String amount, int fractionDigits) {
+		BigDecimal value = new BigDecimal(amount.trim()).movePointRight(fractionDigits);
+		try {
+			return value.longValueExact();
+		} catch (ArithmeticException e) {
+			throw new IllegalArgumentException(value.scale() > 0
+					? "Amount has more than %d decimals: %s".formatted(fractionDigits, amount)
+					: "Amount is out of range: " + amount);
+		}
+	}
+
+	static Instant toInstant(String date) {
+		String value = date.trim();
+		return value.length() == 10
+				? LocalDate.parse(value).atStartOfDay().toInstant(ZoneOffset.UTC)
+				: Instant.parse(value);
+	}
+
+	/**
+	 * Resolves the transaction type and signed amount. An explicit type wins over the sign of the amount.
+	 */
+	static StatementLine line(long lineNumber, Instant date, String type, long amount, String category,
+							  String explanation) {
+		TransactionType resolved = type == null || type.isBlank()
+				? (amount < 0 ? TransactionType.EXPENSE : TransactionType.INCOME)
+				: EnumResolver.of(TransactionType.class).parse(type.trim());
+		if (resolved == TransactionType.TRANSFER) {
+			throw new IllegalArgumentException("Transfers cannot be imported from a statement");
+		}
+		String text = explanation == null || explanation.isBlank() ? "Imported transaction" : explanation.trim();
+		return new StatementLine(lineNumber, date, resolved, resolved.signed(Math.absExact(amount)), category,
+				text.length() > 100 ? text.substring(0, 100) : text);
+	}
+}
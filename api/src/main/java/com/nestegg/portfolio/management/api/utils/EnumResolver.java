@@ -0,0 +1,96 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.utils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Case-insensitive lookup of enum constants by name, built once per enum class and shared.
+ * Resolving an exact or upper-case name is a single hash lookup; other casings fall back to a scan
+ * over the cached constants. Neither path allocates.
+ *
+ * @param <E> the enum type
+ */
+public final class EnumResolver<E extends Enum<E>> {
+
+	private static final ClassValue<EnumResolver<?>> RESOLVERS = new ClassValue<>() {
+		@Override
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		protected EnumResolver<?> computeValue(Class<?> type) {
+			if (!type.isEnum()) {
+				throw new IllegalArgumentException("%s is not an enum".formatted(type.getName()));
+			}
+			return new EnumResolver(type);
+		}
+	};
+
+	private final Class<E> type;
+	private final E[] constants;
+	private final Map<String, E> byName;
+
+	private EnumResolver(Class<E> type) {
+		this.type = type;
+		this.constants = type.getEnumConstants();
+		this.byName = new HashMap<>(this.constants.length * 2);
+		for (E constant : this.constants) {
+			this.byName.put(constant.name(), constant);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	public static <E extends Enum<E>> EnumResolver<E> of(Class<E> type) {
+		return (EnumResolver<E>) RESOLVERS.get(type);
+	}
+
+	/**
+	 * Resolver for an enum class known only as a wildcard, e.g. from an annotation attribute.
+	 */
+	public static EnumResolver<?> forType(Class<?> type) {
+		return RESOLVERS.get(type);
+	}
+
+	/**
+	 * @return the matching constant, or {@code null} when {@code value} is null or names no constant
+	 */
+	public E resolve(String value) {
+		if (value == null) {
+			return null;
+		}
+		E constant = this.byName.get(value);
+		if (constant != null) {
+			return constant;
+		}
+		for (E candidate : this.constants) {
+			if (candidate.name().equalsIgnoreCase(value)) {
+				return candidate;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * @throws IllegalArgumentException when {@code value} names no constant
+	 */
+	public E parse(String value) {
+		E constant = resolve(value);
+		if (constant == null) {
+			throw new IllegalArgumentException("Unknown %s value: %s".formatted(this.type.getSimpleName(), value));
+		}
+		return constant;
+	}
+}
@@ -0,0 +1,64 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.utils;
+
+import java.util.Currency;
+import java.util.Locale;
+
+/**
+ * Amounts are {@code long} counts of minor units (cents for USD) and map to {@code bigint} columns. Accounts and
+ * budgets carry an ISO 4217 currency; transactions, ledger checkpoints and rollups are in the currency of their
+ * account. Sums go through {@link Math#addExact(long, long)} so that an overflow fails instead of wrapping.
+ */
+public final class Money {
+
+	private Money() {
+	}
+
+	/**
+	 * @return the upper-cased ISO 4217 code, or {@code defaultCurrency} when {@code code} is null or blank
+	 * @throws IllegalArgumentException if {@code code} is not a known currency
+	 */
+	public static String currency(String code, String defaultCurrency) {
+		String currency = tryCurrency(code, defaultCurrency);
+		if (currency == null) {
+			throw new IllegalArgumentException("Unknown currency: " + code);
+		}
+		return currency;
+	}
+
+	/**
+	 * @return the number of minor-unit digits of a currency, 2 for USD, 0 for JPY, 3 for BHD
+	 */
+	public static int fractionDigits(String currency) {
+		return Math.max(0, Currency.getInstance(currency).getDefaultFractionDigits());
+	}
+
+	/**
+	 * Same as {@link #currency(String, String)}, but returns {@code null} for an unknown currency.
+	 */
+	public static String tryCurrency(String code, String defaultCurrency) {
+		if (StringValidators.isNullOrEmpty(code)) {
+			return defaultCurrency;
+		}
+		try {
+			return Currency.getInstance(code.trim().toUpperCase(Locale.ROOT)).getCurrencyCode();
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+}
@@ -24,6 +24,20 @@ public class StringValidators {
 		return str == null || str.isEmpty();
 	}
 
+	/**
+	 * @return the parsed UUID, or {@code null} if {@code str} is null or not a UUID
+	 */
+	public static UUID tryParseUUID(String str) {
+		if (str == null) {
+			return null;
+		}
+		try {
+			return UUID.fromString(str);
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+
 	public static UUID parseUUID(String str) {
 		try {
 			return UUID.fromString(str);
@@ -0,0 +1,39 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.utils;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generates time-ordered UUIDv7 ids (RFC 9562): 48 bits of Unix epoch milliseconds, the version and variant bits,
+ * and 74 random bits. Ids created later sort after earlier ones, so primary key inserts go to the right edge of the
+ * B-tree instead of a random page. Ids of the same millisecond are not ordered among themselves. There is no shared
+ * state; the random bits come from {@link ThreadLocalRandom}, so concurrent callers never contend.
+ */
+public final class Uuids {
+
+	private Uuids() {
+	}
+
+	public static UUID timeOrdered() {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		long msb = (System.currentTimeMillis() << 16) | 0x7000L | (random.nextLong() & 0x0FFFL);
+		long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+		return new UUID(msb, lsb);
+	}
+}
@@ -0,0 +1,116 @@
+-- Baseline schema. Hibernate only validates it (ddl-auto: validate); every change from here on is a new
+-- versioned migration in this directory.
+
+create table account
+(
+    id              uuid                     not null,
+    version         bigint,
+    created_at      timestamp(6) with time zone not null,
+    updated_at      timestamp(6) with time zone,
+    is_active       boolean                  not null,
+    is_deleted      boolean                  not null,
+    name            varchar(255)             not null,
+    type            varchar(255),
+    branch          varchar(255),
+    initial_balance numeric(38, 0)           not null,
+    current_balance numeric(38, 0)           not null,
+    constraint pk_account primary key (id),
+    constraint uk_account_name unique (name),
+    constraint ck_account_type check (type in ('CASH', 'CHECKING', 'SAVINGS', 'INVESTMENT', 'CREDIT_CARD', 'LOAN', 'OTHER'))
+);
+
+create table category
+(
+    id          uuid                        not null,
+    version     bigint,
+    created_at  timestamp(6) with time zone not null,
+    updated_at  timestamp(6) with time zone,
+    is_active   boolean                     not null,
+    is_deleted  boolean                     not null,
+    name        varchar(50)                 not null,
+    description varchar(100),
+    constraint pk_category primary key (id),
+    constraint uk_category_name unique (name)
+);
+
+create table budget
+(
+    id          uuid                        not null,
+    version     bigint,
+    created_at  timestamp(6) with time zone not null,
+    updated_at  timestamp(6) with time zone,
+    is_active   boolean                     not null,
+    is_deleted  boolean                     not null,
+    category_id uuid                        not null,
+    amount      float(53)                   not null,
+    spent       float(53)                   not null,
+    remaining   float(53)                   not null,
+    period      varchar(255),
+    constraint pk_budget primary key (id),
+    constraint uk_budget_category unique (category_id),
+    constraint fk_budget_category foreign key (category_id) references category (id),
+    constraint ck_budget_period check (period in ('DAILY', 'WEEKLY', 'MONTHLY', 'YEARLY'))
+);
+
+create table transaction
+(
+    id          uuid                        not null,
+    version     bigint,
+    created_at  timestamp(6) with time zone not null,
+    updated_at  timestamp(6) with time zone,
+    is_active   boolean                     not null,
+    is_deleted  boolean                     not null,
+    account_id  uuid                        not null,
+    category_id uuid                        not null,
+    explanation varchar(100)                not null,
+    type        varchar(255),
+    amount      numeric(38, 0)              not null,
+    constraint pk_transaction primary key (id),
+    constraint fk_transaction_account foreign key (account_id) references account (id),
+    constraint fk_transaction_category foreign key (category_id) references category (id),
+    constraint ck_transaction_type check (type in ('INCOME', 'EXPENSE', 'TRANSFER'))
+);
+
+create table balance_checkpoint
+(
+    account_id      uuid           not null,
+    balance_date    date           not null,
+    net_change      numeric(38, 0) not null,
+    closing_balance numeric(38, 0) not null,
+    constraint pk_balance_checkpoint primary key (account_id, balance_date)
+);
+
+create table budget_spend_slot
+(
+    budget_id    uuid           not null,
+    period_start date           not null,
+    slot         integer        not null,
+    spent        numeric(38, 0) not null,
+    constraint pk_budget_spend_slot primary key (budget_id, period_start, slot)
+);
+
+create table monthly_rollup
+(
+    account_id        uuid           not null,
+    category_id       uuid           not null,
+    type              varchar(255)   not null,
+    month             date           not null,
+    total             numeric(38, 0) not null,
+    transaction_count bigint         not null,
+    constraint pk_monthly_rollup primary key (account_id, category_id, type, month),
+    constraint ck_monthly_rollup_type check (type in ('INCOME', 'EXPENSE', 'TRANSFER'))
+);
+
+-- Keyset pagination of live transactions (per account, per category, and across all accounts). Deleted rows
+-- never match these queries, so they are left out of the indexes.
+create index idx_transaction_account_created_at on transaction (account_id, created_at, id) where is_deleted = false;
+create index idx_transaction_category_created_at on transaction (category_id, created_at, id) where is_deleted = false;
+create index idx_transaction_created_at on transaction (created_at, id) where is_deleted = false;
+
+-- Point-in-time balances and the rollup rebuild sum every row of an account in a time range; including the
+-- amount lets both run as index-only scans.
+create index idx_transaction_account_ledger on transaction (account_id, created_at) include (amount);
+
+create index idx_budget_period on budget (period) where is_deleted = false;
+
+create index idx_monthly_rollup_month on monthly_rollup (month, type);
@@ -0,0 +1,30 @@
+-- Archive tables for rows that were soft-deleted long enough ago. They mirror the column order of their live table
+-- (the archive job copies rows with "select *"), so any column added to a live table must be added here as well.
+
+create table account_archive
+(
+    like account including defaults,
+    archived_at timestamp(6) with time zone not null,
+    constraint pk_account_archive primary key (id)
+);
+
+create table category_archive
+(
+    like category including defaults,
+    archived_at timestamp(6) with time zone not null,
+    constraint pk_category_archive primary key (id)
+);
+
+create table transaction_archive
+(
+    like transaction including defaults,
+    archived_at timestamp(6) with time zone not null,
+    constraint pk_transaction_archive primary key (id)
+);
+
+-- Tombstones are a small fraction of each table; these let the archive job find the expired ones without scanning
+-- the live rows.
+create index idx_account_deleted on account (updated_at) where is_deleted = true;
+create index idx_category_deleted on category (updated_at) where is_deleted = true;
+create index idx_transaction_deleted on transaction (updated_at) where is_deleted = true;
+create index idx_transaction_deleted_category on transaction (category_id) where is_deleted = true;
@@ -0,0 +1,63 @@
+-- Stores transactions in monthly range partitions on created_at. Postgres requires the partition key in every unique
+-- constraint, so the primary key becomes (id, created_at). Rows outside every monthly partition land in
+-- transaction_default; the partition maintenance job moves them into their own month and keeps future months created
+-- ahead of time. The column order is unchanged, transaction_archive still mirrors it.
+
+create table transaction_new
+(
+    id          uuid                        not null,
+    version     bigint,
+    created_at  timestamp(6) with time zone not null,
+    updated_at  timestamp(6) with time zone,
+    is_active   boolean                     not null,
+    is_deleted  boolean                     not null,
+    account_id  uuid                        not null,
+    category_id uuid                        not null,
+    explanation varchar(100)                not null,
+    type        varchar(255),
+    amount      numeric(38, 0)              not null
+) partition by range (created_at);
+
+create table transaction_default partition of transaction_new default;
+
+do
+$$
+    declare
+        first_month date := date_trunc('month', coalesce((select min(created_at) from transaction), now()) at time zone 'UTC');
+        last_month  date := date_trunc('month', greatest((select max(created_at) from transaction), now()) at time zone 'UTC')
+                                + interval '3 months';
+        cur         date := first_month;
+    begin
+        while cur <= last_month
+            loop
+                execute format('create table %I partition of transaction_new for values from (%L) to (%L)',
+                               'transaction_p' || to_char(cur, 'YYYY_MM'),
+                               cur::timestamp at time zone 'UTC',
+                               (cur + interval '1 month')::timestamp at time zone 'UTC');
+                cur := cur + interval '1 month';
+            end loop;
+    end
+$$;
+
+insert into transaction_new
+select *
+from transaction;
+
+drop table transaction;
+
+alter table transaction_new
+    rename to transaction;
+
+alter table transaction
+    add constraint pk_transaction primary key (id, created_at),
+    add constraint fk_transaction_account foreign key (account_id) references account (id),
+    add constraint fk_transaction_category foreign key (category_id) references category (id),
+    add constraint ck_transaction_type check (type in ('INCOME', 'EXPENSE', 'TRANSFER'));
+
+-- Same indexes as before; created on the parent, they are created on every partition, present and future.
+create index idx_transaction_account_created_at on transaction (account_id, created_at, id) where is_deleted = false;
+create index idx_transaction_category_created_at on transaction (category_id, created_at, id) where is_deleted = false;
+create index idx_transaction_created_at on transaction (created_at, id) where is_deleted = false;
+create index idx_transaction_account_ledger on transaction (account_id, created_at) include (amount);
+create index idx_transaction_deleted on transaction (updated_at) where is_deleted = true;
+create index idx_transaction_deleted_category on transaction (category_id) where is_deleted = true;
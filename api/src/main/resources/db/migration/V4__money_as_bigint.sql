@@ -0,0 +1,52 @@
+-- Stores every amount as a bigint count of minor units (cents for USD) instead of numeric or float. Accounts and
+-- budgets get an ISO 4217 currency; existing rows are USD. Transactions, checkpoints and rollups stay in the
+-- currency of their account. Budget amounts were already whole minor units held in a float and are rounded.
+-- Partitions detached by the partition maintenance job (transaction_archive_p*) keep their numeric amount.
+
+alter table account
+    alter column initial_balance type bigint,
+    alter column current_balance type bigint,
+    add column currency varchar(3) not null default 'USD';
+alter table account
+    alter column currency drop default;
+
+alter table budget
+    alter column amount type bigint using round(amount)::bigint,
+    alter column spent type bigint using round(spent)::bigint,
+    alter column remaining type bigint using round(remaining)::bigint,
+    add column currency varchar(3) not null default 'USD';
+alter table budget
+    alter column currency drop default;
+
+alter table transaction
+    alter column amount type bigint;
+alter table transaction_archive
+    alter column amount type bigint;
+
+alter table balance_checkpoint
+    alter column net_change type bigint,
+    alter column closing_balance type bigint;
+
+alter table budget_spend_slot
+    alter column spent type bigint;
+
+alter table monthly_rollup
+    alter column total type bigint;
+
+-- The archive job copies rows with "select moved.*, archived_at", so account_archive must keep the column order of
+-- account followed by archived_at. Appending currency after archived_at would break that; rebuild the table instead.
+create table account_archive_new
+(
+    like account including defaults,
+    archived_at timestamp(6) with time zone not null
+);
+
+insert into account_archive_new (id, version, created_at, updated_at, is_active, is_deleted, name, type, branch,
+                                 initial_balance, current_balance, currency, archived_at)
+select id, version, created_at, updated_at, is_active, is_deleted, name, type, branch,
+       initial_balance, current_balance, 'USD', archived_at
+from account_archive;
+
+drop table account_archive;
+alter table account_archive_new rename to account_archive;
+alter table account_archive add constraint pk_account_archive primary key (id);
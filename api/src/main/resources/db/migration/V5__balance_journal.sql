@@ -0,0 +1,21 @@
+-- Write-behind journal of the hot-balance mode. Each transaction written while the mode is on appends a row here in
+-- the same database transaction instead of updating its account row; the flush job applies the rows to the account
+-- balance, the ledger checkpoints and the rollups in batches and deletes them. Rows that are still here after a crash
+-- are applied on the next flush.
+
+create table balance_journal
+(
+    seq            bigint generated always as identity,
+    transaction_id uuid                        not null,
+    account_id     uuid                        not null,
+    category_id    uuid                        not null,
+    type           varchar(255)                not null,
+    amount         bigint                      not null,
+    created_at     timestamp(6) with time zone not null,
+    constraint pk_balance_journal primary key (seq)
+);
+
+-- Loading a hot balance adds the account's pending rows to its persisted balance.
+create index idx_balance_journal_account on balance_journal (account_id) include (amount);
+-- The rollup rebuild skips transactions that are still pending.
+create index idx_balance_journal_transaction on balance_journal (transaction_id);
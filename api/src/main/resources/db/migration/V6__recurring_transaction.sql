@@ -0,0 +1,34 @@
+-- Recurrence rules. The recurring transaction job claims due rules through the partial index on next_run_at and
+-- materializes their occurrences into transaction rows. occurrences counts the materialized ones; the next one is
+-- starts_at plus that many periods, so monthly rules do not drift after short months.
+
+create table recurring_transaction
+(
+    id          uuid                        not null,
+    version     bigint,
+    created_at  timestamp(6) with time zone not null,
+    updated_at  timestamp(6) with time zone,
+    is_active   boolean                     not null,
+    is_deleted  boolean                     not null,
+    account_id  uuid                        not null,
+    category_id uuid                        not null,
+    explanation varchar(100)                not null,
+    type        varchar(255)                not null,
+    amount      bigint                      not null,
+    period      varchar(255)                not null,
+    starts_at   timestamp(6) with time zone not null,
+    occurrences bigint                      not null,
+    next_run_at timestamp(6) with time zone not null,
+    constraint pk_recurring_transaction primary key (id),
+    -- the archive job only removes accounts and categories without live rules; deleted rules go with them
+    constraint fk_recurring_transaction_account foreign key (account_id) references account (id) on delete cascade,
+    constraint fk_recurring_transaction_category foreign key (category_id) references category (id) on delete cascade,
+    constraint ck_recurring_transaction_type check (type in ('INCOME', 'EXPENSE')),
+    constraint ck_recurring_transaction_period check (period in ('DAILY', 'WEEKLY', 'MONTHLY', 'YEARLY'))
+);
+
+create index idx_recurring_transaction_due on recurring_transaction (next_run_at)
+    where is_active = true and is_deleted = false;
+-- the archive job's reference checks
+create index idx_recurring_transaction_account on recurring_transaction (account_id) where is_deleted = false;
+create index idx_recurring_transaction_category on recurring_transaction (category_id) where is_deleted = false;
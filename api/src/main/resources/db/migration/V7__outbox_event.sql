@@ -0,0 +1,16 @@
+-- Transactional outbox. Every write to an account, category, budget or transaction appends its change events here in
+-- the same database transaction, so an event exists if and only if its change committed. The relay job publishes the
+-- rows in batches, oldest first, and deletes them in the transaction that published them.
+
+create table outbox_event
+(
+    seq            bigint generated always as identity,
+    aggregate_type varchar(32)                 not null,
+    aggregate_id   uuid                        not null,
+    event_type     varchar(32)                 not null,
+    payload        jsonb                       not null,
+    created_at     timestamp(6) with time zone not null,
+    constraint pk_outbox_event primary key (seq),
+    constraint ck_outbox_event_aggregate_type check (aggregate_type in ('ACCOUNT', 'CATEGORY', 'BUDGET', 'TRANSACTION')),
+    constraint ck_outbox_event_event_type check (event_type in ('CREATED', 'UPDATED', 'STATUS_CHANGED', 'DELETED'))
+);
@@ -0,0 +1,8 @@
+-- Transactions are never soft-deleted, so the archive purge job has no transaction tombstones to move. Drop the
+-- archive table and the indexes that only served that lookup. Detached monthly partitions
+-- (transaction_archive_pYYYY_MM) are unrelated and stay.
+
+drop table transaction_archive;
+
+drop index idx_transaction_deleted;
+drop index idx_transaction_deleted_category;
@@ -0,0 +1,90 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.nestegg.portfolio.management.api;
+
+import com.nestegg.portfolio.management.api.entities.Account;
+import com.nestegg.portfolio.management.api.entities.AccountType;
+import com.nestegg.portfolio.management.api.entities.Category;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Builds the accounts and categories the database-backed tests write through, and removes them again together with
+ * every row that hangs off them, so that one test's rows never show up in another test's totals. Outbox events are
+ * left to the relay, which drains them while the context is up.
+ */
+public final class TestData {
+
+	private static final List<String> ACCOUNT_ROWS = List.of(
+			"delete from balance_journal where account_id = ?",
+			"delete from transaction where account_id = ?",
+			"delete from balance_checkpoint where account_id = ?",
+			"delete from monthly_rollup where account_id = ?",
+			"delete from recurring_transaction where account_id = ?",
+			"delete from account_archive where id = ?",
+			"delete from account where id = ?");
+
+	private static final List<String> CATEGORY_ROWS = List.of(
+			"delete from balance_journal where category_id = ?",
+			"delete from transaction where category_id = ?",
+			"delete from monthly_rollup where category_id = ?",
+			"delete from recurring_transaction where category_id = ?",
+			"delete from budget_spend_slot where budget_id in (select id from budget where category_id = ?)",
+			"delete from budget where category_id = ?",
+			"delete from category_archive where id = ?",
+			"delete from category where id = ?");
+
+	private final List<UUID> accountIds = new ArrayList<>();
+	private final List<UUID> categoryIds = new ArrayList<>();
+
+	public static Account account(String prefix, long balance) {
+		return Account.builder()
+				.name(prefix + "-" + UUID.randomUUID()).type(AccountType.CHECKING).branch("test")
+				.initialBalance(balance).currentBalance(balance).currency("USD").build();
+	}
+
+	public static Category category(String prefix) {
+		return Category.builder()
+				.name(prefix + "-" + UUID.randomUUID().toString().substring(0, 8)).description("test").build();
+	}
+
+	/**
+	 * Registers an account created by the test, including accounts created through the API.
+	 */
+	public UUID account(UUID id) {
+		this.accountIds.add(id);
+		return id;
+	}
+
+	public UUID category(UUID id) {
+		this.categoryIds.add(id);
+		return id;
+	}
+
+	/**
+	 * Deletes the registered rows. Each category takes its transactions along, so the accounts have none left from
+	 * another registered category by the time they are deleted.
+	 */
+	public void delete(JdbcTemplate jdbcTemplate) {
+		this.categoryIds.forEach(id -> CATEGORY_ROWS.forEach(sql -> jdbcTemplate.update(sql, id)));
+		this.accountIds.forEach(id -> ACCOUNT_ROWS.forEach(sql -> jdbcTemplate.update(sql, id)));
+		this.accountIds.clear();
+		this.categoryIds.clear();
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.nestegg.portfolio.management.api.config;
+
+import com.nestegg.portfolio.management.api.exceptions.ConnectionLimitExceededException;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConnectionLimitingDataSourceTests {
+
+	@Test
+	void rejectsCallersBeyondTheWaitingLimitAtOnce() throws SQLException {
+		ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(pool(new AtomicInteger()), 1, 0,
+				Duration.ofMinutes(1));
+
+		Connection held = dataSource.getConnection();
+		long start = System.nanoTime();
+		assertThrows(ConnectionLimitExceededException.class, dataSource::getConnection);
+		assertTrue(Duration.ofNanos(System.nanoTime() - start).toSeconds() < 1);
+
+		held.close();
+		dataSource.getConnection().close();
+	}
+
+	@Test
+	void waitersGiveUpAfterTheTimeout() throws SQLException {
+		ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(pool(new AtomicInteger()), 1, 1,
+				Duration.ofMillis(50));
+
+		try (Connection ignored = dataSource.getConnection()) {
+			ConnectionLimitExceededException timeout = assertThrows(ConnectionLimitExceededException.class,
+					dataSource::getConnection);
+			assertEquals("No database connection available within 50 ms", timeout.getMessage());
+		}
+	}
+
+	@Test
+	void closingTwiceReturnsOnePermit() throws SQLException {
+		AtomicInteger closed = new AtomicInteger();
+		ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(pool(closed), 1, 0,
+				Duration.ofMinutes(1));
+
+		Connection connection = dataSource.getConnection();
+		connection.close();
+		connection.close();
+
+		assertEquals(2, closed.get());
+		Connection next = dataSource.getConnection();
+		assertThrows(ConnectionLimitExceededException.class, dataSource::getConnection);
+		next.close();
+	}
+
+	@Test
+	void failedAcquisitionReturnsThePermit() throws SQLException {
+		AtomicInteger calls = new AtomicInteger();
+		DataSource flaky = (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(),
+				new Class<?>[]{DataSource.class}, (proxy, method, args) -> {
+					if (calls.getAndIncrement() == 0) {
+						throw new SQLException("pool exhausted");
+					}
+					return connection(new AtomicInteger());
+				});
+		ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(flaky, 1, 0, Duration.ofMinutes(1));
+
+		assertThrows(SQLException.class, dataSource::getConnection);
+		dataSource.getConnection().close();
+	}
+
+	private static DataSource pool(AtomicInteger closed) {
+		return (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(), new Class<?>[]{DataSource.class},
+				(proxy, method, args) -> connection(closed));
+	}
+
+	private static Connection connection(AtomicInteger closed) {
+		return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+				(proxy, method, args) -> {
+					if (method.getName().equals("close")) {
+						closed.incrementAndGet();
+					}
+					return null;
+				});
+	}
+}
@@ -0,0 +1,165 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.config;
+
+import com.nestegg.portfolio.management.api.ApiApplication;
+import com.nestegg.portfolio.management.api.TestData;
+import com.nestegg.portfolio.management.api.entities.Account;
+import com.nestegg.portfolio.management.api.entities.Category;
+import com.nestegg.portfolio.management.api.entities.TransactionType;
+import com.nestegg.portfolio.management.api.repositories.AccountRepository;
+import com.nestegg.portfolio.management.api.repositories.CategoryRepository;
+import com.nestegg.portfolio.management.api.repositories.TransactionRow;
+import com.nestegg.portfolio.management.api.services.impl.TransactionWriter;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Boots the application in platform- and virtual-thread mode and drives the transaction listing endpoint,
+ * which needs a JDBC connection per request, with many concurrent clients.
+ */
+@Tag("performance")
+class VirtualThreadLoadTests {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreadLoadTests.class);
+
+	private static final int REQUESTS_PER_CLIENT = Integer.getInteger("load.requests", 5);
+	private static final int SEED_ROWS = 1_000;
+
+	@ParameterizedTest(name = "{0} clients, virtual threads = {1}")
+	@CsvSource({"1000, false", "1000, true", "10000, false", "10000, true"})
+	void concurrentClients(int clients, boolean virtualThreads) throws Exception {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ApiApplication.class)
+				.properties("server.port=0",
+						"server.tomcat.max-connections=" + (clients * 2),
+						"server.tomcat.accept-count=" + clients,
+						"spring.jpa.show-sql=false",
+						"spring.threads.virtual.enabled=" + virtualThreads)
+				.run()) {
+			String base = "http://localhost:%s/api/v1/portfolio-management".formatted(
+					context.getEnvironment().getProperty("local.server.port"));
+			TestData testData = new TestData();
+			try {
+				URI uri = URI.create(base + "/accounts/" + seed(context, testData) + "/transactions?size=20");
+
+				Result result = run(uri, clients);
+				LOGGER.info(("mode=%s clients=%d requests=%d ok=%d busy=%d failed=%d throughput=%.0f req/s "
+						+ "p50=%.1f ms p99=%.1f ms").formatted(
+						virtualThreads ? "virtual" : "platform", clients, result.total(), result.ok(), result.busy(),
+						result.failed(), result.total() * 1000.0 / result.elapsed().toMillis(),
+						result.percentile(0.50), result.percentile(0.99)));
+
+				assertTrue(result.ok() > 0);
+				if (virtualThreads) {
+					assertEquals(0, result.failed(), "Excess load must be shed with 503 rather than failing");
+				}
+			} finally {
+				testData.delete(context.getBean(JdbcTemplate.class));
+			}
+		}
+	}
+
+	private static UUID seed(ConfigurableApplicationContext context, TestData testData) {
+		Account account = context.getBean(AccountRepository.class).save(TestData.account("load", 0L));
+		Category category = context.getBean(CategoryRepository.class).save(TestData.category("ld"));
+		testData.account(account.getId());
+		testData.category(category.getId());
+
+		Instant start = Instant.now().minusSeconds(SEED_ROWS);
+		List<TransactionRow> rows = new ArrayList<>(SEED_ROWS);
+		for (int i = 0; i < SEED_ROWS; i++) {
+			rows.add(new TransactionRow(UUID.randomUUID(), account.getId(), category.getId(), TransactionType.INCOME,
+					1L, "load " + i, start.plusSeconds(i)));
+		}
+		context.getBean(TransactionWriter.class).write(rows);
+		return account.getId();
+	}
+
+	private static Result run(URI uri, int clients) throws InterruptedException {
+		AtomicInteger ok = new AtomicInteger();
+		AtomicInteger busy = new AtomicInteger();
+		AtomicInteger failed = new AtomicInteger();
+		ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+
+		long start = System.nanoTime();
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+			 HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+					 .executor(executor).connectTimeout(Duration.ofSeconds(30)).build()) {
+			HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(60)).GET().build();
+			for (int c = 0; c < clients; c++) {
+				executor.submit(() -> {
+					for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+						long sent = System.nanoTime();
+						try {
+							int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+							latencies.add(System.nanoTime() - sent);
+							switch (status) {
+								case 200 -> ok.incrementAndGet();
+								case 503 -> busy.incrementAndGet();
+								default -> failed.incrementAndGet();
+							}
+						} catch (Exception e) {
+							failed.incrementAndGet();
+						}
+					}
+					return null;
+				});
+			}
+		}
+		Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+		long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+		return new Result(ok.get(), busy.get(), failed.get(), elapsed, sorted);
+	}
+
+	private record Result(int ok, int busy, int failed, Duration elapsed, long[] latencies) {
+
+		int total() {
+			return this.ok + this.busy + this.failed;
+		}
+
+		double percentile(double p) {
+			if (this.latencies.length == 0) {
+				return 0;
+			}
+			return this.latencies[(int) Math.min(this.latencies.length - 1, p * this.latencies.length)] / 1e6;
+		}
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.controllers;
+
+import com.nestegg.portfolio.management.api.ApiApplication;
+import com.nestegg.portfolio.management.api.TestData;
+import com.nestegg.portfolio.management.api.entities.Account;
+import com.nestegg.portfolio.management.api.entities.Category;
+import com.nestegg.portfolio.management.api.entities.TransactionType;
+import com.nestegg.portfolio.management.api.repositories.AccountRepository;
+import com.nestegg.portfolio.management.api.repositories.CategoryRepository;
+import com.nestegg.portfolio.management.api.repositories.TransactionRow;
+import com.nestegg.portfolio.management.api.services.impl.TransactionWriter;
+import com.nestegg.portfolio.management.api.utils.Uuids;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Holds many idle balance streams open against one account, then writes a burst of single-transaction batches and
+ * waits until every stream has seen the final balance. Reports the server's platform thread count and heap while
+ * the streams are idle, and how many pushes the coalescing saved. Opens 10k streams unless {@code -Dload.streams}
+ * says otherwise.
+ */
+@Tag("performance")
+class LiveUpdateStreamLoadTests {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(LiveUpdateStreamLoadTests.class);
+
+	private static final int STREAMS = Integer.getInteger("load.streams", 10_000);
+	private static final int WRITES = 100;
+
+	@Test
+	void idleStreamsReceiveCoalescedBalance() throws Exception {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ApiApplication.class)
+				.properties("server.port=0",
+						"server.tomcat.max-connections=" + (STREAMS * 2),
+						"server.tomcat.accept-count=" + STREAMS,
+						"nestegg.live.max-streams=" + STREAMS,
+						"nestegg.live.coalesce-interval=PT0.2S",
+						"nestegg.outbox.relay-interval=PT0.2S")
+				.run()) {
+			String base = "http://localhost:%s/api/v1/portfolio-management".formatted(
+					context.getEnvironment().getProperty("local.server.port"));
+			TestData testData = new TestData();
+			Account account = context.getBean(AccountRepository.class).save(TestData.account("live", 0L));
+			Category category = context.getBean(CategoryRepository.class).save(TestData.category("lv"));
+			testData.account(account.getId());
+			testData.category(category.getId());
+			String finalBalance = "\"balance\":" + WRITES + "}";
+
+			CountDownLatch opened = new CountDownLatch(STREAMS);
+			CountDownLatch updated = new CountDownLatch(STREAMS);
+			AtomicLong pushes = new AtomicLong();
+			try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+				 HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+						 .executor(executor).connectTimeout(Duration.ofSeconds(30)).build()) {
+				HttpRequest request = HttpRequest.newBuilder(URI.create(base + "/accounts/" + account.getId() + "/stream"))
+						.header("Accept", "text/event-stream").GET().build();
+				for (int s = 0; s < STREAMS; s++) {
+					executor.submit(() -> {
+						HttpResponse<Stream<String>> response = client.send(request, HttpResponse.BodyHandlers.ofLines());
+						try (Stream<String> lines = response.body()) {
+							boolean first = true;
+							for (Iterator<String> it = lines.iterator(); it.hasNext(); ) {
+								String line = it.next();
+								if (!line.startsWith("data:")) {
+									continue;
+								}
+								if (first) {
+									first = false;
+									opened.countDown();
+								} else {
+									pushes.incrementAndGet();
+								}
+								if (line.contains(finalBalance)) {
+									updated.countDown();
+									break;
+								}
+							}
+						}
+						return null;
+					});
+				}
+
+				assertTrue(opened.await(5, TimeUnit.MINUTES), "Every stream must receive the current balance");
+				System.gc();
+				long heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+				int threads = ManagementFactory.getThreadMXBean().getThreadCount();
+
+				long start = System.nanoTime();
+				TransactionWriter writer = context.getBean(TransactionWriter.class);
+				for (int i = 0; i < WRITES; i++) {
+					writer.write(List.of(new TransactionRow(Uuids.timeOrdered(), account.getId(), category.getId(),
+							TransactionType.INCOME, 1L, "live " + i, Instant.now())));
+				}
+				boolean done = updated.await(5, TimeUnit.MINUTES);
+				long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+				LOGGER.info(("streams=%d idle: platform-threads=%d heap=%d MB; writes=%d pushes/stream=%.1f " +
+								"all-updated=%d ms").formatted(
+						STREAMS, threads, heap / (1024 * 1024), WRITES, pushes.get() / (double) STREAMS, elapsedMillis));
+				assertTrue(done, "Every stream must receive the final balance");
+				executor.shutdownNow();
+			} finally {
+				testData.delete(context.getBean(JdbcTemplate.class));
+			}
+		}
+	}
+}
@@ -0,0 +1,157 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.controllers;
+
+import com.nestegg.portfolio.management.api.TestData;
+import com.nestegg.portfolio.management.api.entities.*;
+import com.nestegg.portfolio.management.api.repositories.AccountRepository;
+import com.nestegg.portfolio.management.api.repositories.BudgetRepository;
+import com.nestegg.portfolio.management.api.repositories.CategoryRepository;
+import com.nestegg.portfolio.management.api.repositories.TransactionRow;
+import com.nestegg.portfolio.management.api.services.impl.TransactionWriter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Pins the number of JDBC statements each read endpoint issues, as counted by the request filter, so that an
+ * eager association or a per-row lookup shows up as a failing test instead of as N+1 queries in production.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ReadEndpointQueryCountTests {
+
+	private static final int ROWS = 50;
+
+	@Autowired
+	private Environment environment;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private BudgetRepository budgetRepository;
+
+	@Autowired
+	private TransactionWriter transactionWriter;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final HttpClient client = HttpClient.newHttpClient();
+
+	private final TestData testData = new TestData();
+
+	private Account account;
+	private Category category;
+
+	@BeforeEach
+	void seed() {
+		this.account = this.accountRepository.save(TestData.account("count", 0L));
+		this.category = this.categoryRepository.save(TestData.category("ct"));
+		this.testData.account(this.account.getId());
+		this.testData.category(this.category.getId());
+		this.budgetRepository.save(Budget.builder().category(this.category).amount(100L).currency("USD").spent(0L)
+				.remaining(100L).period(Period.MONTHLY).build());
+
+		Instant start = Instant.now().minusSeconds(ROWS);
+		List<TransactionRow> rows = new ArrayList<>(ROWS);
+		for (int i = 0; i < ROWS; i++) {
+			rows.add(new TransactionRow(UUID.randomUUID(), this.account.getId(), this.category.getId(),
+					TransactionType.EXPENSE, 1L, "count " + i, start.plusSeconds(i)));
+		}
+		this.transactionWriter.write(rows);
+	}
+
+	@AfterEach
+	void cleanUp() {
+		this.testData.delete(this.jdbcTemplate);
+	}
+
+	@Test
+	void accountByIdIsOneProjectedSelectThenCached() throws Exception {
+		String path = "/accounts/" + this.account.getId();
+		assertEquals(1, statements(path, "/accounts/{accountId}"));
+		assertEquals(0, statements(path, "/accounts/{accountId}"));
+	}
+
+	@Test
+	void categoryByIdDoesNotLoadItsBudget() throws Exception {
+		String path = "/categories/" + this.category.getId();
+		assertEquals(1, statements(path, "/categories/{categoryId}"));
+		assertEquals(0, statements(path, "/categories/{categoryId}"));
+	}
+
+	@Test
+	void budgetIsCategoryBudgetAndSpend() throws Exception {
+		String path = "/categories/" + this.category.getId() + "/budget";
+		assertEquals(3, statements(path, "/categories/{categoryId}/budget"));
+		assertEquals(2, statements(path, "/categories/{categoryId}/budget"));
+	}
+
+	@Test
+	void transactionPageIsOneSelectWhateverItsSize() throws Exception {
+		String path = "/accounts/" + this.account.getId() + "/transactions?size=" + ROWS;
+		assertEquals(1, statements(path, "/accounts/{accountId}/transactions"));
+	}
+
+	/**
+	 * Sends one GET and returns the statements it issued. The filter records the count after the response body
+	 * is written, so the summary is polled until the request shows up.
+	 */
+	private long statements(String path, String uriPattern) throws Exception {
+		DistributionSummary summary = DistributionSummary.builder("http.server.requests.queries")
+				.tag("method", "GET").tag("uri", uriPattern).register(this.meterRegistry);
+		long count = summary.count();
+		double total = summary.totalAmount();
+
+		URI uri = URI.create("http://localhost:%s/api/v1/portfolio-management%s"
+				.formatted(this.environment.getProperty("local.server.port"), path));
+		HttpResponse<Void> response = this.client.send(HttpRequest.newBuilder(uri).GET().build(),
+				HttpResponse.BodyHandlers.discarding());
+		assertEquals(200, response.statusCode());
+
+		long deadline = System.nanoTime() + 5_000_000_000L;
+		while (summary.count() == count && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		assertEquals(count + 1, summary.count());
+		return Math.round(summary.totalAmount() - total);
+	}
+}
@@ -0,0 +1,230 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.nestegg.portfolio.management.api.controllers;
+
+import com.nestegg.portfolio.management.api.TestData;
+import com.nestegg.portfolio.management.api.entities.Account;
+import com.nestegg.portfolio.management.api.entities.AccountType;
+import com.nestegg.portfolio.management.api.entities.Category;
+import com.nestegg.portfolio.management.api.repositories.AccountRepository;
+import com.nestegg.portfolio.management.api.repositories.CategoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The rejection paths of the batch and transfer endpoints: a rejected request must leave no transaction behind and
+ * no balance moved.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class TransactionEndpointTests {
+
+	@Autowired
+	private Environment environment;
+
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final HttpClient client = HttpClient.newHttpClient();
+	private final TestData testData = new TestData();
+
+	private Account account;
+	private Account other;
+	private Category category;
+
+	@BeforeEach
+	void seed() {
+		this.account = this.accountRepository.save(TestData.account("endpoint", 100L));
+		this.other = this.accountRepository.save(TestData.account("endpoint", 0L));
+		this.category = this.categoryRepository.save(TestData.category("ep"));
+		this.testData.account(this.account.getId());
+		this.testData.account(this.other.getId());
+		this.testData.category(this.category.getId());
+	}
+
+	@AfterEach
+	void cleanUp() {
+		this.testData.delete(this.jdbcTemplate);
+	}
+
+	@Test
+	void acceptsAValidBatch() throws Exception {
+		HttpResponse<String> response = post("/transactions/batch", batch(
+				line(this.account.getId(), "INCOME", 30), line(this.account.getId(), "expense", 10)));
+
+		assertEquals(201, response.statusCode(), response.body());
+		assertEquals(120L, balance(this.account));
+		assertEquals(2L, transactions());
+	}
+
+	@Test
+	void rejectsAnEmptyBatch() throws Exception {
+		assertEquals(400, post("/transactions/batch", batch()).statusCode());
+	}
+
+	@Test
+	void rejectsAnUnknownType() throws Exception {
+		assertRejected(post("/transactions/batch", batch(line(this.account.getId(), "REFUND", 10))));
+	}
+
+	@Test
+	void filtersTheListingByATypeInAnyCase() throws Exception {
+		post("/transactions/batch", batch(
+				line(this.account.getId(), "INCOME", 30), line(this.account.getId(), "EXPENSE", 10)));
+
+		HttpResponse<String> response = get("/accounts/%s/transactions?type=expense".formatted(this.account.getId()));
+
+		assertEquals(200, response.statusCode(), response.body());
+		assertTrue(response.body().contains("\"type\":\"EXPENSE\""), response.body());
+		assertFalse(response.body().contains("\"type\":\"INCOME\""), response.body());
+	}
+
+	@Test
+	void rejectsAnUnknownTypeFilter() throws Exception {
+		assertEquals(400, get("/transactions?type=REFUND").statusCode());
+	}
+
+	@Test
+	void rejectsTransfersInABatch() throws Exception {
+		assertRejected(post("/transactions/batch", batch(
+				line(this.account.getId(), "INCOME", 10), line(this.account.getId(), "TRANSFER", 10))));
+	}
+
+	@Test
+	void rejectsTheWholeBatchForOneUnknownAccount() throws Exception {
+		HttpResponse<String> response = post("/transactions/batch", batch(
+				line(this.account.getId(), "INCOME", 10), line(UUID.randomUUID(), "INCOME", 10)));
+
+		assertRejected(response);
+		assertTrue(response.body().contains("Accounts not found or inactive"), response.body());
+	}
+
+	@Test
+	void rejectsAnInactiveCategory() throws Exception {
+		this.category.setIsActive(false);
+		this.categoryRepository.save(this.category);
+
+		HttpResponse<String> response = post("/transactions/batch", batch(line(this.account.getId(), "INCOME", 10)));
+
+		assertRejected(response);
+		assertTrue(response.body().contains("Categories not found or inactive"), response.body());
+	}
+
+	@Test
+	void rejectsATransferBeyondTheBalanceWithConflict() throws Exception {
+		HttpResponse<String> response = post("/transactions/transfers", transfer(this.account, this.other, 101));
+
+		assertEquals(409, response.statusCode(), response.body());
+		assertEquals(100L, balance(this.account));
+		assertEquals(0L, balance(this.other));
+		assertEquals(0L, transactions());
+	}
+
+	@Test
+	void letsACreditCardTransferGoNegative() throws Exception {
+		this.account.setType(AccountType.CREDIT_CARD);
+		this.accountRepository.save(this.account);
+
+		HttpResponse<String> response = post("/transactions/transfers", transfer(this.account, this.other, 101));
+
+		assertEquals(201, response.statusCode(), response.body());
+		assertEquals(-1L, balance(this.account));
+		assertEquals(101L, balance(this.other));
+	}
+
+	@Test
+	void rejectsATransferToTheSameAccount() throws Exception {
+		assertRejected(post("/transactions/transfers", transfer(this.account, this.account, 10)));
+	}
+
+	@Test
+	void rejectsATransferBetweenCurrencies() throws Exception {
+		this.other.setCurrency("EUR");
+		this.accountRepository.save(this.other);
+
+		assertRejected(post("/transactions/transfers", transfer(this.account, this.other, 10)));
+		assertEquals(0L, balance(this.other));
+	}
+
+	private void assertRejected(HttpResponse<String> response) {
+		assertEquals(400, response.statusCode(), response.body());
+		assertEquals(100L, balance(this.account));
+		assertEquals(0L, transactions());
+	}
+
+	private long balance(Account account) {
+		return this.jdbcTemplate.queryForObject("select current_balance from account where id = ?", Long.class,
+				account.getId());
+	}
+
+	private long transactions() {
+		return this.jdbcTemplate.queryForObject("select count(*) from transaction where category_id = ?", Long.class,
+				this.category.getId());
+	}
+
+	private String line(UUID accountId, String type, long amount) {
+		return """
+				{"accountId": "%s", "categoryId": "%s", "type": "%s", "amount": %d, "explanation": "endpoint test"}"""
+				.formatted(accountId, this.category.getId(), type, amount);
+	}
+
+	private static String batch(String... lines) {
+		return "{\"transactions\": [%s]}".formatted(String.join(", ", lines));
+	}
+
+	private String transfer(Account from, Account to, long amount) {
+		return """
+				{"fromAccountId": "%s", "toAccountId": "%s", "categoryId": "%s", "amount": %d, "explanation": "endpoint test"}"""
+				.formatted(from.getId(), to.getId(), this.category.getId(), amount);
+	}
+
+	private HttpResponse<String> get(String path) throws Exception {
+		return this.client.send(HttpRequest.newBuilder(uri(path)).GET().build(), HttpResponse.BodyHandlers.ofString());
+	}
+
+	private HttpResponse<String> post(String path, String json) throws Exception {
+		return this.client.send(HttpRequest.newBuilder(uri(path))
+						.header("Content-Type", "application/json")
+						.POST(HttpRequest.BodyPublishers.ofString(json))
+						.build(),
+				HttpResponse.BodyHandlers.ofString());
+	}
+
+	private URI uri(String path) {
+		return URI.create("http://localhost:%s/api/v1/portfolio-management%s"
+				.formatted(this.environment.getProperty("local.server.port"), path));
+	}
+}
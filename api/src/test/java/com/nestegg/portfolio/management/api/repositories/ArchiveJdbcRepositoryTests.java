@@ -0,0 +1,150 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.nestegg.portfolio.management.api.repositories;
+
+import com.nestegg.portfolio.management.api.TestData;
+import com.nestegg.portfolio.management.api.entities.Account;
+import com.nestegg.portfolio.management.api.entities.Budget;
+import com.nestegg.portfolio.management.api.entities.Category;
+import com.nestegg.portfolio.management.api.entities.Period;
+import com.nestegg.portfolio.management.api.entities.TransactionType;
+import com.nestegg.portfolio.management.api.services.impl.TransactionWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tombstones are dated back to 1970 so that only the rows of this test are past the cut-off. The scheduled archive job
+ * may move them first, so the assertions look at where the rows ended up rather than at the returned counts.
+ */
+@SpringBootTest
+class ArchiveJdbcRepositoryTests {
+
+	private static final OffsetDateTime DELETED_AT = OffsetDateTime.of(1970, 1, 2, 0, 0, 0, 0, ZoneOffset.UTC);
+	private static final Instant CUT_OFF = Instant.parse("1970-01-03T00:00:00Z");
+
+	@Autowired
+	private ArchiveJdbcRepository archiveJdbcRepository;
+
+	@Autowired
+	private TransactionWriter transactionWriter;
+
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private BudgetRepository budgetRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final TestData testData = new TestData();
+
+	private UUID live;
+	private UUID unused;
+	private UUID used;
+	private UUID recent;
+	private UUID unusedCategory;
+	private UUID usedCategory;
+	private UUID budgeted;
+
+	@BeforeEach
+	void seed() {
+		this.live = saveAccount();
+		this.unused = saveAccount();
+		this.used = saveAccount();
+		this.recent = saveAccount();
+		this.unusedCategory = saveCategory().getId();
+		this.usedCategory = saveCategory().getId();
+		Category budgetedCategory = saveCategory();
+		this.budgeted = budgetedCategory.getId();
+		this.budgetRepository.save(Budget.builder().category(budgetedCategory).amount(100L).currency("USD").spent(0L)
+				.remaining(100L).period(Period.MONTHLY).build());
+		this.transactionWriter.write(List.of(new TransactionRow(UUID.randomUUID(), this.used, this.usedCategory,
+				TransactionType.EXPENSE, -10L, "archive test", Instant.now())));
+
+		for (UUID id : List.of(this.unused, this.used)) {
+			this.jdbcTemplate.update("update account set is_deleted = true, updated_at = ? where id = ?", DELETED_AT, id);
+		}
+		this.jdbcTemplate.update("update account set is_deleted = true where id = ?", this.recent);
+		for (UUID id : List.of(this.unusedCategory, this.usedCategory, this.budgeted)) {
+			this.jdbcTemplate.update("update category set is_deleted = true, updated_at = ? where id = ?", DELETED_AT, id);
+		}
+	}
+
+	@AfterEach
+	void cleanUp() {
+		this.testData.delete(this.jdbcTemplate);
+	}
+
+	@Test
+	void archivesOnlyExpiredUnreferencedAccounts() {
+		this.archiveJdbcRepository.archiveAccounts(CUT_OFF, 100);
+
+		assertArchived("account", this.unused);
+		assertKept("account", this.used);
+		assertKept("account", this.live);
+		assertKept("account", this.recent);
+	}
+
+	@Test
+	void archivesOnlyUnreferencedCategories() {
+		this.archiveJdbcRepository.archiveCategories(CUT_OFF, 100);
+
+		assertArchived("category", this.unusedCategory);
+		assertKept("category", this.usedCategory);
+		assertKept("category", this.budgeted);
+	}
+
+	private UUID saveAccount() {
+		Account account = this.accountRepository.save(TestData.account("archive", 0L));
+		return this.testData.account(account.getId());
+	}
+
+	private Category saveCategory() {
+		Category category = this.categoryRepository.save(TestData.category("archive"));
+		this.testData.category(category.getId());
+		return category;
+	}
+
+	private void assertArchived(String table, UUID id) {
+		assertEquals(0, count("select count(*) from " + table + " where id = ?", id), table + " " + id);
+		assertEquals(1, count("select count(*) from " + table + "_archive where id = ?", id), table + " " + id);
+	}
+
+	private void assertKept(String table, UUID id) {
+		assertEquals(1, count("select count(*) from " + table + " where id = ?", id), table + " " + id);
+		assertEquals(0, count("select count(*) from " + table + "_archive where id = ?", id), table + " " + id);
+	}
+
+	private int count(String sql, UUID id) {
+		return this.jdbcTemplate.queryForObject(sql, Integer.class, id);
+	}
+}
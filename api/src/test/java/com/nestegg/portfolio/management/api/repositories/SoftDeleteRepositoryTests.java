@@ -0,0 +1,73 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.repositories;
+
+import com.nestegg.portfolio.management.api.TestData;
+import com.nestegg.portfolio.management.api.entities.Account;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class SoftDeleteRepositoryTests {
+
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final TestData testData = new TestData();
+
+	@AfterEach
+	void cleanUp() {
+		this.testData.delete(this.jdbcTemplate);
+	}
+
+	@Test
+	void inheritedReadsLeaveOutDeletedRows() {
+		UUID live = save();
+		UUID deleted = save();
+		assertEquals(1, this.accountRepository.softDeleteById(deleted));
+
+		assertTrue(this.accountRepository.findById(live).isPresent());
+		assertTrue(this.accountRepository.findById(deleted).isEmpty());
+		assertFalse(this.accountRepository.existsById(deleted));
+		assertEquals(List.of(live), this.accountRepository.findAllById(List.of(live, deleted)).stream()
+				.map(Account::getId).toList());
+		assertTrue(this.accountRepository.findAll().stream().noneMatch(account -> account.getId().equals(deleted)));
+	}
+
+	@Test
+	void deletingTwiceChangesNothing() {
+		UUID id = save();
+
+		assertEquals(1, this.accountRepository.softDeleteById(id));
+		assertEquals(0, this.accountRepository.softDeleteById(id));
+	}
+
+	private UUID save() {
+		return this.testData.account(this.accountRepository.save(TestData.account("soft", 0L)).getId());
+	}
+}
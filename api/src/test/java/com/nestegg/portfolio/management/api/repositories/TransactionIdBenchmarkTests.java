@@ -0,0 +1,111 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.repositories;
+
+import com.nestegg.portfolio.management.api.utils.Uuids;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Inserts the same synthetic transactions into two copies of {@code transaction}, one keyed by random v4 UUIDs and
+ * one by {@link Uuids#timeOrdered()}, and compares the insert throughput and the size of the primary key index.
+ * Runs with 5M rows per table unless {@code -Dbenchmark.uuid.rows} says otherwise.
+ */
+@Tag("performance")
+@SpringBootTest
+class TransactionIdBenchmarkTests {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(TransactionIdBenchmarkTests.class);
+
+	private static final int ROWS = Integer.getInteger("benchmark.uuid.rows", 5_000_000);
+	private static final int BATCH = 10_000;
+
+	private static final String RANDOM = "bench_tx_uuid_v4";
+	private static final String ORDERED = "bench_tx_uuid_v7";
+	private static final UUID ACCOUNT = UUID.fromString("00000000-0000-0000-0000-000000000042");
+	private static final UUID CATEGORY = UUID.fromString("00000000-0000-0000-0001-000000000042");
+
+	private static final String INSERT_SQL = """
+			insert into %s (id, version, created_at, updated_at, is_active, is_deleted,
+			                account_id, category_id, explanation, type, amount)
+			values (?, 0, ?, ?, true, false, ?, ?, 'synthetic', 'EXPENSE', ?)
+			""";
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@AfterEach
+	void dropTables() {
+		this.jdbcTemplate.execute("drop table if exists " + RANDOM);
+		this.jdbcTemplate.execute("drop table if exists " + ORDERED);
+	}
+
+	@Test
+	void timeOrderedIdsInsertFasterIntoASmallerIndex() {
+		dropTables();
+		for (String table : new String[]{RANDOM, ORDERED}) {
+			this.jdbcTemplate.execute("create table %s (like transaction including defaults)".formatted(table));
+			this.jdbcTemplate.execute("alter table %s add primary key (id, created_at)".formatted(table));
+		}
+
+		double randomSeconds = load(RANDOM, UUID::randomUUID);
+		double orderedSeconds = load(ORDERED, Uuids::timeOrdered);
+		long randomIndex = indexBytes(RANDOM);
+		long orderedIndex = indexBytes(ORDERED);
+
+		LOGGER.info("rows={}", ROWS);
+		LOGGER.info("v4: %.1f s (%.0f rows/sec) pk index=%d MB".formatted(
+				randomSeconds, ROWS / randomSeconds, randomIndex >> 20));
+		LOGGER.info("v7: %.1f s (%.0f rows/sec) pk index=%d MB".formatted(
+				orderedSeconds, ROWS / orderedSeconds, orderedIndex >> 20));
+
+		assertTrue(orderedIndex < randomIndex, "time-ordered ids should leave a denser primary key index");
+	}
+
+	private double load(String table, Supplier<UUID> ids) {
+		String sql = INSERT_SQL.formatted(table);
+		long started = System.nanoTime();
+		for (int offset = 0; offset < ROWS; offset += BATCH) {
+			List<Object[]> batch = new ArrayList<>(BATCH);
+			for (int i = offset; i < Math.min(ROWS, offset + BATCH); i++) {
+				var now = Instant.now().atOffset(ZoneOffset.UTC);
+				batch.add(new Object[]{ids.get(), now, now, ACCOUNT, CATEGORY, -(long) (i % 10_000)});
+			}
+			this.jdbcTemplate.batchUpdate(sql, batch);
+		}
+		return (System.nanoTime() - started) / 1e9;
+	}
+
+	private long indexBytes(String table) {
+		return this.jdbcTemplate.queryForObject("select pg_relation_size('%s_pkey')".formatted(table), Long.class);
+	}
+}
@@ -0,0 +1,175 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.repositories;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Loads the same synthetic transactions into an unpartitioned and a monthly partitioned copy of {@code transaction}
+ * and compares month-bounded queries and the vacuum after churn in the latest month. Runs with 50M rows unless
+ * {@code -Dbenchmark.partition.rows} says otherwise; expect it to take a while and several GB of disk.
+ */
+@Tag("performance")
+@SpringBootTest
+class TransactionPartitioningBenchmarkTests {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(TransactionPartitioningBenchmarkTests.class);
+
+	private static final int ROWS = Integer.getInteger("benchmark.partition.rows", 50_000_000);
+	private static final int MONTHS = 60;
+	private static final YearMonth FIRST_MONTH = YearMonth.of(2021, 1);
+	private static final int RUNS = 20;
+
+	private static final String PLAIN = "bench_tx_plain";
+	private static final String PARTITIONED = "bench_tx_part";
+	private static final UUID ACCOUNT = UUID.fromString("00000000-0000-0000-0000-000000000042");
+
+	private static final String LOAD_SQL = """
+			insert into bench_tx_plain (id, version, created_at, updated_at, is_active, is_deleted,
+			                            account_id, category_id, explanation, type, amount)
+			select gen_random_uuid(), 0, ts, ts, true, false,
+			       ('00000000-0000-0000-0000-' || lpad((i %% 1000)::text, 12, '0'))::uuid,
+			       ('00000000-0000-0000-0001-' || lpad((i %% 50)::text, 12, '0'))::uuid,
+			       'synthetic', 'EXPENSE', -(i %% 10000)
+			from (select i, '%s'::timestamptz + i * %f * interval '1 second' as ts
+			      from generate_series(1, %d) i) s
+			""";
+
+	private static final String ACCOUNT_PAGE_SQL = """
+			select id, created_at, amount from %s
+			where is_deleted = false and account_id = ? and created_at >= ? and created_at < ?
+			order by created_at desc, id desc limit 50
+			""";
+
+	private static final String MONTH_TOTAL_SQL = "select sum(amount) from %s where created_at >= ? and created_at < ?";
+
+	private static final Pattern SCANNED_PARTITION = Pattern.compile(PARTITIONED + "_p\\d{4}_\\d{2}");
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@AfterEach
+	void dropTables() {
+		this.jdbcTemplate.execute("drop table if exists " + PLAIN);
+		this.jdbcTemplate.execute("drop table if exists " + PARTITIONED);
+	}
+
+	@Test
+	void partitionedTablePrunesMonthQueriesAndVacuumsOnlyTheHotMonth() {
+		createTables();
+		load();
+
+		YearMonth month = FIRST_MONTH.plusMonths(MONTHS - 2);
+		OffsetDateTime from = start(month);
+		OffsetDateTime to = start(month.plusMonths(1));
+
+		double plainPage = medianMillis(() -> this.jdbcTemplate.queryForList(ACCOUNT_PAGE_SQL.formatted(PLAIN), ACCOUNT, from, to));
+		double partPage = medianMillis(() -> this.jdbcTemplate.queryForList(ACCOUNT_PAGE_SQL.formatted(PARTITIONED), ACCOUNT, from, to));
+		double plainTotal = medianMillis(() -> this.jdbcTemplate.queryForObject(MONTH_TOTAL_SQL.formatted(PLAIN), Object.class, from, to));
+		double partTotal = medianMillis(() -> this.jdbcTemplate.queryForObject(MONTH_TOTAL_SQL.formatted(PARTITIONED), Object.class, from, to));
+
+		String plan = String.join("\n", this.jdbcTemplate.queryForList(
+				"explain " + MONTH_TOTAL_SQL.formatted(PARTITIONED).replaceFirst("\\?", "'" + from + "'").replaceFirst("\\?", "'" + to + "'"),
+				String.class));
+		Matcher matcher = SCANNED_PARTITION.matcher(plan);
+		long scanned = matcher.results().map(result -> result.group()).distinct().count();
+
+		YearMonth hot = FIRST_MONTH.plusMonths(MONTHS - 1);
+		for (String table : new String[]{PLAIN, PARTITIONED}) {
+			this.jdbcTemplate.update("delete from %s where created_at >= ? and amount %% 100 = 0".formatted(table), start(hot));
+		}
+		double plainVacuum = timeMillis(() -> this.jdbcTemplate.execute("vacuum " + PLAIN));
+		double partVacuum = timeMillis(() -> this.jdbcTemplate.execute("vacuum " + partition(hot)));
+
+		LOGGER.info("rows={} months={}", ROWS, MONTHS);
+		LOGGER.info("account month page: plain=%.2f ms partitioned=%.2f ms".formatted(plainPage, partPage));
+		LOGGER.info("month total:        plain=%.2f ms partitioned=%.2f ms (partitions scanned: %d)".formatted(
+				plainTotal, partTotal, scanned));
+		LOGGER.info("vacuum after churn: plain=%.0f ms hot partition=%.0f ms".formatted(plainVacuum, partVacuum));
+
+		assertEquals(1, scanned, plan);
+	}
+
+	private void createTables() {
+		dropTables();
+		this.jdbcTemplate.execute("create table %s (like transaction including defaults)".formatted(PLAIN));
+		this.jdbcTemplate.execute("create table %s (like transaction including defaults) partition by range (created_at)"
+				.formatted(PARTITIONED));
+		for (int i = 0; i < MONTHS; i++) {
+			YearMonth month = FIRST_MONTH.plusMonths(i);
+			this.jdbcTemplate.execute("create table %s partition of %s for values from ('%s') to ('%s')"
+					.formatted(partition(month), PARTITIONED, start(month), start(month.plusMonths(1))));
+		}
+		for (String table : new String[]{PLAIN, PARTITIONED}) {
+			this.jdbcTemplate.execute("alter table %s add primary key (id, created_at)".formatted(table));
+			this.jdbcTemplate.execute("create index on %s (account_id, created_at, id) where is_deleted = false".formatted(table));
+			this.jdbcTemplate.execute("create index on %s (created_at, id) where is_deleted = false".formatted(table));
+		}
+	}
+
+	private void load() {
+		double spanSeconds = (start(FIRST_MONTH.plusMonths(MONTHS)).toEpochSecond() - start(FIRST_MONTH).toEpochSecond()) - 1;
+		long started = System.nanoTime();
+		this.jdbcTemplate.execute(String.format(Locale.ROOT, LOAD_SQL, start(FIRST_MONTH), spanSeconds / ROWS, ROWS));
+		this.jdbcTemplate.execute("insert into %s select * from %s".formatted(PARTITIONED, PLAIN));
+		this.jdbcTemplate.execute("vacuum analyze " + PLAIN);
+		this.jdbcTemplate.execute("vacuum analyze " + PARTITIONED);
+		LOGGER.info("loaded %d rows twice in %.1f s".formatted(ROWS, (System.nanoTime() - started) / 1e9));
+	}
+
+	private static String partition(YearMonth month) {
+		return "%s_p%04d_%02d".formatted(PARTITIONED, month.getYear(), month.getMonthValue());
+	}
+
+	private static OffsetDateTime start(YearMonth month) {
+		return month.atDay(1).atStartOfDay().atOffset(ZoneOffset.UTC);
+	}
+
+	private static double timeMillis(Runnable action) {
+		long start = System.nanoTime();
+		action.run();
+		return (System.nanoTime() - start) / 1e6;
+	}
+
+	private static double medianMillis(Runnable query) {
+		query.run();
+		double[] samples = new double[RUNS];
+		for (int i = 0; i < RUNS; i++) {
+			samples[i] = timeMillis(query);
+		}
+		Arrays.sort(samples);
+		return samples[RUNS / 2];
+	}
+}
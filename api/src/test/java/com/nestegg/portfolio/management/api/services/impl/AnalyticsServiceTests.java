@@ -0,0 +1,172 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.nestegg.portfolio.management.api.services.impl;
+
+import com.nestegg.portfolio.management.api.TestData;
+import com.nestegg.portfolio.management.api.dto.CashFlowPoint;
+import com.nestegg.portfolio.management.api.dto.CategorySpendView;
+import com.nestegg.portfolio.management.api.dto.NetWorthPoint;
+import com.nestegg.portfolio.management.api.entities.Account;
+import com.nestegg.portfolio.management.api.entities.Category;
+import com.nestegg.portfolio.management.api.entities.TransactionType;
+import com.nestegg.portfolio.management.api.repositories.AccountRepository;
+import com.nestegg.portfolio.management.api.repositories.CategoryRepository;
+import com.nestegg.portfolio.management.api.repositories.RollupJdbcRepository;
+import com.nestegg.portfolio.management.api.repositories.TransactionRow;
+import com.nestegg.portfolio.management.api.services.AnalyticsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The analytics read the monthly rollups maintained by the writer. The transactions are dated in a month nothing else
+ * writes to, so the totals of that month are exactly the ones written here.
+ */
+@SpringBootTest
+class AnalyticsServiceTests {
+
+	private static final YearMonth MONTH = YearMonth.of(1998, 7);
+
+	@Autowired
+	private AnalyticsService analyticsService;
+
+	@Autowired
+	private TransactionWriter transactionWriter;
+
+	@Autowired
+	private RollupJdbcRepository rollupJdbcRepository;
+
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final TestData testData = new TestData();
+
+	private Account account;
+
+	private Category food;
+
+	@BeforeEach
+	void seed() {
+		this.account = this.accountRepository.save(TestData.account("analytics", 500L));
+		this.food = this.categoryRepository.save(TestData.category("food"));
+		Category salary = this.categoryRepository.save(TestData.category("salary"));
+		this.testData.account(this.account.getId());
+		this.testData.category(this.food.getId());
+		this.testData.category(salary.getId());
+
+		this.transactionWriter.write(List.of(
+				row(salary, TransactionType.INCOME, 1_000L, "1998-07-01T00:00:00Z"),
+				row(this.food, TransactionType.EXPENSE, -120L, "1998-07-15T12:00:00Z")));
+		this.transactionWriter.write(List.of(row(this.food, TransactionType.EXPENSE, -80L, "1998-07-31T23:59:59Z")));
+	}
+
+	@AfterEach
+	void cleanUp() {
+		this.testData.delete(this.jdbcTemplate);
+	}
+
+	@Test
+	void rollupsMatchTheWrittenTransactions() {
+		assertMonthTotals();
+	}
+
+	@Test
+	void rebuildReproducesTheRollups() {
+		this.transactionTemplate.executeWithoutResult(
+				status -> this.rollupJdbcRepository.rebuild(List.of(this.account.getId()), null));
+
+		assertMonthTotals();
+	}
+
+	@Test
+	void leavesOutDeletedAccounts() {
+		this.accountRepository.softDeleteById(this.account.getId());
+
+		assertEquals(List.of(), this.analyticsService.getSpendingByCategory(MONTH, MONTH).getBody().data());
+		assertEquals(List.of(), this.analyticsService.getCashFlow(MONTH, MONTH).getBody().data());
+	}
+
+	@Test
+	void reportsEachCurrencySeparately() {
+		Account euros = TestData.account("analytics-eur", 0L);
+		euros.setCurrency("EUR");
+		euros = this.accountRepository.save(euros);
+		this.testData.account(euros.getId());
+		this.transactionWriter.write(List.of(new TransactionRow(UUID.randomUUID(), euros.getId(), this.food.getId(),
+				TransactionType.EXPENSE, -50L, "analytics test", Instant.parse("1998-07-20T08:00:00Z"))));
+
+		assertEquals(List.of(
+						new CategorySpendView(this.food.getId().toString(), this.food.getName(), "EUR", 50L, 1L),
+						new CategorySpendView(this.food.getId().toString(), this.food.getName(), "USD", 200L, 2L)),
+				this.analyticsService.getSpendingByCategory(MONTH, MONTH).getBody().data());
+		assertEquals(List.of(
+						new CashFlowPoint(MONTH, "EUR", 0L, 50L, -50L),
+						new CashFlowPoint(MONTH, "USD", 1_000L, 200L, 800L)),
+				this.analyticsService.getCashFlow(MONTH, MONTH).getBody().data());
+		assertEquals(-50L, netWorthChange("EUR"));
+		assertEquals(800L, netWorthChange("USD"));
+	}
+
+	@Test
+	void rangeMustBeOrdered() {
+		assertEquals(400, this.analyticsService.getCashFlow(MONTH, MONTH.minusMonths(1)).getStatusCode().value());
+	}
+
+	private void assertMonthTotals() {
+		assertEquals(List.of(new CategorySpendView(this.food.getId().toString(), this.food.getName(), "USD", 200L, 2L)),
+				this.analyticsService.getSpendingByCategory(MONTH, MONTH).getBody().data());
+		assertEquals(List.of(new CashFlowPoint(MONTH, "USD", 1_000L, 200L, 800L)),
+				this.analyticsService.getCashFlow(MONTH, MONTH).getBody().data());
+		assertEquals(800L, netWorthChange("USD"));
+	}
+
+	/**
+	 * Other tests may hold accounts of any currency, so only the change over the month is known here.
+	 */
+	private long netWorthChange(String currency) {
+		@SuppressWarnings("unchecked")
+		List<NetWorthPoint> netWorth = ((List<NetWorthPoint>) this.analyticsService
+				.getNetWorth(MONTH.minusMonths(1), MONTH).getBody().data()).stream()
+				.filter(p -> p.currency().equals(currency))
+				.toList();
+		return netWorth.get(1).netWorth() - netWorth.get(0).netWorth();
+	}
+
+	private TransactionRow row(Category category, TransactionType type, long amount, String at) {
+		return new TransactionRow(UUID.randomUUID(), this.account.getId(), category.getId(), type, amount,
+				"analytics test", Instant.parse(at));
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.nestegg.portfolio.management.api.services.impl;
+
+import com.nestegg.portfolio.management.api.TestData;
+import com.nestegg.portfolio.management.api.entities.TransactionType;
+import com.nestegg.portfolio.management.api.repositories.AccountRepository;
+import com.nestegg.portfolio.management.api.repositories.CategoryRepository;
+import com.nestegg.portfolio.management.api.repositories.PartitionJdbcRepository;
+import com.nestegg.portfolio.management.api.repositories.TransactionRow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Archives a month long before any other test's data and writes into it. The archive table is dropped afterwards,
+ * which leaves the month without a partition, as it was before.
+ */
+@SpringBootTest
+class ArchivedMonthWriteTests {
+
+	private static final YearMonth ARCHIVED = YearMonth.of(1990, 1);
+
+	@Autowired
+	private TransactionWriter transactionWriter;
+
+	@Autowired
+	private PartitionJdbcRepository partitionJdbcRepository;
+
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final TestData testData = new TestData();
+
+	private UUID accountId;
+	private UUID categoryId;
+
+	@BeforeEach
+	void archive() {
+		this.accountId = this.testData.account(this.accountRepository.save(TestData.account("archived", 0L)).getId());
+		this.categoryId = this.testData.category(this.categoryRepository.save(TestData.category("archived")).getId());
+
+		this.partitionJdbcRepository.createPartition(ARCHIVED);
+		this.transactionTemplate.executeWithoutResult(status -> this.partitionJdbcRepository.detachPartition(ARCHIVED));
+	}
+
+	@AfterEach
+	void cleanUp() {
+		this.jdbcTemplate.execute("drop table if exists transaction_archive_p1990_01");
+		this.testData.delete(this.jdbcTemplate);
+	}
+
+	@Test
+	void rowsDatedInAnArchivedMonthAreRejected() {
+		TransactionRow archived = row(TransactionType.INCOME, 10L, "1990-01-20T10:00:00Z");
+		TransactionRow current = row(TransactionType.INCOME, 5L, Instant.now().toString());
+
+		assertThrows(IllegalArgumentException.class, () -> this.transactionWriter.write(List.of(current, archived)));
+		assertThrows(IllegalArgumentException.class, () -> this.transactionWriter.transfer(
+				row(TransactionType.TRANSFER, -1L, "1989-12-31T23:00:00Z"),
+				row(TransactionType.TRANSFER, 1L, "1989-12-31T23:00:00Z")));
+
+		this.transactionWriter.write(List.of(current));
+		assertEquals(1, this.jdbcTemplate.queryForObject(
+				"select count(*) from transaction where account_id = ?", Integer.class, this.accountId));
+	}
+
+	private TransactionRow row(TransactionType type, long amount, String at) {
+		return new TransactionRow(UUID.randomUUID(), this.accountId, this.categoryId, type, amount, "archive test",
+				Instant.parse(at));
+	}
+}
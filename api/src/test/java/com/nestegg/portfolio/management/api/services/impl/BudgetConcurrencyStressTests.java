@@ -0,0 +1,128 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.services.impl;
+
+import com.nestegg.portfolio.management.api.TestData;
+import com.nestegg.portfolio.management.api.entities.*;
+import com.nestegg.portfolio.management.api.repositories.AccountRepository;
+import com.nestegg.portfolio.management.api.repositories.BudgetJdbcRepository;
+import com.nestegg.portfolio.management.api.repositories.BudgetRepository;
+import com.nestegg.portfolio.management.api.repositories.CategoryRepository;
+import com.nestegg.portfolio.management.api.repositories.TransactionRow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Tag("performance")
+@SpringBootTest
+class BudgetConcurrencyStressTests {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(BudgetConcurrencyStressTests.class);
+
+	private static final int WRITERS = 32;
+	private static final int BATCHES_PER_WRITER = 200;
+	private static final int ROWS_PER_BATCH = 10;
+
+	@Autowired
+	private TransactionWriter transactionWriter;
+
+	@Autowired
+	private BudgetJdbcRepository budgetJdbcRepository;
+
+	@Autowired
+	private BudgetRepository budgetRepository;
+
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final TestData testData = new TestData();
+
+	@AfterEach
+	void cleanUp() {
+		this.testData.delete(this.jdbcTemplate);
+	}
+
+	@Test
+	void concurrentExpensesInOneCategoryAreAllCounted() throws Exception {
+		Category category = this.categoryRepository.save(TestData.category("bs"));
+		this.testData.category(category.getId());
+		Budget budget = this.budgetRepository.save(Budget.builder().category(category)
+				.amount(1_000_000L).currency("USD").spent(0L).remaining(1_000_000L).period(Period.MONTHLY).build());
+
+		// one account per writer, so the only shared rows are the budget's spend slots
+		List<Account> accounts = new ArrayList<>();
+		for (int i = 0; i < WRITERS; i++) {
+			Account account = this.accountRepository.save(Account.builder()
+					.name("bs-" + UUID.randomUUID()).type(AccountType.CASH).branch("stress")
+					.initialBalance(0L).currentBalance(0L).currency("USD").build());
+			accounts.add(account);
+			this.testData.account(account.getId());
+		}
+
+		long start = System.nanoTime();
+		List<Future<?>> futures = new ArrayList<>();
+		try (ExecutorService executor = Executors.newFixedThreadPool(WRITERS)) {
+			for (Account account : accounts) {
+				futures.add(executor.submit(() -> {
+					for (int b = 0; b < BATCHES_PER_WRITER; b++) {
+						List<TransactionRow> rows = new ArrayList<>(ROWS_PER_BATCH);
+						for (int r = 0; r < ROWS_PER_BATCH; r++) {
+							rows.add(new TransactionRow(UUID.randomUUID(), account.getId(), category.getId(),
+									TransactionType.EXPENSE, -3L, "stress", Instant.now()));
+						}
+						this.transactionWriter.write(rows);
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		}
+		long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+		long batches = (long) WRITERS * BATCHES_PER_WRITER;
+		LOGGER.info("writers=%d batches=%d elapsed=%d ms throughput=%.0f batches/sec".formatted(
+				WRITERS, batches, elapsedMillis, batches * 1000.0 / elapsedMillis));
+
+		LocalDate periodStart = Period.MONTHLY.startOf(LocalDate.now(ZoneOffset.UTC));
+		assertEquals(3L * ROWS_PER_BATCH * batches,
+				this.budgetJdbcRepository.findPeriodSpent(budget.getId(), periodStart));
+	}
+}
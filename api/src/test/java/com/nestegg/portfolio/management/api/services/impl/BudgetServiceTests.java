@@ -0,0 +1,159 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.nestegg.portfolio.management.api.services.impl;
+
+import com.nestegg.portfolio.management.api.TestData;
+import com.nestegg.portfolio.management.api.dto.BudgetCreate;
+import com.nestegg.portfolio.management.api.dto.BudgetView;
+import com.nestegg.portfolio.management.api.entities.Account;
+import com.nestegg.portfolio.management.api.entities.Category;
+import com.nestegg.portfolio.management.api.entities.Period;
+import com.nestegg.portfolio.management.api.entities.TransactionType;
+import com.nestegg.portfolio.management.api.repositories.AccountRepository;
+import com.nestegg.portfolio.management.api.repositories.CategoryRepository;
+import com.nestegg.portfolio.management.api.repositories.TransactionRow;
+import com.nestegg.portfolio.management.api.services.BudgetService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+class BudgetServiceTests {
+
+	@Autowired
+	private BudgetService budgetService;
+
+	@Autowired
+	private TransactionWriter transactionWriter;
+
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final TestData testData = new TestData();
+
+	private Account account;
+	private String categoryId;
+
+	@BeforeEach
+	void seed() {
+		this.account = this.accountRepository.save(TestData.account("budget", 0L));
+		Category category = this.categoryRepository.save(TestData.category("budget"));
+		this.testData.account(this.account.getId());
+		this.categoryId = this.testData.category(category.getId()).toString();
+	}
+
+	@AfterEach
+	void cleanUp() {
+		this.testData.delete(this.jdbcTemplate);
+	}
+
+	@Test
+	void countsExpensesOfTheCurrentPeriodOnly() {
+		assertEquals(201, this.budgetService.saveBudget(this.categoryId, new BudgetCreate(100L, Period.MONTHLY, null))
+				.getStatusCode().value());
+		LocalDate periodStart = Period.MONTHLY.startOf(LocalDate.now(ZoneOffset.UTC));
+		Instant lastPeriod = periodStart.minusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+
+		this.transactionWriter.write(List.of(
+				row(TransactionType.EXPENSE, -30, Instant.now()),
+				row(TransactionType.INCOME, 50, Instant.now()),
+				row(TransactionType.EXPENSE, -40, lastPeriod)));
+		this.transactionWriter.write(List.of(row(TransactionType.EXPENSE, -20, Instant.now())));
+
+		BudgetView view = budget();
+		assertEquals(50L, view.spent());
+		assertEquals(50L, view.remaining());
+		assertEquals("USD", view.currency());
+		assertEquals("MONTHLY", view.period());
+		assertEquals(periodStart, view.periodStart());
+	}
+
+	@Test
+	void savingAgainUpdatesTheBudget() {
+		this.budgetService.saveBudget(this.categoryId, new BudgetCreate(100L, Period.MONTHLY, null));
+		this.transactionWriter.write(List.of(row(TransactionType.EXPENSE, -30, Instant.now())));
+
+		assertEquals(200, this.budgetService.saveBudget(this.categoryId, new BudgetCreate(80L, Period.MONTHLY, null))
+				.getStatusCode().value());
+
+		BudgetView view = budget();
+		assertEquals(80L, view.amount());
+		assertEquals(30L, view.spent());
+		assertEquals(50L, view.remaining());
+	}
+
+	@Test
+	void changingThePeriodRecountsTheNewPeriod() {
+		this.budgetService.saveBudget(this.categoryId, new BudgetCreate(100L, Period.YEARLY, null));
+		LocalDate today = LocalDate.now(ZoneOffset.UTC);
+		LocalDate lastMonth = Period.MONTHLY.startOf(today).minusDays(1);
+		this.transactionWriter.write(List.of(
+				row(TransactionType.EXPENSE, -30, Instant.now()),
+				row(TransactionType.EXPENSE, -40, lastMonth.atStartOfDay(ZoneOffset.UTC).toInstant())));
+
+		this.budgetService.saveBudget(this.categoryId, new BudgetCreate(100L, Period.MONTHLY, null));
+		BudgetView monthly = budget();
+		assertEquals(Period.MONTHLY.startOf(today), monthly.periodStart());
+		assertEquals(30L, monthly.spent());
+
+		this.budgetService.saveBudget(this.categoryId, new BudgetCreate(100L, Period.YEARLY, null));
+		assertEquals(lastMonth.getYear() == today.getYear() ? 70L : 30L, budget().spent());
+
+		this.budgetService.saveBudget(this.categoryId, new BudgetCreate(100L, Period.YEARLY, "EUR"));
+		assertEquals(0L, budget().spent());
+	}
+
+	@Test
+	void leavesOutExpensesInAnotherCurrency() {
+		this.budgetService.saveBudget(this.categoryId, new BudgetCreate(100L, Period.MONTHLY, "USD"));
+		Account euros = TestData.account("budget", 0L);
+		euros.setCurrency("EUR");
+		UUID eurosId = this.testData.account(this.accountRepository.save(euros).getId());
+
+		this.transactionWriter.write(List.of(
+				row(TransactionType.EXPENSE, -30, Instant.now()),
+				new TransactionRow(UUID.randomUUID(), eurosId, UUID.fromString(this.categoryId), TransactionType.EXPENSE,
+						-70, "budget test", Instant.now())));
+
+		assertEquals(30L, budget().spent());
+	}
+
+	private BudgetView budget() {
+		return (BudgetView) this.budgetService.getBudget(this.categoryId).getBody().data();
+	}
+
+	private TransactionRow row(TransactionType type, long amount, Instant at) {
+		return new TransactionRow(UUID.randomUUID(), this.account.getId(), UUID.fromString(this.categoryId), type,
+				amount, "budget test", at);
+	}
+}
@@ -0,0 +1,155 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.nestegg.portfolio.management.api.services.impl;
+
+import com.nestegg.portfolio.management.api.TestData;
+import com.nestegg.portfolio.management.api.dto.*;
+import com.nestegg.portfolio.management.api.entities.Account;
+import com.nestegg.portfolio.management.api.entities.AccountType;
+import com.nestegg.portfolio.management.api.entities.Category;
+import com.nestegg.portfolio.management.api.exceptions.ResourceNotFoundException;
+import com.nestegg.portfolio.management.api.repositories.AccountRepository;
+import com.nestegg.portfolio.management.api.repositories.CategoryRepository;
+import com.nestegg.portfolio.management.api.services.AccountService;
+import com.nestegg.portfolio.management.api.services.CategoryService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Every item of a bulk request gets its own outcome, in request order, and one bad item does not fail the others.
+ */
+@SpringBootTest
+class BulkOperationTests {
+
+	@Autowired
+	private AccountService accountService;
+
+	@Autowired
+	private CategoryService categoryService;
+
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final TestData testData = new TestData();
+
+	@AfterEach
+	void cleanUp() {
+		this.testData.delete(this.jdbcTemplate);
+	}
+
+	@Test
+	void createReportsEachAccount() {
+		Account existing = save(TestData.account("bulk", 0L));
+		String name = "bulk-" + UUID.randomUUID();
+
+		BulkResult result = result(this.accountService.createAccounts(new AccountBulkCreate(List.of(
+				new AccountCreate(name, "test", AccountType.SAVINGS, 10L, "usd"),
+				new AccountCreate("bulk-" + UUID.randomUUID(), "test", null, 0L, null),
+				new AccountCreate(name, "test", AccountType.CASH, 0L, null),
+				new AccountCreate(existing.getName(), "test", AccountType.CASH, 0L, null),
+				new AccountCreate("bulk-" + UUID.randomUUID(), "test", AccountType.CASH, 0L, "XYZ")))));
+		result.items().stream().filter(item -> item.status() == 201)
+				.forEach(item -> this.testData.account(UUID.fromString(item.id())));
+
+		assertStatuses(result, 201, 400, 409, 409, 400);
+		assertEquals(1, result.succeeded());
+		assertEquals(4, result.failed());
+		Account created = this.accountRepository.findById(UUID.fromString(result.items().getFirst().id())).orElseThrow();
+		assertEquals(10L, created.getCurrentBalance());
+		assertEquals("USD", created.getCurrency());
+	}
+
+	@Test
+	void deleteReportsEachAccountAndSkipsDeletedOnes() {
+		Account live = save(TestData.account("bulk", 0L));
+		Account deleted = save(TestData.account("bulk", 0L));
+		this.accountService.deleteAccountById(deleted.getId().toString());
+
+		BulkResult result = result(this.accountService.deleteAccounts(new BulkIds(List.of(
+				live.getId().toString(), "not-a-uuid", live.getId().toString(), UUID.randomUUID().toString(),
+				deleted.getId().toString()))));
+
+		assertStatuses(result, 200, 400, 400, 404, 404);
+		assertEquals(List.of(true, true), this.jdbcTemplate.queryForList(
+				"select is_deleted from account where id in (?, ?)", Boolean.class, live.getId(), deleted.getId()));
+	}
+
+	@Test
+	void singleDeleteTreatsAMalformedIdAsNotFound() {
+		assertThrows(ResourceNotFoundException.class, () -> this.accountService.deleteAccountById("not-a-uuid"));
+		assertThrows(ResourceNotFoundException.class, () -> this.categoryService.deleteCategory("not-a-uuid"));
+	}
+
+	@Test
+	void updateReportsEachCategoryAndSkipsDeletedOnes() {
+		Category live = save(TestData.category("bulk"));
+		Category taken = save(TestData.category("bulk"));
+		Category deleted = save(TestData.category("bulk"));
+		this.categoryService.deleteCategory(deleted.getId().toString());
+		String renamed = "bu-" + UUID.randomUUID().toString().substring(0, 8);
+
+		BulkResult result = result(this.categoryService.updateCategories(new CategoryBulkUpdate(List.of(
+				new CategoryUpdate(live.getId().toString(), renamed, "renamed"),
+				new CategoryUpdate(taken.getId().toString(), live.getName(), "swap"),
+				new CategoryUpdate(deleted.getId().toString(), "bu-" + UUID.randomUUID().toString().substring(0, 8), "gone"),
+				new CategoryUpdate(live.getId().toString(), "bu-again", "again")))));
+
+		// the rename of the first item is only known to the database, so the second item collides with its old name
+		assertStatuses(result, 200, 409, 404, 400);
+		assertEquals(List.of(renamed), this.jdbcTemplate.queryForList(
+				"select name from category where id = ?", String.class, live.getId()));
+		assertEquals(List.of(deleted.getName()), this.jdbcTemplate.queryForList(
+				"select name from category where id = ?", String.class, deleted.getId()));
+	}
+
+	private Account save(Account account) {
+		Account saved = this.accountRepository.save(account);
+		this.testData.account(saved.getId());
+		return saved;
+	}
+
+	private Category save(Category category) {
+		Category saved = this.categoryRepository.save(category);
+		this.testData.category(saved.getId());
+		return saved;
+	}
+
+	private static BulkResult result(ApiRes res) {
+		assertEquals(200, res.getStatusCode().value());
+		return (BulkResult) res.getBody().data();
+	}
+
+	private static void assertStatuses(BulkResult result, int... statuses) {
+		assertEquals(Arrays.stream(statuses).boxed().toList(),
+				result.items().stream().map(BulkItemResult::status).toList(), result.items().toString());
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.services.impl;
+
+import com.nestegg.portfolio.management.api.dto.ChangeEvent;
+import com.nestegg.portfolio.management.api.exceptions.StreamLimitExceededException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The emitters are not attached to a response, so whatever the broadcaster sends is buffered; a stream it closed
+ * shows up as an emitter that refuses further sends.
+ */
+class ChangeEventBroadcasterTests {
+
+	private final ChangeEventBroadcaster broadcaster = new ChangeEventBroadcaster(Duration.ofMinutes(1), 2, 2);
+
+	@AfterEach
+	void shutdown() {
+		this.broadcaster.shutdown();
+	}
+
+	@Test
+	void closesAStreamThatFallsBehindItsQueue() {
+		SseEmitter emitter = this.broadcaster.subscribe(List.of());
+
+		this.broadcaster.publish(events(3));
+
+		assertThrows(IllegalStateException.class, () -> emitter.send("after the overflow"));
+	}
+
+	@Test
+	void keepsAStreamThatFitsItsQueue() throws Exception {
+		SseEmitter emitter = this.broadcaster.subscribe(List.of());
+
+		this.broadcaster.publish(events(2));
+
+		emitter.send("still open");
+	}
+
+	@Test
+	void refusesStreamsBeyondTheLimit() {
+		this.broadcaster.subscribe(List.of());
+		this.broadcaster.subscribe(List.of("account"));
+
+		assertThrows(StreamLimitExceededException.class, () -> this.broadcaster.subscribe(List.of()));
+	}
+
+	private static List<ChangeEvent> events(int count) {
+		return LongStream.rangeClosed(1, count).mapToObj(seq -> new ChangeEvent(seq, "ACCOUNT", UUID.randomUUID(),
+				"UPDATED", Instant.now(), "{}")).toList();
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.services.impl;
+
+import com.nestegg.portfolio.management.api.config.CacheConfig;
+import com.nestegg.portfolio.management.api.dto.CategoryView;
+import com.nestegg.portfolio.management.api.repositories.AccountRepository;
+import com.nestegg.portfolio.management.api.repositories.CategoryRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives the batch category lookup against a repository stub, so that a writer's eviction can be made to land in
+ * the middle of the read.
+ */
+class CommonServiceEvictionTests {
+
+	private final UUID id = UUID.randomUUID();
+	private final CategoryView stale = new CategoryView(this.id.toString(), "groceries", "before the write", true, false);
+	private final CaffeineCacheManager cacheManager = new CaffeineCacheManager(CacheConfig.ACCOUNTS,
+			CacheConfig.CATEGORIES);
+
+	private Runnable duringLoad = () -> {
+	};
+
+	private final CommonService commonService = new CommonService(stub(AccountRepository.class, List.of()),
+			stub(CategoryRepository.class, List.of(this.stale)), null, null, this.cacheManager);
+
+	@Test
+	void cachesWhatABatchLoads() {
+		this.commonService.getCategoryViews(List.of(this.id));
+
+		assertSame(this.stale, categories().get(this.id, CategoryView.class));
+	}
+
+	@Test
+	void doesNotCacheABatchThatOverlappedAnEviction() {
+		this.duringLoad = () -> this.commonService.evictCategory(this.id);
+
+		Map<UUID, CategoryView> views = this.commonService.getCategoryViews(List.of(this.id));
+
+		assertSame(this.stale, views.get(this.id));
+		assertNull(categories().get(this.id));
+	}
+
+	private Cache categories() {
+		return this.cacheManager.getCache(CacheConfig.CATEGORIES);
+	}
+
+	private <T> T stub(Class<T> repository, List<CategoryView> views) {
+		return repository.cast(Proxy.newProxyInstance(repository.getClassLoader(), new Class<?>[]{repository},
+				(proxy, method, args) -> {
+					if (!method.getName().equals("findLiveViewsByIdIn")) {
+						throw new UnsupportedOperationException(method.getName());
+					}
+					this.duringLoad.run();
+					return views;
+				}));
+	}
+}
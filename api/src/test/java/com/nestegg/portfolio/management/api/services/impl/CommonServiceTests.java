@@ -0,0 +1,115 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.nestegg.portfolio.management.api.services.impl;
+
+import com.nestegg.portfolio.management.api.TestData;
+import com.nestegg.portfolio.management.api.dto.CategoryView;
+import com.nestegg.portfolio.management.api.entities.TransactionType;
+import com.nestegg.portfolio.management.api.exceptions.ResourceNotFoundException;
+import com.nestegg.portfolio.management.api.repositories.AccountRepository;
+import com.nestegg.portfolio.management.api.repositories.CategoryRepository;
+import com.nestegg.portfolio.management.api.repositories.TransactionRow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The cached views are only as fresh as the evictions of the write paths, so these tests change rows behind the
+ * cache's back and check which reads still see the old state.
+ */
+@SpringBootTest
+class CommonServiceTests {
+
+	@Autowired
+	private CommonService commonService;
+
+	@Autowired
+	private TransactionWriter transactionWriter;
+
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final TestData testData = new TestData();
+
+	private UUID accountId;
+	private UUID categoryId;
+
+	@BeforeEach
+	void seed() {
+		this.accountId = this.testData.account(this.accountRepository.save(TestData.account("cache", 10L)).getId());
+		this.categoryId = this.testData.category(this.categoryRepository.save(TestData.category("cache")).getId());
+	}
+
+	@AfterEach
+	void cleanUp() {
+		this.testData.delete(this.jdbcTemplate);
+	}
+
+	@Test
+	void accountViewIsCachedUntilEvicted() {
+		assertEquals(10L, this.commonService.getAccountView(this.accountId.toString()).balance());
+		this.jdbcTemplate.update("update account set current_balance = 99 where id = ?", this.accountId);
+
+		assertEquals(10L, this.commonService.getAccountView(this.accountId.toString()).balance());
+		this.commonService.evictAccount(this.accountId);
+		assertEquals(99L, this.commonService.getAccountView(this.accountId.toString()).balance());
+	}
+
+	@Test
+	void writerEvictsTheAccountsItTouched() {
+		this.commonService.getAccountView(this.accountId.toString());
+
+		this.transactionWriter.write(List.of(new TransactionRow(UUID.randomUUID(), this.accountId, this.categoryId,
+				TransactionType.INCOME, 5L, "cache test", Instant.now())));
+
+		assertEquals(15L, this.commonService.getAccountView(this.accountId.toString()).balance());
+	}
+
+	@Test
+	void batchLookupCachesWhatItLoads() {
+		UUID unknown = UUID.randomUUID();
+
+		Map<UUID, CategoryView> views = this.commonService.getCategoryViews(List.of(this.categoryId, unknown));
+
+		assertEquals(List.of(this.categoryId), List.copyOf(views.keySet()));
+		assertSame(views.get(this.categoryId), this.commonService.getCategoryView(this.categoryId.toString()));
+	}
+
+	@Test
+	void deletedCategoryIsNeitherLoadedNorCached() {
+		this.categoryRepository.softDeleteById(this.categoryId);
+
+		assertTrue(this.commonService.getCategoryViews(List.of(this.categoryId)).isEmpty());
+		assertThrows(ResourceNotFoundException.class,
+				() -> this.commonService.getCategoryView(this.categoryId.toString()));
+	}
+}
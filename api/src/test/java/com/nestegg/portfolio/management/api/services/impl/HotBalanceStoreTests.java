@@ -0,0 +1,77 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.services.impl;
+
+import com.nestegg.portfolio.management.api.repositories.BalanceJournalJdbcRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HotBalanceStoreTests {
+
+	private final UUID loaded = UUID.randomUUID();
+	private final UUID unloaded = UUID.randomUUID();
+
+	private final HotBalanceStore store = new HotBalanceStore(new BalanceJournalJdbcRepository(null) {
+		@Override
+		public Optional<Long> findBalance(UUID accountId) {
+			return Optional.of(100L);
+		}
+	}, true, Duration.ZERO);
+
+	@Test
+	void notifiesListenersOfDeltasToLoadedBalances() {
+		List<UUID> changed = new ArrayList<>();
+		this.store.onChange(changed::add);
+		this.store.load(List.of(this.loaded));
+
+		this.store.add(this.loaded, 25);
+		this.store.add(this.unloaded, 25);
+
+		assertEquals(List.of(this.loaded), changed);
+		assertEquals(125, this.store.balance(this.loaded));
+	}
+
+	@Test
+	void debitsOnlyWhatTheBalanceCovers() {
+		assertFalse(this.store.tryDebit(this.loaded, 101, false));
+		assertTrue(this.store.tryDebit(this.loaded, 100, false));
+		assertTrue(this.store.tryDebit(this.loaded, 1, true));
+		assertEquals(-1, this.store.balance(this.loaded));
+	}
+
+	@Test
+	void keepsBalancesHeldByAWriterUntilReleased() {
+		this.store.load(List.of(this.loaded));
+		this.store.balance(this.unloaded);
+
+		assertEquals(1, this.store.evictIdle());
+		this.store.add(this.loaded, 5);
+		this.store.release(List.of(this.loaded));
+		assertEquals(105, this.store.balance(this.loaded));
+
+		assertEquals(1, this.store.evictIdle());
+		this.store.add(this.loaded, 5);
+		assertEquals(100, this.store.balance(this.loaded), "A dropped balance is read back from the database");
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.services.impl;
+
+import com.nestegg.portfolio.management.api.TestData;
+import com.nestegg.portfolio.management.api.entities.*;
+import com.nestegg.portfolio.management.api.repositories.AccountRepository;
+import com.nestegg.portfolio.management.api.repositories.CategoryRepository;
+import com.nestegg.portfolio.management.api.repositories.TransactionRow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Tag("performance")
+@SpringBootTest(properties = "nestegg.hot-balance.enabled=true")
+class HotBalanceStressTests {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(HotBalanceStressTests.class);
+
+	private static final int WRITERS = 64;
+	private static final int WRITES_PER_WRITER = 500;
+
+	@Autowired
+	private TransactionWriter transactionWriter;
+
+	@Autowired
+	private HotBalanceStore hotBalanceStore;
+
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final TestData testData = new TestData();
+
+	@AfterEach
+	void cleanUp() {
+		this.testData.delete(this.jdbcTemplate);
+	}
+
+	@Test
+	void concurrentWritesToOneAccountAreAllCountedAndFlushed() throws Exception {
+		Category category = this.categoryRepository.save(TestData.category("hb"));
+		this.testData.category(category.getId());
+		// every writer hits the same account, which serialises on its row lock without the hot-balance mode
+		Account account = this.accountRepository.save(TestData.account("hb", 0L));
+		this.testData.account(account.getId());
+
+		long start = System.nanoTime();
+		List<Future<?>> futures = new ArrayList<>();
+		try (ExecutorService executor = Executors.newFixedThreadPool(WRITERS)) {
+			for (int w = 0; w < WRITERS; w++) {
+				futures.add(executor.submit(() -> {
+					for (int i = 0; i < WRITES_PER_WRITER; i++) {
+						this.transactionWriter.write(List.of(new TransactionRow(UUID.randomUUID(), account.getId(),
+								category.getId(), TransactionType.INCOME, 7L, "stress", Instant.now())));
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		}
+		long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+		long writes = (long) WRITERS * WRITES_PER_WRITER;
+		LOGGER.info("writers=%d writes=%d elapsed=%d ms throughput=%.0f writes/sec".formatted(
+				WRITERS, writes, elapsedMillis, writes * 1000.0 / elapsedMillis));
+
+		assertEquals(7L * writes, this.hotBalanceStore.balance(account.getId()));
+
+		// drain what the flush job has not applied yet; rows it is applying right now stay counted until it commits
+		while (pendingRows(account) > 0) {
+			this.transactionWriter.applyJournal(5_000);
+		}
+		assertEquals(7L * writes, this.accountRepository.findById(account.getId()).orElseThrow().getCurrentBalance());
+	}
+
+	private long pendingRows(Account account) {
+		return this.jdbcTemplate.queryForObject(
+				"select count(*) from balance_journal where account_id = ?", Long.class, account.getId());
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.nestegg.portfolio.management.api.services.impl;
+
+import com.nestegg.portfolio.management.api.TestData;
+import com.nestegg.portfolio.management.api.dto.ApiRes;
+import com.nestegg.portfolio.management.api.dto.BalancePoint;
+import com.nestegg.portfolio.management.api.dto.BalanceView;
+import com.nestegg.portfolio.management.api.entities.Account;
+import com.nestegg.portfolio.management.api.entities.Category;
+import com.nestegg.portfolio.management.api.entities.TransactionType;
+import com.nestegg.portfolio.management.api.exceptions.ResourceNotFoundException;
+import com.nestegg.portfolio.management.api.repositories.AccountRepository;
+import com.nestegg.portfolio.management.api.repositories.CategoryRepository;
+import com.nestegg.portfolio.management.api.repositories.TransactionRow;
+import com.nestegg.portfolio.management.api.services.LedgerService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Point-in-time balances come from the closing checkpoint of the previous day plus the transactions of the day up
+ * to the instant. The transactions are dated long ago so that they sort before anything else the account could have.
+ */
+@SpringBootTest
+class LedgerServiceTests {
+
+	private static final LocalDate DAY = LocalDate.of(2003, 3, 10);
+
+	@Autowired
+	private LedgerService ledgerService;
+
+	@Autowired
+	private TransactionWriter transactionWriter;
+
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final TestData testData = new TestData();
+
+	private Account account;
+
+	@BeforeEach
+	void seed() {
+		this.account = this.accountRepository.save(TestData.account("ledger", 1_000L));
+		Category category = this.categoryRepository.save(TestData.category("ledger"));
+		this.testData.account(this.account.getId());
+		this.testData.category(category.getId());
+
+		// written out of order, and in two batches, to exercise the roll-forward of later checkpoints
+		this.transactionWriter.write(List.of(
+				row(category, TransactionType.INCOME, 30L, at(DAY.plusDays(2), "10:00:00")),
+				row(category, TransactionType.EXPENSE, -50L, at(DAY, "15:00:00"))));
+		this.transactionWriter.write(List.of(row(category, TransactionType.INCOME, 200L, at(DAY, "09:00:00"))));
+	}
+
+	@AfterEach
+	void cleanUp() {
+		this.testData.delete(this.jdbcTemplate);
+	}
+
+	@Test
+	void balanceAtAnInstant() {
+		assertEquals(1_000L, balanceAt(at(DAY, "08:59:59")));
+		assertEquals(1_200L, balanceAt(at(DAY, "09:00:00")));
+		assertEquals(1_200L, balanceAt(at(DAY, "14:59:59")));
+		assertEquals(1_150L, balanceAt(at(DAY, "15:00:00")));
+		assertEquals(1_150L, balanceAt(at(DAY.plusDays(1), "12:00:00")));
+		assertEquals(1_150L, balanceAt(at(DAY.plusDays(2), "09:59:59")));
+		assertEquals(1_180L, balanceAt(at(DAY.plusDays(2), "10:00:00")));
+		assertEquals(1_180L, balanceAt(Instant.now()));
+	}
+
+	@Test
+	void dailyHistoryCarriesClosingBalancesOverQuietDays() {
+		ApiRes res = this.ledgerService.getBalanceHistory(this.account.getId().toString(), DAY.minusDays(1),
+				DAY.plusDays(3), "daily");
+
+		assertEquals(List.of(
+				new BalancePoint(DAY.minusDays(1), 1_000L),
+				new BalancePoint(DAY, 1_150L),
+				new BalancePoint(DAY.plusDays(1), 1_150L),
+				new BalancePoint(DAY.plusDays(2), 1_180L),
+				new BalancePoint(DAY.plusDays(3), 1_180L)), res.getBody().data());
+	}
+
+	@Test
+	void unknownAccountIsNotFound() {
+		assertThrows(ResourceNotFoundException.class,
+				() -> this.ledgerService.getBalanceAt(UUID.randomUUID().toString(), Instant.now()));
+	}
+
+	@Test
+	void historyRangeMustBeOrdered() {
+		assertEquals(400, this.ledgerService.getBalanceHistory(this.account.getId().toString(), DAY, DAY.minusDays(1),
+				"DAILY").getStatusCode().value());
+	}
+
+	private long balanceAt(Instant at) {
+		ApiRes res = this.ledgerService.getBalanceAt(this.account.getId().toString(), at);
+		assertEquals(200, res.getStatusCode().value(), res.getBody().message());
+		return ((BalanceView) res.getBody().data()).balance();
+	}
+
+	private TransactionRow row(Category category, TransactionType type, long amount, Instant at) {
+		return new TransactionRow(UUID.randomUUID(), this.account.getId(), category.getId(), type, amount,
+				"ledger test", at);
+	}
+
+	private static Instant at(LocalDate day, String time) {
+		return Instant.parse(day + "T" + time + "Z");
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.services.impl;
+
+import com.nestegg.portfolio.management.api.TestData;
+import com.nestegg.portfolio.management.api.dto.AccountCreate;
+import com.nestegg.portfolio.management.api.dto.ApiRes;
+import com.nestegg.portfolio.management.api.dto.CategoryCreate;
+import com.nestegg.portfolio.management.api.entities.Account;
+import com.nestegg.portfolio.management.api.entities.AccountType;
+import com.nestegg.portfolio.management.api.entities.Category;
+import com.nestegg.portfolio.management.api.repositories.AccountRepository;
+import com.nestegg.portfolio.management.api.repositories.CategoryRepository;
+import com.nestegg.portfolio.management.api.services.AccountService;
+import com.nestegg.portfolio.management.api.services.CategoryService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Name uniqueness is left to the unique constraints, so a clash must still come back as a 409 and not as a 500.
+ */
+@SpringBootTest
+class NameConflictTests {
+
+	@Autowired
+	private AccountService accountService;
+
+	@Autowired
+	private CategoryService categoryService;
+
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final TestData testData = new TestData();
+
+	@AfterEach
+	void cleanUp() {
+		this.testData.delete(this.jdbcTemplate);
+	}
+
+	@Test
+	void creatingAnAccountWithATakenNameConflicts() {
+		Account existing = this.accountRepository.save(TestData.account("name", 0L));
+		this.testData.account(existing.getId());
+
+		ApiRes res = this.accountService.createAccount(
+				new AccountCreate(existing.getName(), "other", AccountType.CASH, null, null));
+
+		assertEquals(409, res.getStatusCode().value());
+		assertEquals(1, count("account", existing.getName()));
+	}
+
+	@Test
+	void updatingAnAccountUnderItsOwnNameSucceeds() {
+		Account existing = this.accountRepository.save(TestData.account("name", 0L));
+		this.testData.account(existing.getId());
+
+		ApiRes res = this.accountService.updateAccount(
+				new AccountCreate(existing.getName(), "moved", AccountType.SAVINGS, null, null), existing.getId().toString());
+
+		assertEquals(200, res.getStatusCode().value());
+	}
+
+	@Test
+	void creatingACategoryWithATakenNameConflicts() {
+		Category existing = this.categoryRepository.save(TestData.category("nm"));
+		this.testData.category(existing.getId());
+
+		ApiRes res = this.categoryService.createCategory(new CategoryCreate(existing.getName(), "again"));
+
+		assertEquals(409, res.getStatusCode().value());
+		assertEquals(1, count("category", existing.getName()));
+	}
+
+	@Test
+	void otherIntegrityViolationsAreNotReportedAsConflicts() {
+		String name = TestData.category("nm").getName();
+
+		assertThrows(DataIntegrityViolationException.class,
+				() -> this.categoryService.createCategory(new CategoryCreate(name, "x".repeat(101))));
+		assertEquals(0, count("category", name));
+	}
+
+	@Test
+	void updatingAnAccountWithoutABranchIsRejectedBeforeTheSave() {
+		Account existing = this.accountRepository.save(TestData.account("name", 0L));
+		this.testData.account(existing.getId());
+
+		ApiRes res = this.accountService.updateAccount(
+				new AccountCreate(existing.getName(), "", AccountType.CASH, null, null), existing.getId().toString());
+
+		assertEquals(400, res.getStatusCode().value());
+		assertEquals("test", this.accountRepository.findById(existing.getId()).orElseThrow().getBranch());
+	}
+
+	private int count(String table, String name) {
+		return this.jdbcTemplate.queryForObject("select count(*) from " + table + " where name = ?", Integer.class,
+				name);
+	}
+}
@@ -0,0 +1,182 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.services.impl;
+
+import com.nestegg.portfolio.management.api.TestData;
+import com.nestegg.portfolio.management.api.dto.ChangeEvent;
+import com.nestegg.portfolio.management.api.entities.Category;
+import com.nestegg.portfolio.management.api.entities.TransactionType;
+import com.nestegg.portfolio.management.api.repositories.AccountRepository;
+import com.nestegg.portfolio.management.api.repositories.CategoryRepository;
+import com.nestegg.portfolio.management.api.repositories.TransactionRow;
+import com.nestegg.portfolio.management.api.services.ChangeEventSink;
+import com.nestegg.portfolio.management.api.utils.Uuids;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Writers and relays run at the same time: every transaction written must reach the sink exactly once, even with
+ * several relays, standing in for application instances, draining the outbox concurrently. Writes 1M transactions
+ * unless {@code -Dbenchmark.outbox.transactions} says otherwise.
+ */
+@Tag("performance")
+@SpringBootTest(properties = "nestegg.outbox.relay-interval=PT1H")
+class OutboxRelayStressTests {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(OutboxRelayStressTests.class);
+
+	private static final int TRANSACTIONS = Integer.getInteger("benchmark.outbox.transactions", 1_000_000);
+	private static final int WRITERS = 8;
+	private static final int RELAYS = 4;
+	private static final int WRITE_BATCH = 500;
+	private static final int RELAY_BATCH = 1000;
+
+	@Autowired
+	private TransactionWriter transactionWriter;
+
+	@Autowired
+	private OutboxRelay outboxRelay;
+
+	@Autowired
+	private CountingSink countingSink;
+
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final TestData testData = new TestData();
+
+	@AfterEach
+	void cleanUp() {
+		this.testData.delete(this.jdbcTemplate);
+	}
+
+	@Test
+	void everyTransactionIsRelayedOnce() throws Exception {
+		Category category = this.categoryRepository.save(TestData.category("ob"));
+		this.testData.category(category.getId());
+		List<UUID> accounts = new ArrayList<>();
+		for (int i = 0; i < WRITERS; i++) {
+			accounts.add(this.testData.account(this.accountRepository.save(TestData.account("ob", 0L)).getId()));
+		}
+		this.countingSink.track(category.getId());
+
+		AtomicInteger writersLeft = new AtomicInteger(WRITERS);
+		long start = System.nanoTime();
+		List<Future<?>> futures = new ArrayList<>();
+		try (ExecutorService executor = Executors.newFixedThreadPool(WRITERS + RELAYS)) {
+			for (int w = 0; w < WRITERS; w++) {
+				UUID account = accounts.get(w);
+				futures.add(executor.submit(() -> {
+					for (int written = 0; written < TRANSACTIONS / WRITERS; written += WRITE_BATCH) {
+						List<TransactionRow> rows = new ArrayList<>(WRITE_BATCH);
+						for (int i = 0; i < WRITE_BATCH; i++) {
+							rows.add(new TransactionRow(Uuids.timeOrdered(), account, category.getId(),
+									TransactionType.INCOME, 1, "outbox stress", Instant.now()));
+						}
+						this.transactionWriter.write(rows);
+					}
+					writersLeft.decrementAndGet();
+				}));
+			}
+			for (int r = 0; r < RELAYS; r++) {
+				futures.add(executor.submit(() -> {
+					// writers are checked before the relay, so the last batch of the last writer is never missed
+					boolean writing;
+					int relayed;
+					do {
+						writing = writersLeft.get() > 0;
+						relayed = this.outboxRelay.relay(RELAY_BATCH);
+						if (relayed == 0 && writing) {
+							Thread.sleep(10);
+						}
+					} while (writing || relayed > 0);
+					return null;
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		}
+		long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+		int expected = TRANSACTIONS / WRITERS / WRITE_BATCH * WRITE_BATCH * WRITERS;
+		LOGGER.info("transactions=%d writers=%d relays=%d relayed=%d elapsed=%d ms throughput=%.0f events/sec".formatted(
+				expected, WRITERS, RELAYS, this.countingSink.seen.size(), elapsedMillis,
+				expected * 1000.0 / elapsedMillis));
+
+		assertEquals(expected, this.countingSink.seen.size());
+		assertEquals(0, this.countingSink.duplicates.get());
+	}
+
+	@TestConfiguration
+	static class Config {
+		@Bean
+		CountingSink countingSink() {
+			return new CountingSink();
+		}
+	}
+
+	/**
+	 * Counts the transaction events of one category, and how many of them arrived more than once.
+	 */
+	static class CountingSink implements ChangeEventSink {
+		private final Map<UUID, Boolean> seen = new ConcurrentHashMap<>();
+		private final AtomicInteger duplicates = new AtomicInteger();
+		private volatile String category;
+
+		void track(UUID categoryId) {
+			this.category = "\"category_id\": \"" + categoryId + "\"";
+		}
+
+		@Override
+		public void publish(List<ChangeEvent> events) {
+			for (ChangeEvent event : events) {
+				if (this.category != null && event.payload().contains(this.category)
+						&& this.seen.put(event.aggregateId(), Boolean.TRUE) != null) {
+					this.duplicates.incrementAndGet();
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.services.impl;
+
+import com.nestegg.portfolio.management.api.TestData;
+import com.nestegg.portfolio.management.api.dto.ChangeEvent;
+import com.nestegg.portfolio.management.api.entities.AggregateType;
+import com.nestegg.portfolio.management.api.entities.ChangeType;
+import com.nestegg.portfolio.management.api.repositories.AccountRepository;
+import com.nestegg.portfolio.management.api.repositories.OutboxJdbcRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * The scheduled relay is slowed down to once an hour, so the relays driven here are the only ones taking events.
+ */
+@SpringBootTest(properties = "nestegg.outbox.relay-interval=PT1H")
+class OutboxRelayTests {
+
+	@Autowired
+	private OutboxJdbcRepository outboxJdbcRepository;
+
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final TestData testData = new TestData();
+
+	@AfterEach
+	void cleanUp() {
+		this.testData.delete(this.jdbcTemplate);
+	}
+
+	@Test
+	void aFailingSinkLeavesTheEventsInTheOutbox() {
+		UUID account = this.testData.account(this.accountRepository.save(TestData.account("outbox", 0L)).getId());
+		this.outboxJdbcRepository.appendSnapshots(AggregateType.ACCOUNT, ChangeType.CREATED, List.of(account));
+
+		OutboxRelay failing = new OutboxRelay(this.outboxJdbcRepository, List.of(events -> {
+			throw new IllegalStateException("sink down");
+		}));
+		assertThrows(IllegalStateException.class, () -> this.transactionTemplate.executeWithoutResult(
+				status -> failing.relay(10_000)));
+		assertEquals(1, pending(account));
+
+		List<ChangeEvent> published = new ArrayList<>();
+		OutboxRelay working = new OutboxRelay(this.outboxJdbcRepository, List.of(published::addAll));
+		this.transactionTemplate.executeWithoutResult(status -> working.relay(10_000));
+
+		assertEquals(0, pending(account));
+		assertEquals(1, published.stream().filter(event -> event.aggregateId().equals(account)).count());
+	}
+
+	private int pending(UUID account) {
+		return this.jdbcTemplate.queryForObject("select count(*) from outbox_event where aggregate_id = ?",
+				Integer.class, account);
+	}
+}
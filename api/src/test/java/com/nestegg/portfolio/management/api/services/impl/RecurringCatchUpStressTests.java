@@ -0,0 +1,138 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.services.impl;
+
+import com.nestegg.portfolio.management.api.TestData;
+import com.nestegg.portfolio.management.api.entities.Category;
+import com.nestegg.portfolio.management.api.repositories.AccountRepository;
+import com.nestegg.portfolio.management.api.repositories.CategoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Simulates catch-up after downtime: a large number of daily rules that each owe two occurrences are worked off by
+ * several concurrent runners, standing in for application instances. Runs with 1M rules unless
+ * {@code -Dbenchmark.recurring.rules} says otherwise.
+ */
+@Tag("performance")
+@SpringBootTest(properties = "nestegg.recurring.interval=PT1H")
+class RecurringCatchUpStressTests {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(RecurringCatchUpStressTests.class);
+
+	private static final int RULES = Integer.getInteger("benchmark.recurring.rules", 1_000_000);
+	private static final int ACCOUNTS = 100;
+	private static final int INSTANCES = 8;
+	private static final int BATCH = 500;
+
+	private static final String LOAD_SQL = """
+			insert into recurring_transaction (id, version, created_at, updated_at, is_active, is_deleted, account_id,
+			                                   category_id, explanation, type, amount, period, starts_at, occurrences,
+			                                   next_run_at)
+			select gen_random_uuid(), 0, now(), now(), true, false, (?::uuid[])[1 + i %% %d], ?, 'catch-up %s',
+			       'EXPENSE', 1, 'DAILY', ?, 0, ?
+			from generate_series(1, %d) i
+			""";
+
+	@Autowired
+	private RecurringTransactionRunner recurringTransactionRunner;
+
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final TestData testData = new TestData();
+
+	@AfterEach
+	void cleanUp() {
+		this.testData.delete(this.jdbcTemplate);
+	}
+
+	@Test
+	void concurrentRunnersCreateEveryOccurrenceOnce() throws Exception {
+		String tag = UUID.randomUUID().toString().substring(0, 8);
+		Category category = this.categoryRepository.save(Category.builder()
+				.name("rc-" + tag).description("stress").build());
+		this.testData.category(category.getId());
+		List<UUID> accounts = new ArrayList<>();
+		for (int i = 0; i < ACCOUNTS; i++) {
+			accounts.add(this.testData.account(this.accountRepository.save(TestData.account("rc", 0L)).getId()));
+		}
+		// due yesterday and again a minute ago, so every rule owes exactly two occurrences
+		Instant startsAt = Instant.now().minus(Duration.ofDays(1)).minus(Duration.ofMinutes(1));
+		this.jdbcTemplate.update(LOAD_SQL.formatted(ACCOUNTS, tag, RULES), ps -> {
+			ps.setArray(1, ps.getConnection().createArrayOf("uuid", accounts.toArray()));
+			ps.setObject(2, category.getId());
+			ps.setObject(3, startsAt.atOffset(ZoneOffset.UTC));
+			ps.setObject(4, startsAt.atOffset(ZoneOffset.UTC));
+		});
+
+		Instant now = Instant.now();
+		AtomicLong claimed = new AtomicLong();
+		long start = System.nanoTime();
+		List<Future<?>> futures = new ArrayList<>();
+		try (ExecutorService executor = Executors.newFixedThreadPool(INSTANCES)) {
+			for (int w = 0; w < INSTANCES; w++) {
+				futures.add(executor.submit(() -> {
+					int batch;
+					do {
+						batch = this.recurringTransactionRunner.runDue(now, BATCH);
+						claimed.addAndGet(batch);
+					} while (batch > 0);
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		}
+		long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+		Long created = this.jdbcTemplate.queryForObject(
+				"select count(*) from transaction where category_id = ?", Long.class, category.getId());
+		LOGGER.info("rules=%d instances=%d claimed=%d transactions=%d elapsed=%d ms throughput=%.0f transactions/sec"
+				.formatted(RULES, INSTANCES, claimed.get(), created, elapsedMillis, created * 1000.0 / elapsedMillis));
+
+		assertEquals(2L * RULES, created);
+		assertEquals(0L, this.jdbcTemplate.queryForObject(
+				"select count(*) from recurring_transaction where category_id = ? and next_run_at <= ?",
+				Long.class, category.getId(), now.atOffset(ZoneOffset.UTC)));
+	}
+}
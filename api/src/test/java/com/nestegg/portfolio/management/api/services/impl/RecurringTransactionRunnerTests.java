@@ -0,0 +1,132 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.services.impl;
+
+import com.nestegg.portfolio.management.api.TestData;
+import com.nestegg.portfolio.management.api.repositories.AccountRepository;
+import com.nestegg.portfolio.management.api.repositories.CategoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The scheduled job runs the same runner against the same rules, so the assertions only look at the state the rules
+ * end up in, whichever run claimed them.
+ */
+@SpringBootTest
+class RecurringTransactionRunnerTests {
+
+	private static final String INSERT_RULE_SQL = """
+			insert into recurring_transaction (id, version, created_at, updated_at, is_active, is_deleted, account_id,
+			                                   category_id, explanation, type, amount, period, starts_at, occurrences,
+			                                   next_run_at)
+			values (?, 0, now(), now(), true, false, ?, ?, 'runner test', 'EXPENSE', 5, 'DAILY', ?, 0, ?)
+			""";
+
+	@Autowired
+	private RecurringTransactionRunner recurringTransactionRunner;
+
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final TestData testData = new TestData();
+
+	private UUID account;
+	private UUID category;
+
+	@BeforeEach
+	void seed() {
+		this.account = this.testData.account(this.accountRepository.save(TestData.account("runner", 0L)).getId());
+		this.category = this.testData.category(this.categoryRepository.save(TestData.category("rn")).getId());
+	}
+
+	@AfterEach
+	void cleanUp() {
+		this.testData.delete(this.jdbcTemplate);
+	}
+
+	@Test
+	void holdsARuleWhileItsAccountIsInactiveAndCatchesUpAfterwards() {
+		this.jdbcTemplate.update("update account set is_active = false where id = ?", this.account);
+		UUID rule = rule();
+
+		this.recurringTransactionRunner.runDue(Instant.now(), 1_000);
+
+		Map<String, Object> held = state(rule);
+		assertEquals(true, held.get("is_active"));
+		assertEquals(0L, held.get("occurrences"));
+		assertEquals(0, transactions());
+
+		this.jdbcTemplate.update("update account set is_active = true where id = ?", this.account);
+		// past the hold interval, so the held rule is due again
+		this.recurringTransactionRunner.runDue(Instant.now().plus(Duration.ofHours(2)), 1_000);
+
+		assertEquals(2L, state(rule).get("occurrences"));
+		assertEquals(2, transactions());
+	}
+
+	@Test
+	void retiresARuleWhoseCategoryIsDeleted() {
+		this.jdbcTemplate.update("update category set is_deleted = true where id = ?", this.category);
+		UUID rule = rule();
+
+		this.recurringTransactionRunner.runDue(Instant.now(), 1_000);
+
+		Map<String, Object> retired = state(rule);
+		assertEquals(false, retired.get("is_active"));
+		assertEquals(0L, retired.get("occurrences"));
+		assertEquals(0, transactions());
+	}
+
+	/**
+	 * A daily rule that started a day and a minute ago, so it owes two occurrences.
+	 */
+	private UUID rule() {
+		UUID id = UUID.randomUUID();
+		Instant startsAt = Instant.now().minus(Duration.ofDays(1)).minus(Duration.ofMinutes(1));
+		this.jdbcTemplate.update(INSERT_RULE_SQL, id, this.account, this.category, startsAt.atOffset(ZoneOffset.UTC),
+				startsAt.atOffset(ZoneOffset.UTC));
+		return id;
+	}
+
+	private Map<String, Object> state(UUID rule) {
+		return this.jdbcTemplate.queryForMap("select is_active, occurrences from recurring_transaction where id = ?",
+				rule);
+	}
+
+	private int transactions() {
+		return this.jdbcTemplate.queryForObject("select count(*) from transaction where account_id = ?", Integer.class,
+				this.account);
+	}
+}
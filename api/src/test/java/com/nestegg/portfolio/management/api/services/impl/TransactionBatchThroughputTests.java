@@ -0,0 +1,97 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.services.impl;
+
+import com.nestegg.portfolio.management.api.TestData;
+import com.nestegg.portfolio.management.api.dto.TransactionBatchCreate;
+import com.nestegg.portfolio.management.api.dto.TransactionCreate;
+import com.nestegg.portfolio.management.api.entities.Account;
+import com.nestegg.portfolio.management.api.entities.Category;
+import com.nestegg.portfolio.management.api.entities.TransactionType;
+import com.nestegg.portfolio.management.api.repositories.AccountRepository;
+import com.nestegg.portfolio.management.api.repositories.CategoryRepository;
+import com.nestegg.portfolio.management.api.services.TransactionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Tag("performance")
+@SpringBootTest
+class TransactionBatchThroughputTests {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(TransactionBatchThroughputTests.class);
+
+	@Autowired
+	private TransactionService transactionService;
+
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final TestData testData = new TestData();
+
+	@AfterEach
+	void cleanUp() {
+		this.testData.delete(this.jdbcTemplate);
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {1_000, 10_000, 100_000})
+	void batchInsertThroughput(int size) {
+		Account account = this.accountRepository.save(TestData.account("throughput", 0L));
+		Category category = this.categoryRepository.save(TestData.category("tp"));
+		this.testData.account(account.getId());
+		this.testData.category(category.getId());
+
+		List<TransactionCreate> lines = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			TransactionType type = i % 2 == 0 ? TransactionType.INCOME : TransactionType.EXPENSE;
+			lines.add(new TransactionCreate(account.getId().toString(), category.getId().toString(), type,
+					100L + i % 7, "statement line " + i, null));
+		}
+
+		long start = System.nanoTime();
+		var res = this.transactionService.createTransactions(new TransactionBatchCreate(lines));
+		long elapsedNanos = System.nanoTime() - start;
+
+		assertEquals(201, res.getStatusCode().value());
+		LOGGER.info("batch=%d rows elapsed=%d ms throughput=%.0f rows/sec".formatted(
+				size, elapsedNanos / 1_000_000, size / (elapsedNanos / 1e9)));
+
+		long expected = 0;
+		for (TransactionCreate line : lines) {
+			expected += line.type() == TransactionType.INCOME ? line.amount() : -line.amount();
+		}
+		assertEquals(expected, this.accountRepository.findById(account.getId()).orElseThrow().getCurrentBalance());
+	}
+}
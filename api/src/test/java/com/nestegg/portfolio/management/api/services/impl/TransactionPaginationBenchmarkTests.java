@@ -0,0 +1,142 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.services.impl;
+
+import com.nestegg.portfolio.management.api.TestData;
+import com.nestegg.portfolio.management.api.dto.TransactionView;
+import com.nestegg.portfolio.management.api.entities.Account;
+import com.nestegg.portfolio.management.api.entities.Category;
+import com.nestegg.portfolio.management.api.entities.TransactionType;
+import com.nestegg.portfolio.management.api.repositories.*;
+import com.nestegg.portfolio.management.api.utils.Cursors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Tag("performance")
+@SpringBootTest
+class TransactionPaginationBenchmarkTests {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(TransactionPaginationBenchmarkTests.class);
+
+	private static final int ROWS = Integer.getInteger("benchmark.rows", 200_000);
+	private static final int PAGE_SIZE = 20;
+	private static final int DEEP_PAGE = 5_000;
+	private static final int RUNS = 20;
+
+	private static final String OFFSET_SQL = """
+			select id, account_id, category_id, type, amount, explanation, created_at
+			from transaction
+			where is_deleted = false and account_id = ?
+			order by created_at desc, id desc offset ? limit ?
+			""";
+
+	@Autowired
+	private TransactionWriter transactionWriter;
+
+	@Autowired
+	private TransactionJdbcRepository transactionJdbcRepository;
+
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final TestData testData = new TestData();
+
+	@AfterEach
+	void cleanUp() {
+		this.testData.delete(this.jdbcTemplate);
+	}
+
+	@Test
+	void deepKeysetPageIsAsFastAsFirstPage() {
+		Account account = this.accountRepository.save(TestData.account("page", 0L));
+		Category category = this.categoryRepository.save(TestData.category("pg"));
+		this.testData.account(account.getId());
+		this.testData.category(category.getId());
+		seed(account.getId(), category.getId());
+		this.jdbcTemplate.execute("analyze transaction");
+
+		TransactionFilter filter = new TransactionFilter(account.getId(), null, null, null, null);
+		int deepOffset = Math.min(DEEP_PAGE * PAGE_SIZE, ROWS - PAGE_SIZE);
+		TransactionView beforeDeepPage = this.jdbcTemplate.query(OFFSET_SQL,
+				(rs, i) -> new TransactionView(rs.getString(1), null, null, null, null, null,
+						rs.getObject(7, OffsetDateTime.class).toInstant()),
+				account.getId(), deepOffset - 1, 1).getFirst();
+		Cursors.Position deepCursor = new Cursors.Position(beforeDeepPage.createdAt(), UUID.fromString(beforeDeepPage.id()));
+
+		double keysetFirst = medianMillis(() -> this.transactionJdbcRepository.findPage(filter, null, PAGE_SIZE));
+		double keysetDeep = medianMillis(() -> this.transactionJdbcRepository.findPage(filter, deepCursor, PAGE_SIZE));
+		double offsetFirst = medianMillis(() -> this.jdbcTemplate.queryForList(OFFSET_SQL, account.getId(), 0, PAGE_SIZE));
+		double offsetDeep = medianMillis(() -> this.jdbcTemplate.queryForList(OFFSET_SQL, account.getId(), deepOffset, PAGE_SIZE));
+
+		LOGGER.info("rows=%d page=%d keyset first=%.2f ms deep=%.2f ms | offset first=%.2f ms deep=%.2f ms".formatted(
+				ROWS, deepOffset / PAGE_SIZE, keysetFirst, keysetDeep, offsetFirst, offsetDeep));
+
+		List<String> keysetIds = this.transactionJdbcRepository.findPage(filter, deepCursor, PAGE_SIZE).stream()
+				.map(TransactionView::id).toList();
+		List<String> offsetIds = this.jdbcTemplate.queryForList(OFFSET_SQL, account.getId(), deepOffset, PAGE_SIZE).stream()
+				.map(row -> row.get("id").toString()).toList();
+		assertEquals(offsetIds, keysetIds);
+	}
+
+	private void seed(UUID accountId, UUID categoryId) {
+		Instant start = Instant.now().minusSeconds(ROWS);
+		List<TransactionRow> chunk = new ArrayList<>(10_000);
+		for (int i = 0; i < ROWS; i++) {
+			chunk.add(new TransactionRow(UUID.randomUUID(), accountId, categoryId, TransactionType.INCOME,
+					1L, "page " + i, start.plusSeconds(i)));
+			if (chunk.size() == 10_000) {
+				this.transactionWriter.write(chunk);
+				chunk.clear();
+			}
+		}
+		this.transactionWriter.write(chunk);
+	}
+
+	private static double medianMillis(Supplier<?> query) {
+		query.get();
+		long[] samples = new long[RUNS];
+		for (int i = 0; i < RUNS; i++) {
+			long start = System.nanoTime();
+			query.get();
+			samples[i] = System.nanoTime() - start;
+		}
+		Arrays.sort(samples);
+		return samples[RUNS / 2] / 1e6;
+	}
+}
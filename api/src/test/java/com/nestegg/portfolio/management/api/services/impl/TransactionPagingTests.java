@@ -0,0 +1,139 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.nestegg.portfolio.management.api.services.impl;
+
+import com.nestegg.portfolio.management.api.TestData;
+import com.nestegg.portfolio.management.api.dto.ApiRes;
+import com.nestegg.portfolio.management.api.dto.CursorPage;
+import com.nestegg.portfolio.management.api.dto.TransactionView;
+import com.nestegg.portfolio.management.api.entities.Category;
+import com.nestegg.portfolio.management.api.entities.TransactionType;
+import com.nestegg.portfolio.management.api.repositories.AccountRepository;
+import com.nestegg.portfolio.management.api.repositories.CategoryRepository;
+import com.nestegg.portfolio.management.api.repositories.TransactionRow;
+import com.nestegg.portfolio.management.api.services.TransactionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Walks the keyset pages of one account. Two of the rows share a timestamp, so the page boundary between them is
+ * decided by the id alone.
+ */
+@SpringBootTest
+class TransactionPagingTests {
+
+	private static final Instant START = Instant.parse("2004-05-06T07:00:00Z");
+
+	@Autowired
+	private TransactionService transactionService;
+
+	@Autowired
+	private TransactionWriter transactionWriter;
+
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final TestData testData = new TestData();
+
+	private String accountId;
+	private final Set<String> written = new HashSet<>();
+
+	@BeforeEach
+	void seed() {
+		UUID account = this.testData.account(this.accountRepository.save(TestData.account("paging", 0L)).getId());
+		Category category = this.categoryRepository.save(TestData.category("paging"));
+		this.testData.category(category.getId());
+		this.accountId = account.toString();
+
+		List<TransactionRow> rows = new ArrayList<>();
+		for (int i = 0; i < 7; i++) {
+			TransactionType type = i % 3 == 0 ? TransactionType.EXPENSE : TransactionType.INCOME;
+			// rows 2 and 3 share their timestamp
+			Instant at = START.plusSeconds(i == 3 ? 2 : i);
+			rows.add(new TransactionRow(UUID.randomUUID(), account, category.getId(), type,
+					type == TransactionType.EXPENSE ? -1L : 1L, "paging " + i, at));
+		}
+		this.transactionWriter.write(rows);
+		rows.forEach(row -> this.written.add(row.id().toString()));
+	}
+
+	@AfterEach
+	void cleanUp() {
+		this.testData.delete(this.jdbcTemplate);
+	}
+
+	@Test
+	void pagesCoverEveryRowOnceNewestFirst() {
+		List<TransactionView> seen = new ArrayList<>();
+		List<Integer> sizes = new ArrayList<>();
+		String cursor = null;
+		do {
+			CursorPage<TransactionView> page = page(null, cursor, 3);
+			sizes.add(page.items().size());
+			seen.addAll(page.items());
+			cursor = page.nextCursor();
+		} while (cursor != null);
+
+		assertEquals(List.of(3, 3, 1), sizes);
+		assertEquals(this.written, new HashSet<>(seen.stream().map(TransactionView::id).toList()));
+		for (int i = 1; i < seen.size(); i++) {
+			assertFalse(seen.get(i).createdAt().isAfter(seen.get(i - 1).createdAt()));
+		}
+	}
+
+	@Test
+	void filtersByType() {
+		CursorPage<TransactionView> page = page(TransactionType.EXPENSE, null, 10);
+
+		assertEquals(3, page.items().size());
+		assertTrue(page.items().stream().allMatch(view -> view.type().equals("EXPENSE")));
+		assertNull(page.nextCursor());
+	}
+
+	@Test
+	void rejectsOutOfRangePageSizesAndForeignCursors() {
+		assertEquals(400, this.transactionService.getTransactions(this.accountId, null, null, null, null, null, 0)
+				.getStatusCode().value());
+		assertThrows(IllegalArgumentException.class,
+				() -> this.transactionService.getTransactions(this.accountId, null, null, null, null, "not-a-cursor", 3));
+	}
+
+	@SuppressWarnings("unchecked")
+	private CursorPage<TransactionView> page(TransactionType type, String cursor, int size) {
+		ApiRes res = this.transactionService.getTransactions(this.accountId, null, type, null, null, cursor, size);
+		assertEquals(200, res.getStatusCode().value());
+		return (CursorPage<TransactionView>) res.getBody().data();
+	}
+}
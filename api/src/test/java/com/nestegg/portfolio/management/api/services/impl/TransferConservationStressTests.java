@@ -0,0 +1,133 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.services.impl;
+
+import com.nestegg.portfolio.management.api.TestData;
+import com.nestegg.portfolio.management.api.dto.ApiRes;
+import com.nestegg.portfolio.management.api.dto.TransferCreate;
+import com.nestegg.portfolio.management.api.entities.Account;
+import com.nestegg.portfolio.management.api.entities.AccountType;
+import com.nestegg.portfolio.management.api.entities.Category;
+import com.nestegg.portfolio.management.api.repositories.AccountRepository;
+import com.nestegg.portfolio.management.api.repositories.CategoryRepository;
+import com.nestegg.portfolio.management.api.services.TransactionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("performance")
+@SpringBootTest
+class TransferConservationStressTests {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(TransferConservationStressTests.class);
+
+	private static final int ACCOUNTS = 8;
+	private static final int WORKERS = 64;
+	private static final int TRANSFERS_PER_WORKER = 250;
+	private static final long INITIAL_BALANCE = 10_000;
+
+	@Autowired
+	private TransactionService transactionService;
+
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final TestData testData = new TestData();
+
+	@AfterEach
+	void cleanUp() {
+		this.testData.delete(this.jdbcTemplate);
+	}
+
+	@Test
+	void concurrentTransfersConserveTotalBalance() throws Exception {
+		Category category = this.categoryRepository.save(TestData.category("tr"));
+		this.testData.category(category.getId());
+		// few accounts and small balances, so transfers contend on the same rows and often hit the overdraft check
+		List<UUID> accounts = new ArrayList<>();
+		for (int i = 0; i < ACCOUNTS; i++) {
+			accounts.add(this.testData.account(this.accountRepository.save(Account.builder()
+					.name("tr-" + UUID.randomUUID()).type(AccountType.SAVINGS).branch("stress")
+					.initialBalance(INITIAL_BALANCE)
+					.currentBalance(INITIAL_BALANCE).currency("USD").build()).getId()));
+		}
+
+		AtomicInteger created = new AtomicInteger();
+		AtomicInteger rejected = new AtomicInteger();
+		long start = System.nanoTime();
+		List<Future<?>> futures = new ArrayList<>();
+		try (ExecutorService executor = Executors.newFixedThreadPool(WORKERS)) {
+			for (int w = 0; w < WORKERS; w++) {
+				futures.add(executor.submit(() -> {
+					ThreadLocalRandom random = ThreadLocalRandom.current();
+					for (int t = 0; t < TRANSFERS_PER_WORKER; t++) {
+						int from = random.nextInt(ACCOUNTS);
+						int to = (from + 1 + random.nextInt(ACCOUNTS - 1)) % ACCOUNTS;
+						ApiRes res = this.transactionService.createTransfer(new TransferCreate(
+								accounts.get(from).toString(), accounts.get(to).toString(), category.getId().toString(),
+								1L + random.nextInt(2_000), "stress", null));
+						switch (res.getStatusCode().value()) {
+							case 201 -> created.incrementAndGet();
+							case 409 -> rejected.incrementAndGet();
+							default -> throw new IllegalStateException("Unexpected response " + res.getBody());
+						}
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		}
+		long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+		LOGGER.info("workers=%d transfers=%d rejected=%d elapsed=%d ms throughput=%.0f transfers/sec".formatted(
+				WORKERS, created.get(), rejected.get(), elapsedMillis, created.get() * 1000.0 / elapsedMillis));
+
+		long total = 0;
+		for (Account account : this.accountRepository.findAllById(accounts)) {
+			Long transactions = this.jdbcTemplate.queryForObject(
+					"select coalesce(sum(amount), 0) from transaction where account_id = ?", Long.class, account.getId());
+			assertEquals(account.getInitialBalance() + transactions, account.getCurrentBalance());
+			assertTrue(account.getCurrentBalance() >= 0);
+			total += account.getCurrentBalance();
+		}
+		assertEquals(INITIAL_BALANCE * ACCOUNTS, total);
+		assertTrue(created.get() > 0);
+	}
+}
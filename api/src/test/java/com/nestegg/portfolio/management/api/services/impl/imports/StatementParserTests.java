@@ -0,0 +1,93 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.services.impl.imports;
+
+import com.nestegg.portfolio.management.api.entities.StatementFormat;
+import com.nestegg.portfolio.management.api.entities.TransactionType;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatementParserTests {
+
+	@Test
+	void parsesCsvWithQuotedFieldsAndSkipsMalformedLines() throws IOException {
+		String csv = """
+				date,amount,type,category,explanation
+				2024-01-02,12.34,expense,Food,"Lunch, with ""team\"""
+				not-a-date,1,,,broken
+				2024-01-04T10:00:00Z,-5,,,coffee
+				""";
+		StatementParser parser = StatementParser.of(StatementFormat.CSV, new StringReader(csv), "USD");
+		parser.start();
+
+		StatementLine lunch = parser.next();
+		assertEquals(TransactionType.EXPENSE, lunch.type());
+		assertEquals(-1234L, lunch.amount());
+		assertEquals("Food", lunch.category());
+		assertEquals("Lunch, with \"team\"", lunch.explanation());
+
+		assertThrows(RuntimeException.class, parser::next);
+
+		StatementLine coffee = parser.next();
+		assertEquals(TransactionType.EXPENSE, coffee.type());
+		assertEquals(-500L, coffee.amount());
+		assertEquals(Instant.parse("2024-01-04T10:00:00Z"), coffee.date());
+		assertNull(parser.next());
+	}
+
+	@Test
+	void parsesSingleLineOfx() throws IOException {
+		String ofx = "<OFX><BANKTRANLIST><STMTTRN><TRNTYPE>CREDIT<DTPOSTED>20240131120000.000[-5:EST]"
+				+ "<TRNAMT>1000.00<NAME>Salary</STMTTRN><STMTTRN><TRNTYPE>DEBIT</TRNTYPE>"
+				+ "<DTPOSTED>20240201</DTPOSTED><TRNAMT>-12.30</TRNAMT><MEMO>Shop</MEMO></STMTTRN></BANKTRANLIST></OFX>";
+		StatementParser parser = StatementParser.of(StatementFormat.OFX, new StringReader(ofx), "USD");
+		parser.start();
+
+		StatementLine salary = parser.next();
+		assertEquals(TransactionType.INCOME, salary.type());
+		assertEquals(100_000L, salary.amount());
+		assertEquals(Instant.parse("2024-01-31T00:00:00Z"), salary.date());
+
+		StatementLine shop = parser.next();
+		assertEquals(-1230L, shop.amount());
+		assertEquals("Shop", shop.explanation());
+		assertNull(parser.next());
+	}
+
+	@Test
+	void scalesAmountsByTheDecimalsOfTheCurrency() throws IOException {
+		String csv = """
+				date,amount
+				2024-01-02,-1500
+				2024-01-03,-12.5
+				""";
+		StatementParser yen = StatementParser.of(StatementFormat.CSV, new StringReader(csv), "JPY");
+		yen.start();
+		assertEquals(-1500L, yen.next().amount());
+		assertThrows(IllegalArgumentException.class, yen::next);
+
+		StatementParser dinar = StatementParser.of(StatementFormat.CSV, new StringReader(csv), "BHD");
+		dinar.start();
+		assertEquals(-1_500_000L, dinar.next().amount());
+		assertEquals(-12_500L, dinar.next().amount());
+	}
+}
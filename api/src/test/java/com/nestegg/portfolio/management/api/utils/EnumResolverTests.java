@@ -0,0 +1,59 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.nestegg.portfolio.management.api.utils;
+
+import com.nestegg.portfolio.management.api.entities.Period;
+import com.nestegg.portfolio.management.api.entities.TransactionType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EnumResolverTests {
+
+	@Test
+	void resolvesNamesInAnyCase() {
+		EnumResolver<TransactionType> resolver = EnumResolver.of(TransactionType.class);
+
+		assertEquals(TransactionType.EXPENSE, resolver.resolve("EXPENSE"));
+		assertEquals(TransactionType.EXPENSE, resolver.resolve("expense"));
+		assertEquals(TransactionType.EXPENSE, resolver.resolve("ExPeNsE"));
+		assertNull(resolver.resolve(null));
+		assertNull(resolver.resolve("REFUND"));
+		assertNull(resolver.resolve(""));
+	}
+
+	@Test
+	void parseRejectsUnknownNames() {
+		EnumResolver<TransactionType> resolver = EnumResolver.of(TransactionType.class);
+
+		assertEquals(TransactionType.INCOME, resolver.parse("income"));
+		IllegalArgumentException unknown = assertThrows(IllegalArgumentException.class, () -> resolver.parse("x"));
+		assertEquals("Unknown TransactionType value: x", unknown.getMessage());
+		assertThrows(IllegalArgumentException.class, () -> resolver.parse(null));
+	}
+
+	@Test
+	void resolversAreSharedPerEnum() {
+		assertSame(EnumResolver.of(Period.class), EnumResolver.of(Period.class));
+		assertSame(EnumResolver.of(Period.class), EnumResolver.forType(Period.class));
+		assertNotSame(EnumResolver.of(Period.class), EnumResolver.forType(TransactionType.class));
+	}
+
+	@Test
+	void forTypeRejectsClassesThatAreNotEnums() {
+		assertThrows(IllegalArgumentException.class, () -> EnumResolver.forType(String.class));
+	}
+}
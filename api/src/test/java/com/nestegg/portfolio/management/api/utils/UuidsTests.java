@@ -0,0 +1,54 @@
+/*
+ *    Copyright 2025 Hao Nguyen Tan
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.nestegg.portfolio.management.api.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidsTests {
+
+	@Test
+	void setsTheVersionAndVariantBits() {
+		UUID id = Uuids.timeOrdered();
+
+		assertEquals(7, id.version());
+		assertEquals(2, id.variant());
+	}
+
+	@Test
+	void carriesTheCreationMillisecond() {
+		long before = System.currentTimeMillis();
+		UUID id = Uuids.timeOrdered();
+		long after = System.currentTimeMillis();
+
+		long millis = id.getMostSignificantBits() >>> 16;
+		assertTrue(millis >= before && millis <= after, () -> millis + " not in [" + before + ", " + after + "]");
+	}
+
+	@Test
+	void laterIdsSortAfterEarlierOnes() throws InterruptedException {
+		UUID first = Uuids.timeOrdered();
+		Thread.sleep(2);
+		UUID second = Uuids.timeOrdered();
+
+		// the database compares uuids byte by byte, which is the order of their text form
+		assertTrue(first.toString().compareTo(second.toString()) < 0, first + " should sort before " + second);
+	}
+}